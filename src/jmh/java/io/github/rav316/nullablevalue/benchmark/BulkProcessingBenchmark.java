@@ -0,0 +1,91 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValueModule;
+import io.github.rav316.nullablevalue.bulk.NullableValueBulkProcessor;
+import io.github.rav316.nullablevalue.validation.NullableValueValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// one operation validates or applies 100k DTOs against 10k entities; compare threads=1 with higher counts for scaling
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkProcessingBenchmark {
+
+    private static final int DTOS = 100_000;
+    private static final int ENTITIES = 10_000;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"forkJoin", "virtualThreads"})
+    public String executor;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private NullableValueBulkProcessor processor;
+    private List<Update> updates;
+    private List<PatchDto10> patches;
+    private Entity10[] entities;
+
+    record Update(int id, PatchDto10 patch) {
+    }
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        byte[] dense = Payloads.json(10, "dense");
+        byte[] sparse = Payloads.json(10, "sparse");
+        updates = new ArrayList<>(DTOS);
+        for (int i = 0; i < DTOS; i++) {
+            updates.add(new Update(i % ENTITIES, mapper.readValue(i % 2 == 0 ? dense : sparse, PatchDto10.class)));
+        }
+        patches = updates.stream().map(Update::patch).toList();
+        entities = new Entity10[ENTITIES];
+        for (int i = 0; i < ENTITIES; i++) {
+            entities[i] = new Entity10();
+        }
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = new NullableValueValidator(validatorFactory.getValidator());
+        processor = switch (executor) {
+            case "forkJoin" -> NullableValueBulkProcessor.forkJoin(threads);
+            case "virtualThreads" -> NullableValueBulkProcessor.virtualThreads(threads);
+            default -> throw new IllegalArgumentException("Unsupported executor: " + executor);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        processor.close();
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Map<Integer, ?> validate() {
+        return processor.validate(validator, patches);
+    }
+
+    @Benchmark
+    public long apply() {
+        return processor.apply(updates, Update::id, update -> Patches.apply(update.patch(), entities[update.id()]));
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValueModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DataFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"10", "50", "200"})
+    public int fields;
+
+    @Param({"sparse", "dense"})
+    public String presence;
+
+    private Object patch;
+    private byte[] payload;
+    private ObjectReader reader;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper json = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        ObjectMapper mapper = switch (format) {
+            case "json" -> json;
+            case "smile" -> SmileMapper.builder().addModule(new NullableValueModule()).build();
+            case "cbor" -> CBORMapper.builder().addModule(new NullableValueModule()).build();
+            default -> throw new IllegalArgumentException("Unsupported format: " + format);
+        };
+        patch = json.readValue(Payloads.json(fields, presence), Payloads.patchType(fields));
+        reader = mapper.readerFor(Payloads.patchType(fields));
+        writer = mapper.writerFor(Payloads.patchType(fields));
+        payload = writer.writeValueAsBytes(patch);
+    }
+
+    @Benchmark
+    public Object deserialize(Bytes counter) {
+        counter.bytes += payload.length;
+        return reader.readValue(payload);
+    }
+
+    @Benchmark
+    public byte[] serialize(Bytes counter) {
+        byte[] bytes = writer.writeValueAsBytes(patch);
+        counter.bytes += bytes.length;
+        return bytes;
+    }
+
+    // reported next to ops/s as bytes/s, so the payload size of each format is bytes divided by ops
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValueModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DeserializationBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int fields;
+
+    @Param({"sparse", "dense"})
+    public String presence;
+
+    private byte[] payload;
+    private ObjectReader patchReader;
+    private ObjectReader plainReader;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        payload = Payloads.json(fields, presence);
+        patchReader = mapper.readerFor(Payloads.patchType(fields));
+        plainReader = mapper.readerFor(Payloads.plainType(fields));
+    }
+
+    @Benchmark
+    public Object nullableValue() {
+        return patchReader.readValue(payload);
+    }
+
+    @Benchmark
+    public Object plain() {
+        return plainReader.readValue(payload);
+    }
+}
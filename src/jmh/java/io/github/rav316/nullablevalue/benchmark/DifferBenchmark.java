@@ -0,0 +1,83 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueDiffer;
+import io.github.rav316.nullablevalue.NullableValueModule;
+import io.github.rav316.nullablevalue.NullableValuePatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DifferBenchmark {
+
+    @Param({"10", "50"})
+    public int fields;
+
+    @Param({"sparse", "dense"})
+    public String presence;
+
+    private Object previous;
+    private Object current;
+    private Object dto;
+    private NullableValueDiffer<Object, Object> differ;
+    private Method[] reflectiveGetters;
+    private Field[] reflectiveFields;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        Class<?> patchType = Payloads.patchType(fields);
+        Object patch = mapper.readValue(Payloads.json(fields, presence), patchType);
+        previous = fields == 10 ? new Entity10() : new Entity50();
+        current = fields == 10 ? new Entity10() : new Entity50();
+        NullableValuePatcher.of((Class<Object>) patchType, (Class<Object>) current.getClass()).apply(patch, current);
+        dto = patchType.getConstructor().newInstance();
+        differ = (NullableValueDiffer<Object, Object>) NullableValueDiffer.of(current.getClass(), patchType);
+
+        reflectiveGetters = new Method[fields];
+        reflectiveFields = new Field[fields];
+        for (int i = 0; i < fields; i++) {
+            reflectiveGetters[i] = current.getClass().getMethod("getF" + i);
+            reflectiveFields[i] = patchType.getField("f" + i);
+        }
+    }
+
+    @Benchmark
+    public long differ() {
+        return differ.diffInto(previous, current, dto);
+    }
+
+    @Benchmark
+    public long reflective() throws Exception {
+        long changed = 0L;
+        for (int i = 0; i < reflectiveGetters.length; i++) {
+            Object a = reflectiveGetters[i].invoke(previous);
+            Object b = reflectiveGetters[i].invoke(current);
+            if (Objects.equals(a, b)) {
+                reflectiveFields[i].set(dto, NullableValue.undefined());
+            } else {
+                reflectiveFields[i].set(dto, NullableValue.of(b));
+                changed |= 1L << i;
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+public class Entity10 {
+
+    private String f0;
+    private Integer f1;
+    private Long f2;
+    private Boolean f3;
+    private String f4;
+    private Integer f5;
+    private Long f6;
+    private Boolean f7;
+    private String f8;
+    private Integer f9;
+
+    public String getF0() { return f0; }
+    public void setF0(String f0) { this.f0 = f0; }
+    public Integer getF1() { return f1; }
+    public void setF1(Integer f1) { this.f1 = f1; }
+    public Long getF2() { return f2; }
+    public void setF2(Long f2) { this.f2 = f2; }
+    public Boolean getF3() { return f3; }
+    public void setF3(Boolean f3) { this.f3 = f3; }
+    public String getF4() { return f4; }
+    public void setF4(String f4) { this.f4 = f4; }
+    public Integer getF5() { return f5; }
+    public void setF5(Integer f5) { this.f5 = f5; }
+    public Long getF6() { return f6; }
+    public void setF6(Long f6) { this.f6 = f6; }
+    public Boolean getF7() { return f7; }
+    public void setF7(Boolean f7) { this.f7 = f7; }
+    public String getF8() { return f8; }
+    public void setF8(String f8) { this.f8 = f8; }
+    public Integer getF9() { return f9; }
+    public void setF9(Integer f9) { this.f9 = f9; }
+}
@@ -0,0 +1,606 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+public class Entity200 {
+
+    private String f0;
+    private Integer f1;
+    private Long f2;
+    private Boolean f3;
+    private String f4;
+    private Integer f5;
+    private Long f6;
+    private Boolean f7;
+    private String f8;
+    private Integer f9;
+    private Long f10;
+    private Boolean f11;
+    private String f12;
+    private Integer f13;
+    private Long f14;
+    private Boolean f15;
+    private String f16;
+    private Integer f17;
+    private Long f18;
+    private Boolean f19;
+    private String f20;
+    private Integer f21;
+    private Long f22;
+    private Boolean f23;
+    private String f24;
+    private Integer f25;
+    private Long f26;
+    private Boolean f27;
+    private String f28;
+    private Integer f29;
+    private Long f30;
+    private Boolean f31;
+    private String f32;
+    private Integer f33;
+    private Long f34;
+    private Boolean f35;
+    private String f36;
+    private Integer f37;
+    private Long f38;
+    private Boolean f39;
+    private String f40;
+    private Integer f41;
+    private Long f42;
+    private Boolean f43;
+    private String f44;
+    private Integer f45;
+    private Long f46;
+    private Boolean f47;
+    private String f48;
+    private Integer f49;
+    private Long f50;
+    private Boolean f51;
+    private String f52;
+    private Integer f53;
+    private Long f54;
+    private Boolean f55;
+    private String f56;
+    private Integer f57;
+    private Long f58;
+    private Boolean f59;
+    private String f60;
+    private Integer f61;
+    private Long f62;
+    private Boolean f63;
+    private String f64;
+    private Integer f65;
+    private Long f66;
+    private Boolean f67;
+    private String f68;
+    private Integer f69;
+    private Long f70;
+    private Boolean f71;
+    private String f72;
+    private Integer f73;
+    private Long f74;
+    private Boolean f75;
+    private String f76;
+    private Integer f77;
+    private Long f78;
+    private Boolean f79;
+    private String f80;
+    private Integer f81;
+    private Long f82;
+    private Boolean f83;
+    private String f84;
+    private Integer f85;
+    private Long f86;
+    private Boolean f87;
+    private String f88;
+    private Integer f89;
+    private Long f90;
+    private Boolean f91;
+    private String f92;
+    private Integer f93;
+    private Long f94;
+    private Boolean f95;
+    private String f96;
+    private Integer f97;
+    private Long f98;
+    private Boolean f99;
+    private String f100;
+    private Integer f101;
+    private Long f102;
+    private Boolean f103;
+    private String f104;
+    private Integer f105;
+    private Long f106;
+    private Boolean f107;
+    private String f108;
+    private Integer f109;
+    private Long f110;
+    private Boolean f111;
+    private String f112;
+    private Integer f113;
+    private Long f114;
+    private Boolean f115;
+    private String f116;
+    private Integer f117;
+    private Long f118;
+    private Boolean f119;
+    private String f120;
+    private Integer f121;
+    private Long f122;
+    private Boolean f123;
+    private String f124;
+    private Integer f125;
+    private Long f126;
+    private Boolean f127;
+    private String f128;
+    private Integer f129;
+    private Long f130;
+    private Boolean f131;
+    private String f132;
+    private Integer f133;
+    private Long f134;
+    private Boolean f135;
+    private String f136;
+    private Integer f137;
+    private Long f138;
+    private Boolean f139;
+    private String f140;
+    private Integer f141;
+    private Long f142;
+    private Boolean f143;
+    private String f144;
+    private Integer f145;
+    private Long f146;
+    private Boolean f147;
+    private String f148;
+    private Integer f149;
+    private Long f150;
+    private Boolean f151;
+    private String f152;
+    private Integer f153;
+    private Long f154;
+    private Boolean f155;
+    private String f156;
+    private Integer f157;
+    private Long f158;
+    private Boolean f159;
+    private String f160;
+    private Integer f161;
+    private Long f162;
+    private Boolean f163;
+    private String f164;
+    private Integer f165;
+    private Long f166;
+    private Boolean f167;
+    private String f168;
+    private Integer f169;
+    private Long f170;
+    private Boolean f171;
+    private String f172;
+    private Integer f173;
+    private Long f174;
+    private Boolean f175;
+    private String f176;
+    private Integer f177;
+    private Long f178;
+    private Boolean f179;
+    private String f180;
+    private Integer f181;
+    private Long f182;
+    private Boolean f183;
+    private String f184;
+    private Integer f185;
+    private Long f186;
+    private Boolean f187;
+    private String f188;
+    private Integer f189;
+    private Long f190;
+    private Boolean f191;
+    private String f192;
+    private Integer f193;
+    private Long f194;
+    private Boolean f195;
+    private String f196;
+    private Integer f197;
+    private Long f198;
+    private Boolean f199;
+
+    public String getF0() { return f0; }
+    public void setF0(String f0) { this.f0 = f0; }
+    public Integer getF1() { return f1; }
+    public void setF1(Integer f1) { this.f1 = f1; }
+    public Long getF2() { return f2; }
+    public void setF2(Long f2) { this.f2 = f2; }
+    public Boolean getF3() { return f3; }
+    public void setF3(Boolean f3) { this.f3 = f3; }
+    public String getF4() { return f4; }
+    public void setF4(String f4) { this.f4 = f4; }
+    public Integer getF5() { return f5; }
+    public void setF5(Integer f5) { this.f5 = f5; }
+    public Long getF6() { return f6; }
+    public void setF6(Long f6) { this.f6 = f6; }
+    public Boolean getF7() { return f7; }
+    public void setF7(Boolean f7) { this.f7 = f7; }
+    public String getF8() { return f8; }
+    public void setF8(String f8) { this.f8 = f8; }
+    public Integer getF9() { return f9; }
+    public void setF9(Integer f9) { this.f9 = f9; }
+    public Long getF10() { return f10; }
+    public void setF10(Long f10) { this.f10 = f10; }
+    public Boolean getF11() { return f11; }
+    public void setF11(Boolean f11) { this.f11 = f11; }
+    public String getF12() { return f12; }
+    public void setF12(String f12) { this.f12 = f12; }
+    public Integer getF13() { return f13; }
+    public void setF13(Integer f13) { this.f13 = f13; }
+    public Long getF14() { return f14; }
+    public void setF14(Long f14) { this.f14 = f14; }
+    public Boolean getF15() { return f15; }
+    public void setF15(Boolean f15) { this.f15 = f15; }
+    public String getF16() { return f16; }
+    public void setF16(String f16) { this.f16 = f16; }
+    public Integer getF17() { return f17; }
+    public void setF17(Integer f17) { this.f17 = f17; }
+    public Long getF18() { return f18; }
+    public void setF18(Long f18) { this.f18 = f18; }
+    public Boolean getF19() { return f19; }
+    public void setF19(Boolean f19) { this.f19 = f19; }
+    public String getF20() { return f20; }
+    public void setF20(String f20) { this.f20 = f20; }
+    public Integer getF21() { return f21; }
+    public void setF21(Integer f21) { this.f21 = f21; }
+    public Long getF22() { return f22; }
+    public void setF22(Long f22) { this.f22 = f22; }
+    public Boolean getF23() { return f23; }
+    public void setF23(Boolean f23) { this.f23 = f23; }
+    public String getF24() { return f24; }
+    public void setF24(String f24) { this.f24 = f24; }
+    public Integer getF25() { return f25; }
+    public void setF25(Integer f25) { this.f25 = f25; }
+    public Long getF26() { return f26; }
+    public void setF26(Long f26) { this.f26 = f26; }
+    public Boolean getF27() { return f27; }
+    public void setF27(Boolean f27) { this.f27 = f27; }
+    public String getF28() { return f28; }
+    public void setF28(String f28) { this.f28 = f28; }
+    public Integer getF29() { return f29; }
+    public void setF29(Integer f29) { this.f29 = f29; }
+    public Long getF30() { return f30; }
+    public void setF30(Long f30) { this.f30 = f30; }
+    public Boolean getF31() { return f31; }
+    public void setF31(Boolean f31) { this.f31 = f31; }
+    public String getF32() { return f32; }
+    public void setF32(String f32) { this.f32 = f32; }
+    public Integer getF33() { return f33; }
+    public void setF33(Integer f33) { this.f33 = f33; }
+    public Long getF34() { return f34; }
+    public void setF34(Long f34) { this.f34 = f34; }
+    public Boolean getF35() { return f35; }
+    public void setF35(Boolean f35) { this.f35 = f35; }
+    public String getF36() { return f36; }
+    public void setF36(String f36) { this.f36 = f36; }
+    public Integer getF37() { return f37; }
+    public void setF37(Integer f37) { this.f37 = f37; }
+    public Long getF38() { return f38; }
+    public void setF38(Long f38) { this.f38 = f38; }
+    public Boolean getF39() { return f39; }
+    public void setF39(Boolean f39) { this.f39 = f39; }
+    public String getF40() { return f40; }
+    public void setF40(String f40) { this.f40 = f40; }
+    public Integer getF41() { return f41; }
+    public void setF41(Integer f41) { this.f41 = f41; }
+    public Long getF42() { return f42; }
+    public void setF42(Long f42) { this.f42 = f42; }
+    public Boolean getF43() { return f43; }
+    public void setF43(Boolean f43) { this.f43 = f43; }
+    public String getF44() { return f44; }
+    public void setF44(String f44) { this.f44 = f44; }
+    public Integer getF45() { return f45; }
+    public void setF45(Integer f45) { this.f45 = f45; }
+    public Long getF46() { return f46; }
+    public void setF46(Long f46) { this.f46 = f46; }
+    public Boolean getF47() { return f47; }
+    public void setF47(Boolean f47) { this.f47 = f47; }
+    public String getF48() { return f48; }
+    public void setF48(String f48) { this.f48 = f48; }
+    public Integer getF49() { return f49; }
+    public void setF49(Integer f49) { this.f49 = f49; }
+    public Long getF50() { return f50; }
+    public void setF50(Long f50) { this.f50 = f50; }
+    public Boolean getF51() { return f51; }
+    public void setF51(Boolean f51) { this.f51 = f51; }
+    public String getF52() { return f52; }
+    public void setF52(String f52) { this.f52 = f52; }
+    public Integer getF53() { return f53; }
+    public void setF53(Integer f53) { this.f53 = f53; }
+    public Long getF54() { return f54; }
+    public void setF54(Long f54) { this.f54 = f54; }
+    public Boolean getF55() { return f55; }
+    public void setF55(Boolean f55) { this.f55 = f55; }
+    public String getF56() { return f56; }
+    public void setF56(String f56) { this.f56 = f56; }
+    public Integer getF57() { return f57; }
+    public void setF57(Integer f57) { this.f57 = f57; }
+    public Long getF58() { return f58; }
+    public void setF58(Long f58) { this.f58 = f58; }
+    public Boolean getF59() { return f59; }
+    public void setF59(Boolean f59) { this.f59 = f59; }
+    public String getF60() { return f60; }
+    public void setF60(String f60) { this.f60 = f60; }
+    public Integer getF61() { return f61; }
+    public void setF61(Integer f61) { this.f61 = f61; }
+    public Long getF62() { return f62; }
+    public void setF62(Long f62) { this.f62 = f62; }
+    public Boolean getF63() { return f63; }
+    public void setF63(Boolean f63) { this.f63 = f63; }
+    public String getF64() { return f64; }
+    public void setF64(String f64) { this.f64 = f64; }
+    public Integer getF65() { return f65; }
+    public void setF65(Integer f65) { this.f65 = f65; }
+    public Long getF66() { return f66; }
+    public void setF66(Long f66) { this.f66 = f66; }
+    public Boolean getF67() { return f67; }
+    public void setF67(Boolean f67) { this.f67 = f67; }
+    public String getF68() { return f68; }
+    public void setF68(String f68) { this.f68 = f68; }
+    public Integer getF69() { return f69; }
+    public void setF69(Integer f69) { this.f69 = f69; }
+    public Long getF70() { return f70; }
+    public void setF70(Long f70) { this.f70 = f70; }
+    public Boolean getF71() { return f71; }
+    public void setF71(Boolean f71) { this.f71 = f71; }
+    public String getF72() { return f72; }
+    public void setF72(String f72) { this.f72 = f72; }
+    public Integer getF73() { return f73; }
+    public void setF73(Integer f73) { this.f73 = f73; }
+    public Long getF74() { return f74; }
+    public void setF74(Long f74) { this.f74 = f74; }
+    public Boolean getF75() { return f75; }
+    public void setF75(Boolean f75) { this.f75 = f75; }
+    public String getF76() { return f76; }
+    public void setF76(String f76) { this.f76 = f76; }
+    public Integer getF77() { return f77; }
+    public void setF77(Integer f77) { this.f77 = f77; }
+    public Long getF78() { return f78; }
+    public void setF78(Long f78) { this.f78 = f78; }
+    public Boolean getF79() { return f79; }
+    public void setF79(Boolean f79) { this.f79 = f79; }
+    public String getF80() { return f80; }
+    public void setF80(String f80) { this.f80 = f80; }
+    public Integer getF81() { return f81; }
+    public void setF81(Integer f81) { this.f81 = f81; }
+    public Long getF82() { return f82; }
+    public void setF82(Long f82) { this.f82 = f82; }
+    public Boolean getF83() { return f83; }
+    public void setF83(Boolean f83) { this.f83 = f83; }
+    public String getF84() { return f84; }
+    public void setF84(String f84) { this.f84 = f84; }
+    public Integer getF85() { return f85; }
+    public void setF85(Integer f85) { this.f85 = f85; }
+    public Long getF86() { return f86; }
+    public void setF86(Long f86) { this.f86 = f86; }
+    public Boolean getF87() { return f87; }
+    public void setF87(Boolean f87) { this.f87 = f87; }
+    public String getF88() { return f88; }
+    public void setF88(String f88) { this.f88 = f88; }
+    public Integer getF89() { return f89; }
+    public void setF89(Integer f89) { this.f89 = f89; }
+    public Long getF90() { return f90; }
+    public void setF90(Long f90) { this.f90 = f90; }
+    public Boolean getF91() { return f91; }
+    public void setF91(Boolean f91) { this.f91 = f91; }
+    public String getF92() { return f92; }
+    public void setF92(String f92) { this.f92 = f92; }
+    public Integer getF93() { return f93; }
+    public void setF93(Integer f93) { this.f93 = f93; }
+    public Long getF94() { return f94; }
+    public void setF94(Long f94) { this.f94 = f94; }
+    public Boolean getF95() { return f95; }
+    public void setF95(Boolean f95) { this.f95 = f95; }
+    public String getF96() { return f96; }
+    public void setF96(String f96) { this.f96 = f96; }
+    public Integer getF97() { return f97; }
+    public void setF97(Integer f97) { this.f97 = f97; }
+    public Long getF98() { return f98; }
+    public void setF98(Long f98) { this.f98 = f98; }
+    public Boolean getF99() { return f99; }
+    public void setF99(Boolean f99) { this.f99 = f99; }
+    public String getF100() { return f100; }
+    public void setF100(String f100) { this.f100 = f100; }
+    public Integer getF101() { return f101; }
+    public void setF101(Integer f101) { this.f101 = f101; }
+    public Long getF102() { return f102; }
+    public void setF102(Long f102) { this.f102 = f102; }
+    public Boolean getF103() { return f103; }
+    public void setF103(Boolean f103) { this.f103 = f103; }
+    public String getF104() { return f104; }
+    public void setF104(String f104) { this.f104 = f104; }
+    public Integer getF105() { return f105; }
+    public void setF105(Integer f105) { this.f105 = f105; }
+    public Long getF106() { return f106; }
+    public void setF106(Long f106) { this.f106 = f106; }
+    public Boolean getF107() { return f107; }
+    public void setF107(Boolean f107) { this.f107 = f107; }
+    public String getF108() { return f108; }
+    public void setF108(String f108) { this.f108 = f108; }
+    public Integer getF109() { return f109; }
+    public void setF109(Integer f109) { this.f109 = f109; }
+    public Long getF110() { return f110; }
+    public void setF110(Long f110) { this.f110 = f110; }
+    public Boolean getF111() { return f111; }
+    public void setF111(Boolean f111) { this.f111 = f111; }
+    public String getF112() { return f112; }
+    public void setF112(String f112) { this.f112 = f112; }
+    public Integer getF113() { return f113; }
+    public void setF113(Integer f113) { this.f113 = f113; }
+    public Long getF114() { return f114; }
+    public void setF114(Long f114) { this.f114 = f114; }
+    public Boolean getF115() { return f115; }
+    public void setF115(Boolean f115) { this.f115 = f115; }
+    public String getF116() { return f116; }
+    public void setF116(String f116) { this.f116 = f116; }
+    public Integer getF117() { return f117; }
+    public void setF117(Integer f117) { this.f117 = f117; }
+    public Long getF118() { return f118; }
+    public void setF118(Long f118) { this.f118 = f118; }
+    public Boolean getF119() { return f119; }
+    public void setF119(Boolean f119) { this.f119 = f119; }
+    public String getF120() { return f120; }
+    public void setF120(String f120) { this.f120 = f120; }
+    public Integer getF121() { return f121; }
+    public void setF121(Integer f121) { this.f121 = f121; }
+    public Long getF122() { return f122; }
+    public void setF122(Long f122) { this.f122 = f122; }
+    public Boolean getF123() { return f123; }
+    public void setF123(Boolean f123) { this.f123 = f123; }
+    public String getF124() { return f124; }
+    public void setF124(String f124) { this.f124 = f124; }
+    public Integer getF125() { return f125; }
+    public void setF125(Integer f125) { this.f125 = f125; }
+    public Long getF126() { return f126; }
+    public void setF126(Long f126) { this.f126 = f126; }
+    public Boolean getF127() { return f127; }
+    public void setF127(Boolean f127) { this.f127 = f127; }
+    public String getF128() { return f128; }
+    public void setF128(String f128) { this.f128 = f128; }
+    public Integer getF129() { return f129; }
+    public void setF129(Integer f129) { this.f129 = f129; }
+    public Long getF130() { return f130; }
+    public void setF130(Long f130) { this.f130 = f130; }
+    public Boolean getF131() { return f131; }
+    public void setF131(Boolean f131) { this.f131 = f131; }
+    public String getF132() { return f132; }
+    public void setF132(String f132) { this.f132 = f132; }
+    public Integer getF133() { return f133; }
+    public void setF133(Integer f133) { this.f133 = f133; }
+    public Long getF134() { return f134; }
+    public void setF134(Long f134) { this.f134 = f134; }
+    public Boolean getF135() { return f135; }
+    public void setF135(Boolean f135) { this.f135 = f135; }
+    public String getF136() { return f136; }
+    public void setF136(String f136) { this.f136 = f136; }
+    public Integer getF137() { return f137; }
+    public void setF137(Integer f137) { this.f137 = f137; }
+    public Long getF138() { return f138; }
+    public void setF138(Long f138) { this.f138 = f138; }
+    public Boolean getF139() { return f139; }
+    public void setF139(Boolean f139) { this.f139 = f139; }
+    public String getF140() { return f140; }
+    public void setF140(String f140) { this.f140 = f140; }
+    public Integer getF141() { return f141; }
+    public void setF141(Integer f141) { this.f141 = f141; }
+    public Long getF142() { return f142; }
+    public void setF142(Long f142) { this.f142 = f142; }
+    public Boolean getF143() { return f143; }
+    public void setF143(Boolean f143) { this.f143 = f143; }
+    public String getF144() { return f144; }
+    public void setF144(String f144) { this.f144 = f144; }
+    public Integer getF145() { return f145; }
+    public void setF145(Integer f145) { this.f145 = f145; }
+    public Long getF146() { return f146; }
+    public void setF146(Long f146) { this.f146 = f146; }
+    public Boolean getF147() { return f147; }
+    public void setF147(Boolean f147) { this.f147 = f147; }
+    public String getF148() { return f148; }
+    public void setF148(String f148) { this.f148 = f148; }
+    public Integer getF149() { return f149; }
+    public void setF149(Integer f149) { this.f149 = f149; }
+    public Long getF150() { return f150; }
+    public void setF150(Long f150) { this.f150 = f150; }
+    public Boolean getF151() { return f151; }
+    public void setF151(Boolean f151) { this.f151 = f151; }
+    public String getF152() { return f152; }
+    public void setF152(String f152) { this.f152 = f152; }
+    public Integer getF153() { return f153; }
+    public void setF153(Integer f153) { this.f153 = f153; }
+    public Long getF154() { return f154; }
+    public void setF154(Long f154) { this.f154 = f154; }
+    public Boolean getF155() { return f155; }
+    public void setF155(Boolean f155) { this.f155 = f155; }
+    public String getF156() { return f156; }
+    public void setF156(String f156) { this.f156 = f156; }
+    public Integer getF157() { return f157; }
+    public void setF157(Integer f157) { this.f157 = f157; }
+    public Long getF158() { return f158; }
+    public void setF158(Long f158) { this.f158 = f158; }
+    public Boolean getF159() { return f159; }
+    public void setF159(Boolean f159) { this.f159 = f159; }
+    public String getF160() { return f160; }
+    public void setF160(String f160) { this.f160 = f160; }
+    public Integer getF161() { return f161; }
+    public void setF161(Integer f161) { this.f161 = f161; }
+    public Long getF162() { return f162; }
+    public void setF162(Long f162) { this.f162 = f162; }
+    public Boolean getF163() { return f163; }
+    public void setF163(Boolean f163) { this.f163 = f163; }
+    public String getF164() { return f164; }
+    public void setF164(String f164) { this.f164 = f164; }
+    public Integer getF165() { return f165; }
+    public void setF165(Integer f165) { this.f165 = f165; }
+    public Long getF166() { return f166; }
+    public void setF166(Long f166) { this.f166 = f166; }
+    public Boolean getF167() { return f167; }
+    public void setF167(Boolean f167) { this.f167 = f167; }
+    public String getF168() { return f168; }
+    public void setF168(String f168) { this.f168 = f168; }
+    public Integer getF169() { return f169; }
+    public void setF169(Integer f169) { this.f169 = f169; }
+    public Long getF170() { return f170; }
+    public void setF170(Long f170) { this.f170 = f170; }
+    public Boolean getF171() { return f171; }
+    public void setF171(Boolean f171) { this.f171 = f171; }
+    public String getF172() { return f172; }
+    public void setF172(String f172) { this.f172 = f172; }
+    public Integer getF173() { return f173; }
+    public void setF173(Integer f173) { this.f173 = f173; }
+    public Long getF174() { return f174; }
+    public void setF174(Long f174) { this.f174 = f174; }
+    public Boolean getF175() { return f175; }
+    public void setF175(Boolean f175) { this.f175 = f175; }
+    public String getF176() { return f176; }
+    public void setF176(String f176) { this.f176 = f176; }
+    public Integer getF177() { return f177; }
+    public void setF177(Integer f177) { this.f177 = f177; }
+    public Long getF178() { return f178; }
+    public void setF178(Long f178) { this.f178 = f178; }
+    public Boolean getF179() { return f179; }
+    public void setF179(Boolean f179) { this.f179 = f179; }
+    public String getF180() { return f180; }
+    public void setF180(String f180) { this.f180 = f180; }
+    public Integer getF181() { return f181; }
+    public void setF181(Integer f181) { this.f181 = f181; }
+    public Long getF182() { return f182; }
+    public void setF182(Long f182) { this.f182 = f182; }
+    public Boolean getF183() { return f183; }
+    public void setF183(Boolean f183) { this.f183 = f183; }
+    public String getF184() { return f184; }
+    public void setF184(String f184) { this.f184 = f184; }
+    public Integer getF185() { return f185; }
+    public void setF185(Integer f185) { this.f185 = f185; }
+    public Long getF186() { return f186; }
+    public void setF186(Long f186) { this.f186 = f186; }
+    public Boolean getF187() { return f187; }
+    public void setF187(Boolean f187) { this.f187 = f187; }
+    public String getF188() { return f188; }
+    public void setF188(String f188) { this.f188 = f188; }
+    public Integer getF189() { return f189; }
+    public void setF189(Integer f189) { this.f189 = f189; }
+    public Long getF190() { return f190; }
+    public void setF190(Long f190) { this.f190 = f190; }
+    public Boolean getF191() { return f191; }
+    public void setF191(Boolean f191) { this.f191 = f191; }
+    public String getF192() { return f192; }
+    public void setF192(String f192) { this.f192 = f192; }
+    public Integer getF193() { return f193; }
+    public void setF193(Integer f193) { this.f193 = f193; }
+    public Long getF194() { return f194; }
+    public void setF194(Long f194) { this.f194 = f194; }
+    public Boolean getF195() { return f195; }
+    public void setF195(Boolean f195) { this.f195 = f195; }
+    public String getF196() { return f196; }
+    public void setF196(String f196) { this.f196 = f196; }
+    public Integer getF197() { return f197; }
+    public void setF197(Integer f197) { this.f197 = f197; }
+    public Long getF198() { return f198; }
+    public void setF198(Long f198) { this.f198 = f198; }
+    public Boolean getF199() { return f199; }
+    public void setF199(Boolean f199) { this.f199 = f199; }
+}
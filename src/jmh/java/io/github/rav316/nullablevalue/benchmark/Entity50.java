@@ -0,0 +1,156 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+public class Entity50 {
+
+    private String f0;
+    private Integer f1;
+    private Long f2;
+    private Boolean f3;
+    private String f4;
+    private Integer f5;
+    private Long f6;
+    private Boolean f7;
+    private String f8;
+    private Integer f9;
+    private Long f10;
+    private Boolean f11;
+    private String f12;
+    private Integer f13;
+    private Long f14;
+    private Boolean f15;
+    private String f16;
+    private Integer f17;
+    private Long f18;
+    private Boolean f19;
+    private String f20;
+    private Integer f21;
+    private Long f22;
+    private Boolean f23;
+    private String f24;
+    private Integer f25;
+    private Long f26;
+    private Boolean f27;
+    private String f28;
+    private Integer f29;
+    private Long f30;
+    private Boolean f31;
+    private String f32;
+    private Integer f33;
+    private Long f34;
+    private Boolean f35;
+    private String f36;
+    private Integer f37;
+    private Long f38;
+    private Boolean f39;
+    private String f40;
+    private Integer f41;
+    private Long f42;
+    private Boolean f43;
+    private String f44;
+    private Integer f45;
+    private Long f46;
+    private Boolean f47;
+    private String f48;
+    private Integer f49;
+
+    public String getF0() { return f0; }
+    public void setF0(String f0) { this.f0 = f0; }
+    public Integer getF1() { return f1; }
+    public void setF1(Integer f1) { this.f1 = f1; }
+    public Long getF2() { return f2; }
+    public void setF2(Long f2) { this.f2 = f2; }
+    public Boolean getF3() { return f3; }
+    public void setF3(Boolean f3) { this.f3 = f3; }
+    public String getF4() { return f4; }
+    public void setF4(String f4) { this.f4 = f4; }
+    public Integer getF5() { return f5; }
+    public void setF5(Integer f5) { this.f5 = f5; }
+    public Long getF6() { return f6; }
+    public void setF6(Long f6) { this.f6 = f6; }
+    public Boolean getF7() { return f7; }
+    public void setF7(Boolean f7) { this.f7 = f7; }
+    public String getF8() { return f8; }
+    public void setF8(String f8) { this.f8 = f8; }
+    public Integer getF9() { return f9; }
+    public void setF9(Integer f9) { this.f9 = f9; }
+    public Long getF10() { return f10; }
+    public void setF10(Long f10) { this.f10 = f10; }
+    public Boolean getF11() { return f11; }
+    public void setF11(Boolean f11) { this.f11 = f11; }
+    public String getF12() { return f12; }
+    public void setF12(String f12) { this.f12 = f12; }
+    public Integer getF13() { return f13; }
+    public void setF13(Integer f13) { this.f13 = f13; }
+    public Long getF14() { return f14; }
+    public void setF14(Long f14) { this.f14 = f14; }
+    public Boolean getF15() { return f15; }
+    public void setF15(Boolean f15) { this.f15 = f15; }
+    public String getF16() { return f16; }
+    public void setF16(String f16) { this.f16 = f16; }
+    public Integer getF17() { return f17; }
+    public void setF17(Integer f17) { this.f17 = f17; }
+    public Long getF18() { return f18; }
+    public void setF18(Long f18) { this.f18 = f18; }
+    public Boolean getF19() { return f19; }
+    public void setF19(Boolean f19) { this.f19 = f19; }
+    public String getF20() { return f20; }
+    public void setF20(String f20) { this.f20 = f20; }
+    public Integer getF21() { return f21; }
+    public void setF21(Integer f21) { this.f21 = f21; }
+    public Long getF22() { return f22; }
+    public void setF22(Long f22) { this.f22 = f22; }
+    public Boolean getF23() { return f23; }
+    public void setF23(Boolean f23) { this.f23 = f23; }
+    public String getF24() { return f24; }
+    public void setF24(String f24) { this.f24 = f24; }
+    public Integer getF25() { return f25; }
+    public void setF25(Integer f25) { this.f25 = f25; }
+    public Long getF26() { return f26; }
+    public void setF26(Long f26) { this.f26 = f26; }
+    public Boolean getF27() { return f27; }
+    public void setF27(Boolean f27) { this.f27 = f27; }
+    public String getF28() { return f28; }
+    public void setF28(String f28) { this.f28 = f28; }
+    public Integer getF29() { return f29; }
+    public void setF29(Integer f29) { this.f29 = f29; }
+    public Long getF30() { return f30; }
+    public void setF30(Long f30) { this.f30 = f30; }
+    public Boolean getF31() { return f31; }
+    public void setF31(Boolean f31) { this.f31 = f31; }
+    public String getF32() { return f32; }
+    public void setF32(String f32) { this.f32 = f32; }
+    public Integer getF33() { return f33; }
+    public void setF33(Integer f33) { this.f33 = f33; }
+    public Long getF34() { return f34; }
+    public void setF34(Long f34) { this.f34 = f34; }
+    public Boolean getF35() { return f35; }
+    public void setF35(Boolean f35) { this.f35 = f35; }
+    public String getF36() { return f36; }
+    public void setF36(String f36) { this.f36 = f36; }
+    public Integer getF37() { return f37; }
+    public void setF37(Integer f37) { this.f37 = f37; }
+    public Long getF38() { return f38; }
+    public void setF38(Long f38) { this.f38 = f38; }
+    public Boolean getF39() { return f39; }
+    public void setF39(Boolean f39) { this.f39 = f39; }
+    public String getF40() { return f40; }
+    public void setF40(String f40) { this.f40 = f40; }
+    public Integer getF41() { return f41; }
+    public void setF41(Integer f41) { this.f41 = f41; }
+    public Long getF42() { return f42; }
+    public void setF42(Long f42) { this.f42 = f42; }
+    public Boolean getF43() { return f43; }
+    public void setF43(Boolean f43) { this.f43 = f43; }
+    public String getF44() { return f44; }
+    public void setF44(String f44) { this.f44 = f44; }
+    public Integer getF45() { return f45; }
+    public void setF45(Integer f45) { this.f45 = f45; }
+    public Long getF46() { return f46; }
+    public void setF46(Long f46) { this.f46 = f46; }
+    public Boolean getF47() { return f47; }
+    public void setF47(Boolean f47) { this.f47 = f47; }
+    public String getF48() { return f48; }
+    public void setF48(String f48) { this.f48 = f48; }
+    public Integer getF49() { return f49; }
+    public void setF49(Integer f49) { this.f49 = f49; }
+}
@@ -0,0 +1,53 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValueModule;
+import io.github.rav316.nullablevalue.autoconfigure.NullableValueWarmer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Measurement(iterations = 50)
+public class FirstRequestBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int fields;
+
+    @Param({"false", "true"})
+    public boolean prewarmed;
+
+    private byte[] payload;
+    private Class<?> type;
+    private ObjectMapper mapper;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        payload = Payloads.json(fields, "dense");
+        type = Payloads.patchType(fields);
+        mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        if (prewarmed) {
+            new NullableValueWarmer(List.of(getClass().getPackageName()), mapper, List.of()).warmUp();
+        }
+    }
+
+    @Benchmark
+    public byte[] firstRequest() {
+        return mapper.writeValueAsBytes(mapper.readValue(payload, type));
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.PatchDto;
+
+@PatchDto
+public interface GeneratedPatchDto10 {
+
+    NullableValue<String> getF0();
+    NullableValue<Integer> getF1();
+    NullableValue<Long> getF2();
+    NullableValue<Boolean> getF3();
+    NullableValue<String> getF4();
+    NullableValue<Integer> getF5();
+    NullableValue<Long> getF6();
+    NullableValue<Boolean> getF7();
+    NullableValue<String> getF8();
+    NullableValue<Integer> getF9();
+}
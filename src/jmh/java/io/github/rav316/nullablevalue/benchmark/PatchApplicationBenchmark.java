@@ -0,0 +1,66 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValueModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PatchApplicationBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int fields;
+
+    @Param({"sparse", "dense"})
+    public String presence;
+
+    private Object patch;
+    private Object plain;
+    private Object entity;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        byte[] payload = Payloads.json(fields, presence);
+        patch = mapper.readValue(payload, Payloads.patchType(fields));
+        plain = mapper.readValue(payload, Payloads.plainType(fields));
+        entity = switch (fields) {
+            case 10 -> new Entity10();
+            case 50 -> new Entity50();
+            default -> new Entity200();
+        };
+    }
+
+    @Benchmark
+    public Object nullableValue() {
+        switch (fields) {
+            case 10 -> Patches.apply((PatchDto10) patch, (Entity10) entity);
+            case 50 -> Patches.apply((PatchDto50) patch, (Entity50) entity);
+            default -> Patches.apply((PatchDto200) patch, (Entity200) entity);
+        }
+        return entity;
+    }
+
+    @Benchmark
+    public Object plain() {
+        switch (fields) {
+            case 10 -> Patches.apply((PlainDto10) plain, (Entity10) entity);
+            case 50 -> Patches.apply((PlainDto50) plain, (Entity50) entity);
+            default -> Patches.apply((PlainDto200) plain, (Entity200) entity);
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+public class PatchDto10 {
+
+    public NullableValue<@Size(max = 64) String> f0 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f1 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f2 = NullableValue.undefined();
+    public NullableValue<Boolean> f3 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f4 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f5 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f6 = NullableValue.undefined();
+    public NullableValue<Boolean> f7 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f8 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f9 = NullableValue.undefined();
+}
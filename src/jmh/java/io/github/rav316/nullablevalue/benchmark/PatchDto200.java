@@ -0,0 +1,210 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+public class PatchDto200 {
+
+    public NullableValue<@Size(max = 64) String> f0 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f1 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f2 = NullableValue.undefined();
+    public NullableValue<Boolean> f3 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f4 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f5 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f6 = NullableValue.undefined();
+    public NullableValue<Boolean> f7 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f8 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f9 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f10 = NullableValue.undefined();
+    public NullableValue<Boolean> f11 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f12 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f13 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f14 = NullableValue.undefined();
+    public NullableValue<Boolean> f15 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f16 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f17 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f18 = NullableValue.undefined();
+    public NullableValue<Boolean> f19 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f20 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f21 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f22 = NullableValue.undefined();
+    public NullableValue<Boolean> f23 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f24 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f25 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f26 = NullableValue.undefined();
+    public NullableValue<Boolean> f27 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f28 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f29 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f30 = NullableValue.undefined();
+    public NullableValue<Boolean> f31 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f32 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f33 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f34 = NullableValue.undefined();
+    public NullableValue<Boolean> f35 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f36 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f37 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f38 = NullableValue.undefined();
+    public NullableValue<Boolean> f39 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f40 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f41 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f42 = NullableValue.undefined();
+    public NullableValue<Boolean> f43 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f44 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f45 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f46 = NullableValue.undefined();
+    public NullableValue<Boolean> f47 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f48 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f49 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f50 = NullableValue.undefined();
+    public NullableValue<Boolean> f51 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f52 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f53 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f54 = NullableValue.undefined();
+    public NullableValue<Boolean> f55 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f56 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f57 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f58 = NullableValue.undefined();
+    public NullableValue<Boolean> f59 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f60 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f61 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f62 = NullableValue.undefined();
+    public NullableValue<Boolean> f63 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f64 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f65 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f66 = NullableValue.undefined();
+    public NullableValue<Boolean> f67 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f68 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f69 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f70 = NullableValue.undefined();
+    public NullableValue<Boolean> f71 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f72 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f73 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f74 = NullableValue.undefined();
+    public NullableValue<Boolean> f75 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f76 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f77 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f78 = NullableValue.undefined();
+    public NullableValue<Boolean> f79 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f80 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f81 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f82 = NullableValue.undefined();
+    public NullableValue<Boolean> f83 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f84 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f85 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f86 = NullableValue.undefined();
+    public NullableValue<Boolean> f87 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f88 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f89 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f90 = NullableValue.undefined();
+    public NullableValue<Boolean> f91 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f92 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f93 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f94 = NullableValue.undefined();
+    public NullableValue<Boolean> f95 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f96 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f97 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f98 = NullableValue.undefined();
+    public NullableValue<Boolean> f99 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f100 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f101 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f102 = NullableValue.undefined();
+    public NullableValue<Boolean> f103 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f104 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f105 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f106 = NullableValue.undefined();
+    public NullableValue<Boolean> f107 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f108 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f109 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f110 = NullableValue.undefined();
+    public NullableValue<Boolean> f111 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f112 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f113 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f114 = NullableValue.undefined();
+    public NullableValue<Boolean> f115 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f116 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f117 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f118 = NullableValue.undefined();
+    public NullableValue<Boolean> f119 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f120 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f121 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f122 = NullableValue.undefined();
+    public NullableValue<Boolean> f123 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f124 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f125 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f126 = NullableValue.undefined();
+    public NullableValue<Boolean> f127 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f128 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f129 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f130 = NullableValue.undefined();
+    public NullableValue<Boolean> f131 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f132 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f133 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f134 = NullableValue.undefined();
+    public NullableValue<Boolean> f135 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f136 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f137 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f138 = NullableValue.undefined();
+    public NullableValue<Boolean> f139 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f140 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f141 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f142 = NullableValue.undefined();
+    public NullableValue<Boolean> f143 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f144 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f145 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f146 = NullableValue.undefined();
+    public NullableValue<Boolean> f147 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f148 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f149 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f150 = NullableValue.undefined();
+    public NullableValue<Boolean> f151 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f152 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f153 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f154 = NullableValue.undefined();
+    public NullableValue<Boolean> f155 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f156 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f157 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f158 = NullableValue.undefined();
+    public NullableValue<Boolean> f159 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f160 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f161 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f162 = NullableValue.undefined();
+    public NullableValue<Boolean> f163 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f164 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f165 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f166 = NullableValue.undefined();
+    public NullableValue<Boolean> f167 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f168 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f169 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f170 = NullableValue.undefined();
+    public NullableValue<Boolean> f171 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f172 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f173 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f174 = NullableValue.undefined();
+    public NullableValue<Boolean> f175 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f176 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f177 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f178 = NullableValue.undefined();
+    public NullableValue<Boolean> f179 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f180 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f181 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f182 = NullableValue.undefined();
+    public NullableValue<Boolean> f183 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f184 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f185 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f186 = NullableValue.undefined();
+    public NullableValue<Boolean> f187 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f188 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f189 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f190 = NullableValue.undefined();
+    public NullableValue<Boolean> f191 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f192 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f193 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f194 = NullableValue.undefined();
+    public NullableValue<Boolean> f195 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f196 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f197 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f198 = NullableValue.undefined();
+    public NullableValue<Boolean> f199 = NullableValue.undefined();
+}
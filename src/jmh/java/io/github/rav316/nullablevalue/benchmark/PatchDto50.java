@@ -0,0 +1,60 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+public class PatchDto50 {
+
+    public NullableValue<@Size(max = 64) String> f0 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f1 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f2 = NullableValue.undefined();
+    public NullableValue<Boolean> f3 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f4 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f5 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f6 = NullableValue.undefined();
+    public NullableValue<Boolean> f7 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f8 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f9 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f10 = NullableValue.undefined();
+    public NullableValue<Boolean> f11 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f12 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f13 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f14 = NullableValue.undefined();
+    public NullableValue<Boolean> f15 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f16 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f17 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f18 = NullableValue.undefined();
+    public NullableValue<Boolean> f19 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f20 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f21 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f22 = NullableValue.undefined();
+    public NullableValue<Boolean> f23 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f24 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f25 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f26 = NullableValue.undefined();
+    public NullableValue<Boolean> f27 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f28 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f29 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f30 = NullableValue.undefined();
+    public NullableValue<Boolean> f31 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f32 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f33 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f34 = NullableValue.undefined();
+    public NullableValue<Boolean> f35 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f36 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f37 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f38 = NullableValue.undefined();
+    public NullableValue<Boolean> f39 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f40 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f41 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f42 = NullableValue.undefined();
+    public NullableValue<Boolean> f43 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f44 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f45 = NullableValue.undefined();
+    public NullableValue<@PositiveOrZero Long> f46 = NullableValue.undefined();
+    public NullableValue<Boolean> f47 = NullableValue.undefined();
+    public NullableValue<@Size(max = 64) String> f48 = NullableValue.undefined();
+    public NullableValue<@Min(0) Integer> f49 = NullableValue.undefined();
+}
@@ -0,0 +1,66 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValueModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PatchDtoBenchmark {
+
+    @Param({"sparse", "dense"})
+    public String presence;
+
+    private byte[] payload;
+    private ObjectReader beanReader;
+    private ObjectReader generatedReader;
+    private ObjectWriter writer;
+    private Object bean;
+    private Object generated;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        payload = Payloads.json(10, presence);
+        beanReader = mapper.readerFor(PatchDto10.class);
+        generatedReader = mapper.readerFor(GeneratedPatchDto10.class);
+        writer = mapper.writer();
+        bean = beanReader.readValue(payload);
+        generated = generatedReader.readValue(payload);
+    }
+
+    @Benchmark
+    public Object deserializeBean() {
+        return beanReader.readValue(payload);
+    }
+
+    @Benchmark
+    public Object deserializeGenerated() {
+        return generatedReader.readValue(payload);
+    }
+
+    @Benchmark
+    public byte[] serializeBean() {
+        return writer.writeValueAsBytes(bean);
+    }
+
+    @Benchmark
+    public byte[] serializeGenerated() {
+        return writer.writeValueAsBytes(generated);
+    }
+}
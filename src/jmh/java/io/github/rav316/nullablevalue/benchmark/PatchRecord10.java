@@ -0,0 +1,16 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValue;
+
+public record PatchRecord10(
+        NullableValue<String> f0,
+        NullableValue<Integer> f1,
+        NullableValue<Long> f2,
+        NullableValue<Boolean> f3,
+        NullableValue<String> f4,
+        NullableValue<Integer> f5,
+        NullableValue<Long> f6,
+        NullableValue<Boolean> f7,
+        NullableValue<String> f8,
+        NullableValue<Integer> f9) {
+}
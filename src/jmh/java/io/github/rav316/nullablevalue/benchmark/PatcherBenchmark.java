@@ -0,0 +1,85 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueModule;
+import io.github.rav316.nullablevalue.NullableValuePatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PatcherBenchmark {
+
+    @Param({"10", "50"})
+    public int fields;
+
+    @Param({"sparse", "dense"})
+    public String presence;
+
+    private Object patch;
+    private Object entity;
+    private NullableValuePatcher<Object, Object> patcher;
+    private Field[] reflectiveFields;
+    private Method[] reflectiveSetters;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        Class<?> patchType = Payloads.patchType(fields);
+        patch = mapper.readValue(Payloads.json(fields, presence), patchType);
+        entity = fields == 10 ? new Entity10() : new Entity50();
+        patcher = (NullableValuePatcher<Object, Object>) NullableValuePatcher.of(patchType, entity.getClass());
+
+        reflectiveFields = new Field[fields];
+        reflectiveSetters = new Method[fields];
+        for (int i = 0; i < fields; i++) {
+            reflectiveFields[i] = patchType.getField("f" + i);
+            Class<?> valueType = Entity10.class.getMethod("getF" + (i % 4)).getReturnType();
+            reflectiveSetters[i] = entity.getClass().getMethod("setF" + i, valueType);
+        }
+    }
+
+    @Benchmark
+    public Object handWritten() {
+        if (fields == 10) {
+            Patches.apply((PatchDto10) patch, (Entity10) entity);
+        } else {
+            Patches.apply((PatchDto50) patch, (Entity50) entity);
+        }
+        return entity;
+    }
+
+    @Benchmark
+    public long patcher() {
+        return patcher.apply(patch, entity);
+    }
+
+    @Benchmark
+    public long reflective() throws Exception {
+        long changed = 0L;
+        for (int i = 0; i < reflectiveFields.length; i++) {
+            NullableValue<?> value = (NullableValue<?>) reflectiveFields[i].get(patch);
+            if (value.isPresent()) {
+                reflectiveSetters[i].invoke(entity, value.get());
+                changed |= 1L << i;
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,545 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+final class Patches {
+
+    private Patches() {
+    }
+
+    static void apply(PatchDto10 dto, Entity10 entity) {
+        dto.f0.ifPresent(entity::setF0);
+        dto.f1.ifPresent(entity::setF1);
+        dto.f2.ifPresent(entity::setF2);
+        dto.f3.ifPresent(entity::setF3);
+        dto.f4.ifPresent(entity::setF4);
+        dto.f5.ifPresent(entity::setF5);
+        dto.f6.ifPresent(entity::setF6);
+        dto.f7.ifPresent(entity::setF7);
+        dto.f8.ifPresent(entity::setF8);
+        dto.f9.ifPresent(entity::setF9);
+    }
+
+    static void apply(PlainDto10 dto, Entity10 entity) {
+        if (dto.f0 != null) entity.setF0(dto.f0);
+        if (dto.f1 != null) entity.setF1(dto.f1);
+        if (dto.f2 != null) entity.setF2(dto.f2);
+        if (dto.f3 != null) entity.setF3(dto.f3);
+        if (dto.f4 != null) entity.setF4(dto.f4);
+        if (dto.f5 != null) entity.setF5(dto.f5);
+        if (dto.f6 != null) entity.setF6(dto.f6);
+        if (dto.f7 != null) entity.setF7(dto.f7);
+        if (dto.f8 != null) entity.setF8(dto.f8);
+        if (dto.f9 != null) entity.setF9(dto.f9);
+    }
+
+    static void apply(PatchDto50 dto, Entity50 entity) {
+        dto.f0.ifPresent(entity::setF0);
+        dto.f1.ifPresent(entity::setF1);
+        dto.f2.ifPresent(entity::setF2);
+        dto.f3.ifPresent(entity::setF3);
+        dto.f4.ifPresent(entity::setF4);
+        dto.f5.ifPresent(entity::setF5);
+        dto.f6.ifPresent(entity::setF6);
+        dto.f7.ifPresent(entity::setF7);
+        dto.f8.ifPresent(entity::setF8);
+        dto.f9.ifPresent(entity::setF9);
+        dto.f10.ifPresent(entity::setF10);
+        dto.f11.ifPresent(entity::setF11);
+        dto.f12.ifPresent(entity::setF12);
+        dto.f13.ifPresent(entity::setF13);
+        dto.f14.ifPresent(entity::setF14);
+        dto.f15.ifPresent(entity::setF15);
+        dto.f16.ifPresent(entity::setF16);
+        dto.f17.ifPresent(entity::setF17);
+        dto.f18.ifPresent(entity::setF18);
+        dto.f19.ifPresent(entity::setF19);
+        dto.f20.ifPresent(entity::setF20);
+        dto.f21.ifPresent(entity::setF21);
+        dto.f22.ifPresent(entity::setF22);
+        dto.f23.ifPresent(entity::setF23);
+        dto.f24.ifPresent(entity::setF24);
+        dto.f25.ifPresent(entity::setF25);
+        dto.f26.ifPresent(entity::setF26);
+        dto.f27.ifPresent(entity::setF27);
+        dto.f28.ifPresent(entity::setF28);
+        dto.f29.ifPresent(entity::setF29);
+        dto.f30.ifPresent(entity::setF30);
+        dto.f31.ifPresent(entity::setF31);
+        dto.f32.ifPresent(entity::setF32);
+        dto.f33.ifPresent(entity::setF33);
+        dto.f34.ifPresent(entity::setF34);
+        dto.f35.ifPresent(entity::setF35);
+        dto.f36.ifPresent(entity::setF36);
+        dto.f37.ifPresent(entity::setF37);
+        dto.f38.ifPresent(entity::setF38);
+        dto.f39.ifPresent(entity::setF39);
+        dto.f40.ifPresent(entity::setF40);
+        dto.f41.ifPresent(entity::setF41);
+        dto.f42.ifPresent(entity::setF42);
+        dto.f43.ifPresent(entity::setF43);
+        dto.f44.ifPresent(entity::setF44);
+        dto.f45.ifPresent(entity::setF45);
+        dto.f46.ifPresent(entity::setF46);
+        dto.f47.ifPresent(entity::setF47);
+        dto.f48.ifPresent(entity::setF48);
+        dto.f49.ifPresent(entity::setF49);
+    }
+
+    static void apply(PlainDto50 dto, Entity50 entity) {
+        if (dto.f0 != null) entity.setF0(dto.f0);
+        if (dto.f1 != null) entity.setF1(dto.f1);
+        if (dto.f2 != null) entity.setF2(dto.f2);
+        if (dto.f3 != null) entity.setF3(dto.f3);
+        if (dto.f4 != null) entity.setF4(dto.f4);
+        if (dto.f5 != null) entity.setF5(dto.f5);
+        if (dto.f6 != null) entity.setF6(dto.f6);
+        if (dto.f7 != null) entity.setF7(dto.f7);
+        if (dto.f8 != null) entity.setF8(dto.f8);
+        if (dto.f9 != null) entity.setF9(dto.f9);
+        if (dto.f10 != null) entity.setF10(dto.f10);
+        if (dto.f11 != null) entity.setF11(dto.f11);
+        if (dto.f12 != null) entity.setF12(dto.f12);
+        if (dto.f13 != null) entity.setF13(dto.f13);
+        if (dto.f14 != null) entity.setF14(dto.f14);
+        if (dto.f15 != null) entity.setF15(dto.f15);
+        if (dto.f16 != null) entity.setF16(dto.f16);
+        if (dto.f17 != null) entity.setF17(dto.f17);
+        if (dto.f18 != null) entity.setF18(dto.f18);
+        if (dto.f19 != null) entity.setF19(dto.f19);
+        if (dto.f20 != null) entity.setF20(dto.f20);
+        if (dto.f21 != null) entity.setF21(dto.f21);
+        if (dto.f22 != null) entity.setF22(dto.f22);
+        if (dto.f23 != null) entity.setF23(dto.f23);
+        if (dto.f24 != null) entity.setF24(dto.f24);
+        if (dto.f25 != null) entity.setF25(dto.f25);
+        if (dto.f26 != null) entity.setF26(dto.f26);
+        if (dto.f27 != null) entity.setF27(dto.f27);
+        if (dto.f28 != null) entity.setF28(dto.f28);
+        if (dto.f29 != null) entity.setF29(dto.f29);
+        if (dto.f30 != null) entity.setF30(dto.f30);
+        if (dto.f31 != null) entity.setF31(dto.f31);
+        if (dto.f32 != null) entity.setF32(dto.f32);
+        if (dto.f33 != null) entity.setF33(dto.f33);
+        if (dto.f34 != null) entity.setF34(dto.f34);
+        if (dto.f35 != null) entity.setF35(dto.f35);
+        if (dto.f36 != null) entity.setF36(dto.f36);
+        if (dto.f37 != null) entity.setF37(dto.f37);
+        if (dto.f38 != null) entity.setF38(dto.f38);
+        if (dto.f39 != null) entity.setF39(dto.f39);
+        if (dto.f40 != null) entity.setF40(dto.f40);
+        if (dto.f41 != null) entity.setF41(dto.f41);
+        if (dto.f42 != null) entity.setF42(dto.f42);
+        if (dto.f43 != null) entity.setF43(dto.f43);
+        if (dto.f44 != null) entity.setF44(dto.f44);
+        if (dto.f45 != null) entity.setF45(dto.f45);
+        if (dto.f46 != null) entity.setF46(dto.f46);
+        if (dto.f47 != null) entity.setF47(dto.f47);
+        if (dto.f48 != null) entity.setF48(dto.f48);
+        if (dto.f49 != null) entity.setF49(dto.f49);
+    }
+
+    static void apply(PatchDto200 dto, Entity200 entity) {
+        dto.f0.ifPresent(entity::setF0);
+        dto.f1.ifPresent(entity::setF1);
+        dto.f2.ifPresent(entity::setF2);
+        dto.f3.ifPresent(entity::setF3);
+        dto.f4.ifPresent(entity::setF4);
+        dto.f5.ifPresent(entity::setF5);
+        dto.f6.ifPresent(entity::setF6);
+        dto.f7.ifPresent(entity::setF7);
+        dto.f8.ifPresent(entity::setF8);
+        dto.f9.ifPresent(entity::setF9);
+        dto.f10.ifPresent(entity::setF10);
+        dto.f11.ifPresent(entity::setF11);
+        dto.f12.ifPresent(entity::setF12);
+        dto.f13.ifPresent(entity::setF13);
+        dto.f14.ifPresent(entity::setF14);
+        dto.f15.ifPresent(entity::setF15);
+        dto.f16.ifPresent(entity::setF16);
+        dto.f17.ifPresent(entity::setF17);
+        dto.f18.ifPresent(entity::setF18);
+        dto.f19.ifPresent(entity::setF19);
+        dto.f20.ifPresent(entity::setF20);
+        dto.f21.ifPresent(entity::setF21);
+        dto.f22.ifPresent(entity::setF22);
+        dto.f23.ifPresent(entity::setF23);
+        dto.f24.ifPresent(entity::setF24);
+        dto.f25.ifPresent(entity::setF25);
+        dto.f26.ifPresent(entity::setF26);
+        dto.f27.ifPresent(entity::setF27);
+        dto.f28.ifPresent(entity::setF28);
+        dto.f29.ifPresent(entity::setF29);
+        dto.f30.ifPresent(entity::setF30);
+        dto.f31.ifPresent(entity::setF31);
+        dto.f32.ifPresent(entity::setF32);
+        dto.f33.ifPresent(entity::setF33);
+        dto.f34.ifPresent(entity::setF34);
+        dto.f35.ifPresent(entity::setF35);
+        dto.f36.ifPresent(entity::setF36);
+        dto.f37.ifPresent(entity::setF37);
+        dto.f38.ifPresent(entity::setF38);
+        dto.f39.ifPresent(entity::setF39);
+        dto.f40.ifPresent(entity::setF40);
+        dto.f41.ifPresent(entity::setF41);
+        dto.f42.ifPresent(entity::setF42);
+        dto.f43.ifPresent(entity::setF43);
+        dto.f44.ifPresent(entity::setF44);
+        dto.f45.ifPresent(entity::setF45);
+        dto.f46.ifPresent(entity::setF46);
+        dto.f47.ifPresent(entity::setF47);
+        dto.f48.ifPresent(entity::setF48);
+        dto.f49.ifPresent(entity::setF49);
+        dto.f50.ifPresent(entity::setF50);
+        dto.f51.ifPresent(entity::setF51);
+        dto.f52.ifPresent(entity::setF52);
+        dto.f53.ifPresent(entity::setF53);
+        dto.f54.ifPresent(entity::setF54);
+        dto.f55.ifPresent(entity::setF55);
+        dto.f56.ifPresent(entity::setF56);
+        dto.f57.ifPresent(entity::setF57);
+        dto.f58.ifPresent(entity::setF58);
+        dto.f59.ifPresent(entity::setF59);
+        dto.f60.ifPresent(entity::setF60);
+        dto.f61.ifPresent(entity::setF61);
+        dto.f62.ifPresent(entity::setF62);
+        dto.f63.ifPresent(entity::setF63);
+        dto.f64.ifPresent(entity::setF64);
+        dto.f65.ifPresent(entity::setF65);
+        dto.f66.ifPresent(entity::setF66);
+        dto.f67.ifPresent(entity::setF67);
+        dto.f68.ifPresent(entity::setF68);
+        dto.f69.ifPresent(entity::setF69);
+        dto.f70.ifPresent(entity::setF70);
+        dto.f71.ifPresent(entity::setF71);
+        dto.f72.ifPresent(entity::setF72);
+        dto.f73.ifPresent(entity::setF73);
+        dto.f74.ifPresent(entity::setF74);
+        dto.f75.ifPresent(entity::setF75);
+        dto.f76.ifPresent(entity::setF76);
+        dto.f77.ifPresent(entity::setF77);
+        dto.f78.ifPresent(entity::setF78);
+        dto.f79.ifPresent(entity::setF79);
+        dto.f80.ifPresent(entity::setF80);
+        dto.f81.ifPresent(entity::setF81);
+        dto.f82.ifPresent(entity::setF82);
+        dto.f83.ifPresent(entity::setF83);
+        dto.f84.ifPresent(entity::setF84);
+        dto.f85.ifPresent(entity::setF85);
+        dto.f86.ifPresent(entity::setF86);
+        dto.f87.ifPresent(entity::setF87);
+        dto.f88.ifPresent(entity::setF88);
+        dto.f89.ifPresent(entity::setF89);
+        dto.f90.ifPresent(entity::setF90);
+        dto.f91.ifPresent(entity::setF91);
+        dto.f92.ifPresent(entity::setF92);
+        dto.f93.ifPresent(entity::setF93);
+        dto.f94.ifPresent(entity::setF94);
+        dto.f95.ifPresent(entity::setF95);
+        dto.f96.ifPresent(entity::setF96);
+        dto.f97.ifPresent(entity::setF97);
+        dto.f98.ifPresent(entity::setF98);
+        dto.f99.ifPresent(entity::setF99);
+        dto.f100.ifPresent(entity::setF100);
+        dto.f101.ifPresent(entity::setF101);
+        dto.f102.ifPresent(entity::setF102);
+        dto.f103.ifPresent(entity::setF103);
+        dto.f104.ifPresent(entity::setF104);
+        dto.f105.ifPresent(entity::setF105);
+        dto.f106.ifPresent(entity::setF106);
+        dto.f107.ifPresent(entity::setF107);
+        dto.f108.ifPresent(entity::setF108);
+        dto.f109.ifPresent(entity::setF109);
+        dto.f110.ifPresent(entity::setF110);
+        dto.f111.ifPresent(entity::setF111);
+        dto.f112.ifPresent(entity::setF112);
+        dto.f113.ifPresent(entity::setF113);
+        dto.f114.ifPresent(entity::setF114);
+        dto.f115.ifPresent(entity::setF115);
+        dto.f116.ifPresent(entity::setF116);
+        dto.f117.ifPresent(entity::setF117);
+        dto.f118.ifPresent(entity::setF118);
+        dto.f119.ifPresent(entity::setF119);
+        dto.f120.ifPresent(entity::setF120);
+        dto.f121.ifPresent(entity::setF121);
+        dto.f122.ifPresent(entity::setF122);
+        dto.f123.ifPresent(entity::setF123);
+        dto.f124.ifPresent(entity::setF124);
+        dto.f125.ifPresent(entity::setF125);
+        dto.f126.ifPresent(entity::setF126);
+        dto.f127.ifPresent(entity::setF127);
+        dto.f128.ifPresent(entity::setF128);
+        dto.f129.ifPresent(entity::setF129);
+        dto.f130.ifPresent(entity::setF130);
+        dto.f131.ifPresent(entity::setF131);
+        dto.f132.ifPresent(entity::setF132);
+        dto.f133.ifPresent(entity::setF133);
+        dto.f134.ifPresent(entity::setF134);
+        dto.f135.ifPresent(entity::setF135);
+        dto.f136.ifPresent(entity::setF136);
+        dto.f137.ifPresent(entity::setF137);
+        dto.f138.ifPresent(entity::setF138);
+        dto.f139.ifPresent(entity::setF139);
+        dto.f140.ifPresent(entity::setF140);
+        dto.f141.ifPresent(entity::setF141);
+        dto.f142.ifPresent(entity::setF142);
+        dto.f143.ifPresent(entity::setF143);
+        dto.f144.ifPresent(entity::setF144);
+        dto.f145.ifPresent(entity::setF145);
+        dto.f146.ifPresent(entity::setF146);
+        dto.f147.ifPresent(entity::setF147);
+        dto.f148.ifPresent(entity::setF148);
+        dto.f149.ifPresent(entity::setF149);
+        dto.f150.ifPresent(entity::setF150);
+        dto.f151.ifPresent(entity::setF151);
+        dto.f152.ifPresent(entity::setF152);
+        dto.f153.ifPresent(entity::setF153);
+        dto.f154.ifPresent(entity::setF154);
+        dto.f155.ifPresent(entity::setF155);
+        dto.f156.ifPresent(entity::setF156);
+        dto.f157.ifPresent(entity::setF157);
+        dto.f158.ifPresent(entity::setF158);
+        dto.f159.ifPresent(entity::setF159);
+        dto.f160.ifPresent(entity::setF160);
+        dto.f161.ifPresent(entity::setF161);
+        dto.f162.ifPresent(entity::setF162);
+        dto.f163.ifPresent(entity::setF163);
+        dto.f164.ifPresent(entity::setF164);
+        dto.f165.ifPresent(entity::setF165);
+        dto.f166.ifPresent(entity::setF166);
+        dto.f167.ifPresent(entity::setF167);
+        dto.f168.ifPresent(entity::setF168);
+        dto.f169.ifPresent(entity::setF169);
+        dto.f170.ifPresent(entity::setF170);
+        dto.f171.ifPresent(entity::setF171);
+        dto.f172.ifPresent(entity::setF172);
+        dto.f173.ifPresent(entity::setF173);
+        dto.f174.ifPresent(entity::setF174);
+        dto.f175.ifPresent(entity::setF175);
+        dto.f176.ifPresent(entity::setF176);
+        dto.f177.ifPresent(entity::setF177);
+        dto.f178.ifPresent(entity::setF178);
+        dto.f179.ifPresent(entity::setF179);
+        dto.f180.ifPresent(entity::setF180);
+        dto.f181.ifPresent(entity::setF181);
+        dto.f182.ifPresent(entity::setF182);
+        dto.f183.ifPresent(entity::setF183);
+        dto.f184.ifPresent(entity::setF184);
+        dto.f185.ifPresent(entity::setF185);
+        dto.f186.ifPresent(entity::setF186);
+        dto.f187.ifPresent(entity::setF187);
+        dto.f188.ifPresent(entity::setF188);
+        dto.f189.ifPresent(entity::setF189);
+        dto.f190.ifPresent(entity::setF190);
+        dto.f191.ifPresent(entity::setF191);
+        dto.f192.ifPresent(entity::setF192);
+        dto.f193.ifPresent(entity::setF193);
+        dto.f194.ifPresent(entity::setF194);
+        dto.f195.ifPresent(entity::setF195);
+        dto.f196.ifPresent(entity::setF196);
+        dto.f197.ifPresent(entity::setF197);
+        dto.f198.ifPresent(entity::setF198);
+        dto.f199.ifPresent(entity::setF199);
+    }
+
+    static void apply(PlainDto200 dto, Entity200 entity) {
+        if (dto.f0 != null) entity.setF0(dto.f0);
+        if (dto.f1 != null) entity.setF1(dto.f1);
+        if (dto.f2 != null) entity.setF2(dto.f2);
+        if (dto.f3 != null) entity.setF3(dto.f3);
+        if (dto.f4 != null) entity.setF4(dto.f4);
+        if (dto.f5 != null) entity.setF5(dto.f5);
+        if (dto.f6 != null) entity.setF6(dto.f6);
+        if (dto.f7 != null) entity.setF7(dto.f7);
+        if (dto.f8 != null) entity.setF8(dto.f8);
+        if (dto.f9 != null) entity.setF9(dto.f9);
+        if (dto.f10 != null) entity.setF10(dto.f10);
+        if (dto.f11 != null) entity.setF11(dto.f11);
+        if (dto.f12 != null) entity.setF12(dto.f12);
+        if (dto.f13 != null) entity.setF13(dto.f13);
+        if (dto.f14 != null) entity.setF14(dto.f14);
+        if (dto.f15 != null) entity.setF15(dto.f15);
+        if (dto.f16 != null) entity.setF16(dto.f16);
+        if (dto.f17 != null) entity.setF17(dto.f17);
+        if (dto.f18 != null) entity.setF18(dto.f18);
+        if (dto.f19 != null) entity.setF19(dto.f19);
+        if (dto.f20 != null) entity.setF20(dto.f20);
+        if (dto.f21 != null) entity.setF21(dto.f21);
+        if (dto.f22 != null) entity.setF22(dto.f22);
+        if (dto.f23 != null) entity.setF23(dto.f23);
+        if (dto.f24 != null) entity.setF24(dto.f24);
+        if (dto.f25 != null) entity.setF25(dto.f25);
+        if (dto.f26 != null) entity.setF26(dto.f26);
+        if (dto.f27 != null) entity.setF27(dto.f27);
+        if (dto.f28 != null) entity.setF28(dto.f28);
+        if (dto.f29 != null) entity.setF29(dto.f29);
+        if (dto.f30 != null) entity.setF30(dto.f30);
+        if (dto.f31 != null) entity.setF31(dto.f31);
+        if (dto.f32 != null) entity.setF32(dto.f32);
+        if (dto.f33 != null) entity.setF33(dto.f33);
+        if (dto.f34 != null) entity.setF34(dto.f34);
+        if (dto.f35 != null) entity.setF35(dto.f35);
+        if (dto.f36 != null) entity.setF36(dto.f36);
+        if (dto.f37 != null) entity.setF37(dto.f37);
+        if (dto.f38 != null) entity.setF38(dto.f38);
+        if (dto.f39 != null) entity.setF39(dto.f39);
+        if (dto.f40 != null) entity.setF40(dto.f40);
+        if (dto.f41 != null) entity.setF41(dto.f41);
+        if (dto.f42 != null) entity.setF42(dto.f42);
+        if (dto.f43 != null) entity.setF43(dto.f43);
+        if (dto.f44 != null) entity.setF44(dto.f44);
+        if (dto.f45 != null) entity.setF45(dto.f45);
+        if (dto.f46 != null) entity.setF46(dto.f46);
+        if (dto.f47 != null) entity.setF47(dto.f47);
+        if (dto.f48 != null) entity.setF48(dto.f48);
+        if (dto.f49 != null) entity.setF49(dto.f49);
+        if (dto.f50 != null) entity.setF50(dto.f50);
+        if (dto.f51 != null) entity.setF51(dto.f51);
+        if (dto.f52 != null) entity.setF52(dto.f52);
+        if (dto.f53 != null) entity.setF53(dto.f53);
+        if (dto.f54 != null) entity.setF54(dto.f54);
+        if (dto.f55 != null) entity.setF55(dto.f55);
+        if (dto.f56 != null) entity.setF56(dto.f56);
+        if (dto.f57 != null) entity.setF57(dto.f57);
+        if (dto.f58 != null) entity.setF58(dto.f58);
+        if (dto.f59 != null) entity.setF59(dto.f59);
+        if (dto.f60 != null) entity.setF60(dto.f60);
+        if (dto.f61 != null) entity.setF61(dto.f61);
+        if (dto.f62 != null) entity.setF62(dto.f62);
+        if (dto.f63 != null) entity.setF63(dto.f63);
+        if (dto.f64 != null) entity.setF64(dto.f64);
+        if (dto.f65 != null) entity.setF65(dto.f65);
+        if (dto.f66 != null) entity.setF66(dto.f66);
+        if (dto.f67 != null) entity.setF67(dto.f67);
+        if (dto.f68 != null) entity.setF68(dto.f68);
+        if (dto.f69 != null) entity.setF69(dto.f69);
+        if (dto.f70 != null) entity.setF70(dto.f70);
+        if (dto.f71 != null) entity.setF71(dto.f71);
+        if (dto.f72 != null) entity.setF72(dto.f72);
+        if (dto.f73 != null) entity.setF73(dto.f73);
+        if (dto.f74 != null) entity.setF74(dto.f74);
+        if (dto.f75 != null) entity.setF75(dto.f75);
+        if (dto.f76 != null) entity.setF76(dto.f76);
+        if (dto.f77 != null) entity.setF77(dto.f77);
+        if (dto.f78 != null) entity.setF78(dto.f78);
+        if (dto.f79 != null) entity.setF79(dto.f79);
+        if (dto.f80 != null) entity.setF80(dto.f80);
+        if (dto.f81 != null) entity.setF81(dto.f81);
+        if (dto.f82 != null) entity.setF82(dto.f82);
+        if (dto.f83 != null) entity.setF83(dto.f83);
+        if (dto.f84 != null) entity.setF84(dto.f84);
+        if (dto.f85 != null) entity.setF85(dto.f85);
+        if (dto.f86 != null) entity.setF86(dto.f86);
+        if (dto.f87 != null) entity.setF87(dto.f87);
+        if (dto.f88 != null) entity.setF88(dto.f88);
+        if (dto.f89 != null) entity.setF89(dto.f89);
+        if (dto.f90 != null) entity.setF90(dto.f90);
+        if (dto.f91 != null) entity.setF91(dto.f91);
+        if (dto.f92 != null) entity.setF92(dto.f92);
+        if (dto.f93 != null) entity.setF93(dto.f93);
+        if (dto.f94 != null) entity.setF94(dto.f94);
+        if (dto.f95 != null) entity.setF95(dto.f95);
+        if (dto.f96 != null) entity.setF96(dto.f96);
+        if (dto.f97 != null) entity.setF97(dto.f97);
+        if (dto.f98 != null) entity.setF98(dto.f98);
+        if (dto.f99 != null) entity.setF99(dto.f99);
+        if (dto.f100 != null) entity.setF100(dto.f100);
+        if (dto.f101 != null) entity.setF101(dto.f101);
+        if (dto.f102 != null) entity.setF102(dto.f102);
+        if (dto.f103 != null) entity.setF103(dto.f103);
+        if (dto.f104 != null) entity.setF104(dto.f104);
+        if (dto.f105 != null) entity.setF105(dto.f105);
+        if (dto.f106 != null) entity.setF106(dto.f106);
+        if (dto.f107 != null) entity.setF107(dto.f107);
+        if (dto.f108 != null) entity.setF108(dto.f108);
+        if (dto.f109 != null) entity.setF109(dto.f109);
+        if (dto.f110 != null) entity.setF110(dto.f110);
+        if (dto.f111 != null) entity.setF111(dto.f111);
+        if (dto.f112 != null) entity.setF112(dto.f112);
+        if (dto.f113 != null) entity.setF113(dto.f113);
+        if (dto.f114 != null) entity.setF114(dto.f114);
+        if (dto.f115 != null) entity.setF115(dto.f115);
+        if (dto.f116 != null) entity.setF116(dto.f116);
+        if (dto.f117 != null) entity.setF117(dto.f117);
+        if (dto.f118 != null) entity.setF118(dto.f118);
+        if (dto.f119 != null) entity.setF119(dto.f119);
+        if (dto.f120 != null) entity.setF120(dto.f120);
+        if (dto.f121 != null) entity.setF121(dto.f121);
+        if (dto.f122 != null) entity.setF122(dto.f122);
+        if (dto.f123 != null) entity.setF123(dto.f123);
+        if (dto.f124 != null) entity.setF124(dto.f124);
+        if (dto.f125 != null) entity.setF125(dto.f125);
+        if (dto.f126 != null) entity.setF126(dto.f126);
+        if (dto.f127 != null) entity.setF127(dto.f127);
+        if (dto.f128 != null) entity.setF128(dto.f128);
+        if (dto.f129 != null) entity.setF129(dto.f129);
+        if (dto.f130 != null) entity.setF130(dto.f130);
+        if (dto.f131 != null) entity.setF131(dto.f131);
+        if (dto.f132 != null) entity.setF132(dto.f132);
+        if (dto.f133 != null) entity.setF133(dto.f133);
+        if (dto.f134 != null) entity.setF134(dto.f134);
+        if (dto.f135 != null) entity.setF135(dto.f135);
+        if (dto.f136 != null) entity.setF136(dto.f136);
+        if (dto.f137 != null) entity.setF137(dto.f137);
+        if (dto.f138 != null) entity.setF138(dto.f138);
+        if (dto.f139 != null) entity.setF139(dto.f139);
+        if (dto.f140 != null) entity.setF140(dto.f140);
+        if (dto.f141 != null) entity.setF141(dto.f141);
+        if (dto.f142 != null) entity.setF142(dto.f142);
+        if (dto.f143 != null) entity.setF143(dto.f143);
+        if (dto.f144 != null) entity.setF144(dto.f144);
+        if (dto.f145 != null) entity.setF145(dto.f145);
+        if (dto.f146 != null) entity.setF146(dto.f146);
+        if (dto.f147 != null) entity.setF147(dto.f147);
+        if (dto.f148 != null) entity.setF148(dto.f148);
+        if (dto.f149 != null) entity.setF149(dto.f149);
+        if (dto.f150 != null) entity.setF150(dto.f150);
+        if (dto.f151 != null) entity.setF151(dto.f151);
+        if (dto.f152 != null) entity.setF152(dto.f152);
+        if (dto.f153 != null) entity.setF153(dto.f153);
+        if (dto.f154 != null) entity.setF154(dto.f154);
+        if (dto.f155 != null) entity.setF155(dto.f155);
+        if (dto.f156 != null) entity.setF156(dto.f156);
+        if (dto.f157 != null) entity.setF157(dto.f157);
+        if (dto.f158 != null) entity.setF158(dto.f158);
+        if (dto.f159 != null) entity.setF159(dto.f159);
+        if (dto.f160 != null) entity.setF160(dto.f160);
+        if (dto.f161 != null) entity.setF161(dto.f161);
+        if (dto.f162 != null) entity.setF162(dto.f162);
+        if (dto.f163 != null) entity.setF163(dto.f163);
+        if (dto.f164 != null) entity.setF164(dto.f164);
+        if (dto.f165 != null) entity.setF165(dto.f165);
+        if (dto.f166 != null) entity.setF166(dto.f166);
+        if (dto.f167 != null) entity.setF167(dto.f167);
+        if (dto.f168 != null) entity.setF168(dto.f168);
+        if (dto.f169 != null) entity.setF169(dto.f169);
+        if (dto.f170 != null) entity.setF170(dto.f170);
+        if (dto.f171 != null) entity.setF171(dto.f171);
+        if (dto.f172 != null) entity.setF172(dto.f172);
+        if (dto.f173 != null) entity.setF173(dto.f173);
+        if (dto.f174 != null) entity.setF174(dto.f174);
+        if (dto.f175 != null) entity.setF175(dto.f175);
+        if (dto.f176 != null) entity.setF176(dto.f176);
+        if (dto.f177 != null) entity.setF177(dto.f177);
+        if (dto.f178 != null) entity.setF178(dto.f178);
+        if (dto.f179 != null) entity.setF179(dto.f179);
+        if (dto.f180 != null) entity.setF180(dto.f180);
+        if (dto.f181 != null) entity.setF181(dto.f181);
+        if (dto.f182 != null) entity.setF182(dto.f182);
+        if (dto.f183 != null) entity.setF183(dto.f183);
+        if (dto.f184 != null) entity.setF184(dto.f184);
+        if (dto.f185 != null) entity.setF185(dto.f185);
+        if (dto.f186 != null) entity.setF186(dto.f186);
+        if (dto.f187 != null) entity.setF187(dto.f187);
+        if (dto.f188 != null) entity.setF188(dto.f188);
+        if (dto.f189 != null) entity.setF189(dto.f189);
+        if (dto.f190 != null) entity.setF190(dto.f190);
+        if (dto.f191 != null) entity.setF191(dto.f191);
+        if (dto.f192 != null) entity.setF192(dto.f192);
+        if (dto.f193 != null) entity.setF193(dto.f193);
+        if (dto.f194 != null) entity.setF194(dto.f194);
+        if (dto.f195 != null) entity.setF195(dto.f195);
+        if (dto.f196 != null) entity.setF196(dto.f196);
+        if (dto.f197 != null) entity.setF197(dto.f197);
+        if (dto.f198 != null) entity.setF198(dto.f198);
+        if (dto.f199 != null) entity.setF199(dto.f199);
+    }
+}
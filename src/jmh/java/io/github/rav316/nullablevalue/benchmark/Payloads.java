@@ -0,0 +1,48 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import java.nio.charset.StandardCharsets;
+
+final class Payloads {
+
+    private Payloads() {
+    }
+
+    static byte[] json(int fields, String presence) {
+        int stride = switch (presence) {
+            case "dense" -> 1;
+            case "sparse" -> 10;
+            case "5pct" -> 20;
+            default -> throw new IllegalArgumentException("Unsupported presence: " + presence);
+        };
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < fields; i += stride) {
+            if (sb.length() > 1) sb.append(',');
+            sb.append("\"f").append(i).append("\":");
+            switch (i % 4) {
+                case 0 -> sb.append("\"value-").append(i).append('"');
+                case 1 -> sb.append(i);
+                case 2 -> sb.append(i * 1_000_000_000L);
+                default -> sb.append(i % 8 == 3);
+            }
+        }
+        return sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static Class<?> patchType(int fields) {
+        return switch (fields) {
+            case 10 -> PatchDto10.class;
+            case 50 -> PatchDto50.class;
+            case 200 -> PatchDto200.class;
+            default -> throw new IllegalArgumentException("Unsupported field count: " + fields);
+        };
+    }
+
+    static Class<?> plainType(int fields) {
+        return switch (fields) {
+            case 10 -> PlainDto10.class;
+            case 50 -> PlainDto50.class;
+            case 200 -> PlainDto200.class;
+            default -> throw new IllegalArgumentException("Unsupported field count: " + fields);
+        };
+    }
+}
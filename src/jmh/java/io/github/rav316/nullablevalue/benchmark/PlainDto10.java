@@ -0,0 +1,19 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+public class PlainDto10 {
+
+    public @Size(max = 64) String f0;
+    public @Min(0) Integer f1;
+    public @PositiveOrZero Long f2;
+    public Boolean f3;
+    public @Size(max = 64) String f4;
+    public @Min(0) Integer f5;
+    public @PositiveOrZero Long f6;
+    public Boolean f7;
+    public @Size(max = 64) String f8;
+    public @Min(0) Integer f9;
+}
@@ -0,0 +1,209 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+public class PlainDto200 {
+
+    public @Size(max = 64) String f0;
+    public @Min(0) Integer f1;
+    public @PositiveOrZero Long f2;
+    public Boolean f3;
+    public @Size(max = 64) String f4;
+    public @Min(0) Integer f5;
+    public @PositiveOrZero Long f6;
+    public Boolean f7;
+    public @Size(max = 64) String f8;
+    public @Min(0) Integer f9;
+    public @PositiveOrZero Long f10;
+    public Boolean f11;
+    public @Size(max = 64) String f12;
+    public @Min(0) Integer f13;
+    public @PositiveOrZero Long f14;
+    public Boolean f15;
+    public @Size(max = 64) String f16;
+    public @Min(0) Integer f17;
+    public @PositiveOrZero Long f18;
+    public Boolean f19;
+    public @Size(max = 64) String f20;
+    public @Min(0) Integer f21;
+    public @PositiveOrZero Long f22;
+    public Boolean f23;
+    public @Size(max = 64) String f24;
+    public @Min(0) Integer f25;
+    public @PositiveOrZero Long f26;
+    public Boolean f27;
+    public @Size(max = 64) String f28;
+    public @Min(0) Integer f29;
+    public @PositiveOrZero Long f30;
+    public Boolean f31;
+    public @Size(max = 64) String f32;
+    public @Min(0) Integer f33;
+    public @PositiveOrZero Long f34;
+    public Boolean f35;
+    public @Size(max = 64) String f36;
+    public @Min(0) Integer f37;
+    public @PositiveOrZero Long f38;
+    public Boolean f39;
+    public @Size(max = 64) String f40;
+    public @Min(0) Integer f41;
+    public @PositiveOrZero Long f42;
+    public Boolean f43;
+    public @Size(max = 64) String f44;
+    public @Min(0) Integer f45;
+    public @PositiveOrZero Long f46;
+    public Boolean f47;
+    public @Size(max = 64) String f48;
+    public @Min(0) Integer f49;
+    public @PositiveOrZero Long f50;
+    public Boolean f51;
+    public @Size(max = 64) String f52;
+    public @Min(0) Integer f53;
+    public @PositiveOrZero Long f54;
+    public Boolean f55;
+    public @Size(max = 64) String f56;
+    public @Min(0) Integer f57;
+    public @PositiveOrZero Long f58;
+    public Boolean f59;
+    public @Size(max = 64) String f60;
+    public @Min(0) Integer f61;
+    public @PositiveOrZero Long f62;
+    public Boolean f63;
+    public @Size(max = 64) String f64;
+    public @Min(0) Integer f65;
+    public @PositiveOrZero Long f66;
+    public Boolean f67;
+    public @Size(max = 64) String f68;
+    public @Min(0) Integer f69;
+    public @PositiveOrZero Long f70;
+    public Boolean f71;
+    public @Size(max = 64) String f72;
+    public @Min(0) Integer f73;
+    public @PositiveOrZero Long f74;
+    public Boolean f75;
+    public @Size(max = 64) String f76;
+    public @Min(0) Integer f77;
+    public @PositiveOrZero Long f78;
+    public Boolean f79;
+    public @Size(max = 64) String f80;
+    public @Min(0) Integer f81;
+    public @PositiveOrZero Long f82;
+    public Boolean f83;
+    public @Size(max = 64) String f84;
+    public @Min(0) Integer f85;
+    public @PositiveOrZero Long f86;
+    public Boolean f87;
+    public @Size(max = 64) String f88;
+    public @Min(0) Integer f89;
+    public @PositiveOrZero Long f90;
+    public Boolean f91;
+    public @Size(max = 64) String f92;
+    public @Min(0) Integer f93;
+    public @PositiveOrZero Long f94;
+    public Boolean f95;
+    public @Size(max = 64) String f96;
+    public @Min(0) Integer f97;
+    public @PositiveOrZero Long f98;
+    public Boolean f99;
+    public @Size(max = 64) String f100;
+    public @Min(0) Integer f101;
+    public @PositiveOrZero Long f102;
+    public Boolean f103;
+    public @Size(max = 64) String f104;
+    public @Min(0) Integer f105;
+    public @PositiveOrZero Long f106;
+    public Boolean f107;
+    public @Size(max = 64) String f108;
+    public @Min(0) Integer f109;
+    public @PositiveOrZero Long f110;
+    public Boolean f111;
+    public @Size(max = 64) String f112;
+    public @Min(0) Integer f113;
+    public @PositiveOrZero Long f114;
+    public Boolean f115;
+    public @Size(max = 64) String f116;
+    public @Min(0) Integer f117;
+    public @PositiveOrZero Long f118;
+    public Boolean f119;
+    public @Size(max = 64) String f120;
+    public @Min(0) Integer f121;
+    public @PositiveOrZero Long f122;
+    public Boolean f123;
+    public @Size(max = 64) String f124;
+    public @Min(0) Integer f125;
+    public @PositiveOrZero Long f126;
+    public Boolean f127;
+    public @Size(max = 64) String f128;
+    public @Min(0) Integer f129;
+    public @PositiveOrZero Long f130;
+    public Boolean f131;
+    public @Size(max = 64) String f132;
+    public @Min(0) Integer f133;
+    public @PositiveOrZero Long f134;
+    public Boolean f135;
+    public @Size(max = 64) String f136;
+    public @Min(0) Integer f137;
+    public @PositiveOrZero Long f138;
+    public Boolean f139;
+    public @Size(max = 64) String f140;
+    public @Min(0) Integer f141;
+    public @PositiveOrZero Long f142;
+    public Boolean f143;
+    public @Size(max = 64) String f144;
+    public @Min(0) Integer f145;
+    public @PositiveOrZero Long f146;
+    public Boolean f147;
+    public @Size(max = 64) String f148;
+    public @Min(0) Integer f149;
+    public @PositiveOrZero Long f150;
+    public Boolean f151;
+    public @Size(max = 64) String f152;
+    public @Min(0) Integer f153;
+    public @PositiveOrZero Long f154;
+    public Boolean f155;
+    public @Size(max = 64) String f156;
+    public @Min(0) Integer f157;
+    public @PositiveOrZero Long f158;
+    public Boolean f159;
+    public @Size(max = 64) String f160;
+    public @Min(0) Integer f161;
+    public @PositiveOrZero Long f162;
+    public Boolean f163;
+    public @Size(max = 64) String f164;
+    public @Min(0) Integer f165;
+    public @PositiveOrZero Long f166;
+    public Boolean f167;
+    public @Size(max = 64) String f168;
+    public @Min(0) Integer f169;
+    public @PositiveOrZero Long f170;
+    public Boolean f171;
+    public @Size(max = 64) String f172;
+    public @Min(0) Integer f173;
+    public @PositiveOrZero Long f174;
+    public Boolean f175;
+    public @Size(max = 64) String f176;
+    public @Min(0) Integer f177;
+    public @PositiveOrZero Long f178;
+    public Boolean f179;
+    public @Size(max = 64) String f180;
+    public @Min(0) Integer f181;
+    public @PositiveOrZero Long f182;
+    public Boolean f183;
+    public @Size(max = 64) String f184;
+    public @Min(0) Integer f185;
+    public @PositiveOrZero Long f186;
+    public Boolean f187;
+    public @Size(max = 64) String f188;
+    public @Min(0) Integer f189;
+    public @PositiveOrZero Long f190;
+    public Boolean f191;
+    public @Size(max = 64) String f192;
+    public @Min(0) Integer f193;
+    public @PositiveOrZero Long f194;
+    public Boolean f195;
+    public @Size(max = 64) String f196;
+    public @Min(0) Integer f197;
+    public @PositiveOrZero Long f198;
+    public Boolean f199;
+}
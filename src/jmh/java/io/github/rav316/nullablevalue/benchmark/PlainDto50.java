@@ -0,0 +1,59 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+public class PlainDto50 {
+
+    public @Size(max = 64) String f0;
+    public @Min(0) Integer f1;
+    public @PositiveOrZero Long f2;
+    public Boolean f3;
+    public @Size(max = 64) String f4;
+    public @Min(0) Integer f5;
+    public @PositiveOrZero Long f6;
+    public Boolean f7;
+    public @Size(max = 64) String f8;
+    public @Min(0) Integer f9;
+    public @PositiveOrZero Long f10;
+    public Boolean f11;
+    public @Size(max = 64) String f12;
+    public @Min(0) Integer f13;
+    public @PositiveOrZero Long f14;
+    public Boolean f15;
+    public @Size(max = 64) String f16;
+    public @Min(0) Integer f17;
+    public @PositiveOrZero Long f18;
+    public Boolean f19;
+    public @Size(max = 64) String f20;
+    public @Min(0) Integer f21;
+    public @PositiveOrZero Long f22;
+    public Boolean f23;
+    public @Size(max = 64) String f24;
+    public @Min(0) Integer f25;
+    public @PositiveOrZero Long f26;
+    public Boolean f27;
+    public @Size(max = 64) String f28;
+    public @Min(0) Integer f29;
+    public @PositiveOrZero Long f30;
+    public Boolean f31;
+    public @Size(max = 64) String f32;
+    public @Min(0) Integer f33;
+    public @PositiveOrZero Long f34;
+    public Boolean f35;
+    public @Size(max = 64) String f36;
+    public @Min(0) Integer f37;
+    public @PositiveOrZero Long f38;
+    public Boolean f39;
+    public @Size(max = 64) String f40;
+    public @Min(0) Integer f41;
+    public @PositiveOrZero Long f42;
+    public Boolean f43;
+    public @Size(max = 64) String f44;
+    public @Min(0) Integer f45;
+    public @PositiveOrZero Long f46;
+    public Boolean f47;
+    public @Size(max = 64) String f48;
+    public @Min(0) Integer f49;
+}
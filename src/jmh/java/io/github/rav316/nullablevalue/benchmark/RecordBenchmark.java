@@ -0,0 +1,49 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValueModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RecordBenchmark {
+
+    @Param({"sparse", "dense"})
+    public String presence;
+
+    private byte[] payload;
+    private ObjectReader beanReader;
+    private ObjectReader recordReader;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        payload = Payloads.json(10, presence);
+        beanReader = mapper.readerFor(PatchDto10.class);
+        recordReader = mapper.readerFor(PatchRecord10.class);
+    }
+
+    @Benchmark
+    public Object deserializeBean() {
+        return beanReader.readValue(payload);
+    }
+
+    @Benchmark
+    public Object deserializeRecord() {
+        return recordReader.readValue(payload);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValueModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SerializationBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int fields;
+
+    @Param({"sparse", "dense"})
+    public String presence;
+
+    private Object patch;
+    private Object plain;
+    private ObjectWriter patchWriter;
+    private ObjectWriter plainWriter;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        byte[] payload = Payloads.json(fields, presence);
+        patch = mapper.readValue(payload, Payloads.patchType(fields));
+        plain = mapper.readValue(payload, Payloads.plainType(fields));
+        patchWriter = mapper.writerFor(Payloads.patchType(fields));
+        plainWriter = mapper.writerFor(Payloads.plainType(fields));
+    }
+
+    @Benchmark
+    public byte[] nullableValue() {
+        return patchWriter.writeValueAsBytes(patch);
+    }
+
+    @Benchmark
+    public byte[] plain() {
+        return plainWriter.writeValueAsBytes(plain);
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.rav316.nullablevalue.benchmark;
+
+import io.github.rav316.nullablevalue.NullableValueModule;
+import io.github.rav316.nullablevalue.validation.NullableValueValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ValidationBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int fields;
+
+    @Param({"5pct", "sparse", "dense"})
+    public String presence;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Validator fastPathValidator;
+    private Object patch;
+    private Object plain;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+        byte[] payload = Payloads.json(fields, presence);
+        patch = mapper.readValue(payload, Payloads.patchType(fields));
+        plain = mapper.readValue(payload, Payloads.plainType(fields));
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        fastPathValidator = new NullableValueValidator(validator);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<?> nullableValue() {
+        return validator.validate(patch);
+    }
+
+    @Benchmark
+    public Set<?> nullableValueFastPath() {
+        return fastPathValidator.validate(patch);
+    }
+
+    @Benchmark
+    public Set<?> plain() {
+        return validator.validate(plain);
+    }
+}
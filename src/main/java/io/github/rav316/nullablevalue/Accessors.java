@@ -0,0 +1,265 @@
+package io.github.rav316.nullablevalue;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+final class Accessors {
+
+    private Accessors() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> getter(Method method) {
+        MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+        MethodHandle handle = unreflect(lookup, method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle, handle.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return getter(handle);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> setter(Method method) {
+        MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+        MethodHandle handle = unreflect(lookup, method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle, handle.type().wrap().changeReturnType(void.class));
+            return (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return setter(handle);
+        }
+    }
+
+    // primitive getters widen to long/double instead of boxing; LMF accepts widening return conversions
+    @SuppressWarnings("unchecked")
+    static ToLongFunction<Object> longGetter(Method method) {
+        MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+        MethodHandle handle = unreflect(lookup, method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "applyAsLong",
+                    MethodType.methodType(ToLongFunction.class),
+                    MethodType.methodType(long.class, Object.class),
+                    handle, handle.type().changeReturnType(long.class));
+            return (ToLongFunction<Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return longGetter(handle);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static ToDoubleFunction<Object> doubleGetter(Method method) {
+        MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+        MethodHandle handle = unreflect(lookup, method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "applyAsDouble",
+                    MethodType.methodType(ToDoubleFunction.class),
+                    MethodType.methodType(double.class, Object.class),
+                    handle, handle.type().changeReturnType(double.class));
+            return (ToDoubleFunction<Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return doubleGetter(handle);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Predicate<Object> booleanGetter(Method method) {
+        MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+        MethodHandle handle = unreflect(lookup, method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "test",
+                    MethodType.methodType(Predicate.class),
+                    MethodType.methodType(boolean.class, Object.class),
+                    handle, handle.type());
+            return (Predicate<Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return booleanGetter(handle);
+        }
+    }
+
+    static ToLongFunction<Object> longGetter(Field field) {
+        return longGetter(unreflectGetter(field));
+    }
+
+    static ToDoubleFunction<Object> doubleGetter(Field field) {
+        return doubleGetter(unreflectGetter(field));
+    }
+
+    static Predicate<Object> booleanGetter(Field field) {
+        return booleanGetter(unreflectGetter(field));
+    }
+
+    static Function<Object, Object> getter(Field field) {
+        MethodHandles.Lookup lookup = lookup(field.getDeclaringClass());
+        try {
+            return getter(lookup.unreflectGetter(field));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access field " + field, e);
+        }
+    }
+
+    static BiConsumer<Object, Object> setter(Field field) {
+        MethodHandles.Lookup lookup = lookup(field.getDeclaringClass());
+        try {
+            return setter(lookup.unreflectSetter(field));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access field " + field, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Supplier<Object> constructor(Class<?> type) {
+        MethodHandles.Lookup lookup = lookup(type);
+        MethodHandle handle;
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            handle = lookup.unreflectConstructor(constructor);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(type.getName() + " has no accessible no-arg constructor", e);
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    handle, handle.type());
+            return (Supplier<Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+            return () -> {
+                try {
+                    return generic.invokeExact();
+                } catch (Throwable t) {
+                    throw rethrow(t);
+                }
+            };
+        }
+    }
+
+    // spreads the argument array over the constructor parameters, unboxing primitives
+    static Function<Object[], Object> constructor(Constructor<?> constructor) {
+        MethodHandle handle;
+        try {
+            handle = lookup(constructor.getDeclaringClass()).unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access constructor " + constructor, e);
+        }
+        MethodHandle spread = handle.asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return args -> {
+            try {
+                return spread.invokeExact(args);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException e) return e;
+        if (t instanceof Error e) throw e;
+        return new UndeclaredThrowableException(t);
+    }
+
+    private static Function<Object, Object> getter(MethodHandle handle) {
+        MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> {
+            try {
+                return generic.invokeExact(bean);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    private static ToLongFunction<Object> longGetter(MethodHandle handle) {
+        MethodHandle generic = handle.asType(MethodType.methodType(long.class, Object.class));
+        return bean -> {
+            try {
+                return (long) generic.invokeExact(bean);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    private static ToDoubleFunction<Object> doubleGetter(MethodHandle handle) {
+        MethodHandle generic = handle.asType(MethodType.methodType(double.class, Object.class));
+        return bean -> {
+            try {
+                return (double) generic.invokeExact(bean);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    private static Predicate<Object> booleanGetter(MethodHandle handle) {
+        MethodHandle generic = handle.asType(MethodType.methodType(boolean.class, Object.class));
+        return bean -> {
+            try {
+                return (boolean) generic.invokeExact(bean);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    private static MethodHandle unreflectGetter(Field field) {
+        try {
+            return lookup(field.getDeclaringClass()).unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access field " + field, e);
+        }
+    }
+
+    private static BiConsumer<Object, Object> setter(MethodHandle handle) {
+        MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (bean, value) -> {
+            try {
+                generic.invokeExact(bean, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access method " + method, e);
+        }
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.publicLookup();
+        }
+    }
+}
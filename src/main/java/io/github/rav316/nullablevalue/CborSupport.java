@@ -0,0 +1,44 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.dataformat.cbor.CBORGenerator;
+
+// only touched once CBOR_PRESENT has confirmed jackson-dataformat-cbor is on the classpath
+final class CborSupport {
+
+    static final boolean CBOR_PRESENT = isPresent();
+
+    private static final byte UNDEFINED = (byte) 0xF7;
+
+    private CborSupport() {
+    }
+
+    static boolean isCbor(JsonGenerator gen) {
+        return CBOR_PRESENT && Holder.isCbor(gen);
+    }
+
+    // writeRaw bypasses element counting, so this is only safe inside indefinite-length arrays
+    static void writeUndefined(JsonGenerator gen) {
+        Holder.writeUndefined(gen);
+    }
+
+    private static boolean isPresent() {
+        try {
+            Class.forName("tools.jackson.dataformat.cbor.CBORGenerator", false, CborSupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static final class Holder {
+
+        private static boolean isCbor(JsonGenerator gen) {
+            return gen instanceof CBORGenerator;
+        }
+
+        private static void writeUndefined(JsonGenerator gen) {
+            ((CBORGenerator) gen).writeRaw(UNDEFINED);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.databind.JavaType;
+
+final class JacksonTypes {
+
+    private JacksonTypes() {
+    }
+
+    // walks collection, map, array and reference content types down to the NullableValue element
+    static JavaType nullableContentType(JavaType type) {
+        while (type != null && !type.hasRawClass(NullableValue.class)) {
+            type = type.getContentType();
+        }
+        return type != null ? type.containedType(0) : null;
+    }
+
+    // like nullableContentType, but also looks inside NullableValue, which Jackson does not model as a reference type
+    static JavaType elementType(JavaType type, Class<?> rawClass) {
+        while (type != null && !type.hasRawClass(rawClass)) {
+            type = type.hasRawClass(NullableValue.class) ? type.containedType(0) : type.getContentType();
+        }
+        return type;
+    }
+
+    static boolean isWrapper(JavaType type) {
+        return type.hasRawClass(NullableValue.class) || type.hasRawClass(NullableValueMap.class);
+    }
+}
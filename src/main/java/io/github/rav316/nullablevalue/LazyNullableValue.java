@@ -0,0 +1,72 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.util.TokenBuffer;
+
+// equals and hashCode compare content and therefore bind; toString does not
+final class LazyNullableValue<T> extends NullableValue<T> {
+
+    private final TokenBuffer raw;
+    private ObjectReader reader;
+    private volatile boolean bound;
+    private T value;
+
+    // the reader carries the configuration of the call that captured the value; nothing of the call itself is kept
+    LazyNullableValue(TokenBuffer raw, ObjectReader reader) {
+        this.raw = raw;
+        this.reader = reader;
+    }
+
+    @Override
+    T content() {
+        if (!bound) {
+            bind();
+        }
+        return value;
+    }
+
+    boolean isBound() {
+        return bound;
+    }
+
+    void writeRaw(JsonGenerator gen) {
+        raw.serialize(gen);
+    }
+
+    @Override
+    public String toString() {
+        return bound ? super.toString() : "NullableValue[unbound]";
+    }
+
+    // each value binds in a context of its own, so values of one payload can bind concurrently
+    private synchronized void bind() {
+        if (bound) {
+            return;
+        }
+        try (JsonParser p = raw.asParser()) {
+            value = reader.readValue(p);
+        }
+        reader = null;
+        bound = true;
+    }
+
+    // the mapper a NullableValueModule was registered with, known once the module is set up; lazy deserializers are
+    // interned per owner since they bind through its mapper
+    static final class Owner {
+
+        final WeakInterner<ValueDeserializer<Object>, NullableValueDeserializer> interned = new WeakInterner<>();
+        private volatile ObjectMapper mapper;
+
+        ObjectMapper mapper() {
+            return mapper;
+        }
+
+        void mapper(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.rav316.nullablevalue;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+public final class NullableBoolean {
+
+    private static final byte UNDEFINED_STATE = 0;
+    private static final byte NULL_STATE = 1;
+    private static final byte VALUE_STATE = 2;
+
+    private static final NullableBoolean UNDEFINED = new NullableBoolean(false, UNDEFINED_STATE);
+    private static final NullableBoolean NULL = new NullableBoolean(false, NULL_STATE);
+    private static final NullableBoolean TRUE = new NullableBoolean(true, VALUE_STATE);
+    private static final NullableBoolean FALSE = new NullableBoolean(false, VALUE_STATE);
+
+    private final boolean value;
+    private final byte state;
+
+    private NullableBoolean(boolean value, byte state) {
+        this.value = value;
+        this.state = state;
+    }
+
+    public static NullableBoolean undefined() {
+        return UNDEFINED;
+    }
+
+    public static NullableBoolean ofNull() {
+        return NULL;
+    }
+
+    public static NullableBoolean of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    public static NullableBoolean of(Boolean value) {
+        return value == null ? NULL : of(value.booleanValue());
+    }
+
+    public boolean isPresent() {
+        return state != UNDEFINED_STATE;
+    }
+
+    public boolean isNull() {
+        return state == NULL_STATE;
+    }
+
+    public boolean hasValue() {
+        return state == VALUE_STATE;
+    }
+
+    public boolean getAsBoolean() {
+        if (state != VALUE_STATE) {
+            throw new NoSuchElementException(state == NULL_STATE ? "Value is null" : "Value is undefined");
+        }
+        return value;
+    }
+
+    public boolean orElse(boolean other) {
+        return state == VALUE_STATE ? value : other;
+    }
+
+    public void ifPresent(Consumer<? super Boolean> action) {
+        if (state == VALUE_STATE) {
+            action.accept(value);
+        } else if (state == NULL_STATE) {
+            action.accept(null);
+        }
+    }
+
+    public NullableValue<Boolean> boxed() {
+        return switch (state) {
+            case VALUE_STATE -> NullableValue.of(value);
+            case NULL_STATE -> NullableValue.of(null);
+            default -> NullableValue.undefined();
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NullableBoolean that)) return false;
+        return state == that.state && value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Boolean.hashCode(value) + state;
+    }
+
+    @Override
+    public String toString() {
+        return switch (state) {
+            case VALUE_STATE -> "NullableBoolean[" + value + "]";
+            case NULL_STATE -> "NullableBoolean[null]";
+            default -> "NullableBoolean.undefined";
+        };
+    }
+}
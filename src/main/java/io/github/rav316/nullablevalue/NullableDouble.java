@@ -0,0 +1,105 @@
+package io.github.rav316.nullablevalue;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+public final class NullableDouble {
+
+    private static final byte UNDEFINED_STATE = 0;
+    private static final byte NULL_STATE = 1;
+    private static final byte VALUE_STATE = 2;
+
+    private static final NullableDouble UNDEFINED = new NullableDouble(0, UNDEFINED_STATE);
+    private static final NullableDouble NULL = new NullableDouble(0, NULL_STATE);
+
+    private final double value;
+    private final byte state;
+
+    private NullableDouble(double value, byte state) {
+        this.value = value;
+        this.state = state;
+    }
+
+    public static NullableDouble undefined() {
+        return UNDEFINED;
+    }
+
+    public static NullableDouble ofNull() {
+        return NULL;
+    }
+
+    public static NullableDouble of(double value) {
+        return new NullableDouble(value, VALUE_STATE);
+    }
+
+    public static NullableDouble of(Double value) {
+        return value == null ? NULL : of(value.doubleValue());
+    }
+
+    public boolean isPresent() {
+        return state != UNDEFINED_STATE;
+    }
+
+    public boolean isNull() {
+        return state == NULL_STATE;
+    }
+
+    public boolean hasValue() {
+        return state == VALUE_STATE;
+    }
+
+    public double getAsDouble() {
+        if (state != VALUE_STATE) {
+            throw new NoSuchElementException(state == NULL_STATE ? "Value is null" : "Value is undefined");
+        }
+        return value;
+    }
+
+    public double orElse(double other) {
+        return state == VALUE_STATE ? value : other;
+    }
+
+    public void ifValue(DoubleConsumer action) {
+        if (state == VALUE_STATE) {
+            action.accept(value);
+        }
+    }
+
+    public void ifPresent(Consumer<? super Double> action) {
+        if (state == VALUE_STATE) {
+            action.accept(value);
+        } else if (state == NULL_STATE) {
+            action.accept(null);
+        }
+    }
+
+    public NullableValue<Double> boxed() {
+        return switch (state) {
+            case VALUE_STATE -> NullableValue.of(value);
+            case NULL_STATE -> NullableValue.of(null);
+            default -> NullableValue.undefined();
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NullableDouble that)) return false;
+        return state == that.state && Double.compare(value, that.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(value) + state;
+    }
+
+    @Override
+    public String toString() {
+        return switch (state) {
+            case VALUE_STATE -> "NullableDouble[" + value + "]";
+            case NULL_STATE -> "NullableDouble[null]";
+            default -> "NullableDouble.undefined";
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.rav316.nullablevalue;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+public final class NullableInt {
+
+    private static final byte UNDEFINED_STATE = 0;
+    private static final byte NULL_STATE = 1;
+    private static final byte VALUE_STATE = 2;
+
+    private static final NullableInt UNDEFINED = new NullableInt(0, UNDEFINED_STATE);
+    private static final NullableInt NULL = new NullableInt(0, NULL_STATE);
+
+    private static final NullableInt[] CACHE = new NullableInt[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new NullableInt(i - 128, VALUE_STATE);
+        }
+    }
+
+    private final int value;
+    private final byte state;
+
+    private NullableInt(int value, byte state) {
+        this.value = value;
+        this.state = state;
+    }
+
+    public static NullableInt undefined() {
+        return UNDEFINED;
+    }
+
+    public static NullableInt ofNull() {
+        return NULL;
+    }
+
+    public static NullableInt of(int value) {
+        if (value >= -128 && value <= 127) {
+            return CACHE[value + 128];
+        }
+        return new NullableInt(value, VALUE_STATE);
+    }
+
+    public static NullableInt of(Integer value) {
+        return value == null ? NULL : of(value.intValue());
+    }
+
+    public boolean isPresent() {
+        return state != UNDEFINED_STATE;
+    }
+
+    public boolean isNull() {
+        return state == NULL_STATE;
+    }
+
+    public boolean hasValue() {
+        return state == VALUE_STATE;
+    }
+
+    public int getAsInt() {
+        if (state != VALUE_STATE) {
+            throw new NoSuchElementException(state == NULL_STATE ? "Value is null" : "Value is undefined");
+        }
+        return value;
+    }
+
+    public int orElse(int other) {
+        return state == VALUE_STATE ? value : other;
+    }
+
+    public void ifValue(IntConsumer action) {
+        if (state == VALUE_STATE) {
+            action.accept(value);
+        }
+    }
+
+    public void ifPresent(Consumer<? super Integer> action) {
+        if (state == VALUE_STATE) {
+            action.accept(value);
+        } else if (state == NULL_STATE) {
+            action.accept(null);
+        }
+    }
+
+    public NullableValue<Integer> boxed() {
+        return switch (state) {
+            case VALUE_STATE -> NullableValue.of(value);
+            case NULL_STATE -> NullableValue.of(null);
+            default -> NullableValue.undefined();
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NullableInt that)) return false;
+        return state == that.state && value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Integer.hashCode(value) + state;
+    }
+
+    @Override
+    public String toString() {
+        return switch (state) {
+            case VALUE_STATE -> "NullableInt[" + value + "]";
+            case NULL_STATE -> "NullableInt[null]";
+            default -> "NullableInt.undefined";
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.rav316.nullablevalue;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+public final class NullableLong {
+
+    private static final byte UNDEFINED_STATE = 0;
+    private static final byte NULL_STATE = 1;
+    private static final byte VALUE_STATE = 2;
+
+    private static final NullableLong UNDEFINED = new NullableLong(0, UNDEFINED_STATE);
+    private static final NullableLong NULL = new NullableLong(0, NULL_STATE);
+
+    private static final NullableLong[] CACHE = new NullableLong[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new NullableLong(i - 128, VALUE_STATE);
+        }
+    }
+
+    private final long value;
+    private final byte state;
+
+    private NullableLong(long value, byte state) {
+        this.value = value;
+        this.state = state;
+    }
+
+    public static NullableLong undefined() {
+        return UNDEFINED;
+    }
+
+    public static NullableLong ofNull() {
+        return NULL;
+    }
+
+    public static NullableLong of(long value) {
+        if (value >= -128 && value <= 127) {
+            return CACHE[(int) value + 128];
+        }
+        return new NullableLong(value, VALUE_STATE);
+    }
+
+    public static NullableLong of(Long value) {
+        return value == null ? NULL : of(value.longValue());
+    }
+
+    public boolean isPresent() {
+        return state != UNDEFINED_STATE;
+    }
+
+    public boolean isNull() {
+        return state == NULL_STATE;
+    }
+
+    public boolean hasValue() {
+        return state == VALUE_STATE;
+    }
+
+    public long getAsLong() {
+        if (state != VALUE_STATE) {
+            throw new NoSuchElementException(state == NULL_STATE ? "Value is null" : "Value is undefined");
+        }
+        return value;
+    }
+
+    public long orElse(long other) {
+        return state == VALUE_STATE ? value : other;
+    }
+
+    public void ifValue(LongConsumer action) {
+        if (state == VALUE_STATE) {
+            action.accept(value);
+        }
+    }
+
+    public void ifPresent(Consumer<? super Long> action) {
+        if (state == VALUE_STATE) {
+            action.accept(value);
+        } else if (state == NULL_STATE) {
+            action.accept(null);
+        }
+    }
+
+    public NullableValue<Long> boxed() {
+        return switch (state) {
+            case VALUE_STATE -> NullableValue.of(value);
+            case NULL_STATE -> NullableValue.of(null);
+            default -> NullableValue.undefined();
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NullableLong that)) return false;
+        return state == that.state && value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(value) + state;
+    }
+
+    @Override
+    public String toString() {
+        return switch (state) {
+            case VALUE_STATE -> "NullableLong[" + value + "]";
+            case NULL_STATE -> "NullableLong[null]";
+            default -> "NullableLong.undefined";
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+public final class NullablePrimitiveDeserializers {
+
+    private NullablePrimitiveDeserializers() {
+    }
+
+    public static class IntDeserializer extends StdDeserializer<NullableInt> {
+
+        public IntDeserializer() {
+            super(NullableInt.class);
+        }
+
+        @Override
+        public NullableInt deserialize(JsonParser p, DeserializationContext ctxt) {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return NullableInt.of(p.getIntValue());
+            }
+            return NullableInt.of(_parseIntPrimitive(p, ctxt));
+        }
+
+        @Override
+        public NullableInt getNullValue(DeserializationContext ctxt) {
+            return NullableInt.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return NullableInt.undefined();
+        }
+    }
+
+    public static class LongDeserializer extends StdDeserializer<NullableLong> {
+
+        public LongDeserializer() {
+            super(NullableLong.class);
+        }
+
+        @Override
+        public NullableLong deserialize(JsonParser p, DeserializationContext ctxt) {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return NullableLong.of(p.getLongValue());
+            }
+            return NullableLong.of(_parseLongPrimitive(p, ctxt));
+        }
+
+        @Override
+        public NullableLong getNullValue(DeserializationContext ctxt) {
+            return NullableLong.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return NullableLong.undefined();
+        }
+    }
+
+    public static class DoubleDeserializer extends StdDeserializer<NullableDouble> {
+
+        public DoubleDeserializer() {
+            super(NullableDouble.class);
+        }
+
+        @Override
+        public NullableDouble deserialize(JsonParser p, DeserializationContext ctxt) {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_FLOAT) || p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return NullableDouble.of(p.getDoubleValue());
+            }
+            return NullableDouble.of(_parseDoublePrimitive(p, ctxt));
+        }
+
+        @Override
+        public NullableDouble getNullValue(DeserializationContext ctxt) {
+            return NullableDouble.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return NullableDouble.undefined();
+        }
+    }
+
+    public static class BooleanDeserializer extends StdDeserializer<NullableBoolean> {
+
+        public BooleanDeserializer() {
+            super(NullableBoolean.class);
+        }
+
+        @Override
+        public NullableBoolean deserialize(JsonParser p, DeserializationContext ctxt) {
+            if (p.hasToken(JsonToken.VALUE_TRUE)) {
+                return NullableBoolean.of(true);
+            }
+            if (p.hasToken(JsonToken.VALUE_FALSE)) {
+                return NullableBoolean.of(false);
+            }
+            return NullableBoolean.of(_parseBooleanPrimitive(p, ctxt));
+        }
+
+        @Override
+        public NullableBoolean getNullValue(DeserializationContext ctxt) {
+            return NullableBoolean.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return NullableBoolean.undefined();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.rav316.nullablevalue;
+
+import jakarta.validation.valueextraction.ExtractedValue;
+import jakarta.validation.valueextraction.UnwrapByDefault;
+import jakarta.validation.valueextraction.ValueExtractor;
+
+public final class NullablePrimitiveExtractors {
+
+    private NullablePrimitiveExtractors() {
+    }
+
+    @UnwrapByDefault
+    public static class IntExtractor implements ValueExtractor<@ExtractedValue(type = Integer.class) NullableInt> {
+
+        @Override
+        public void extractValues(NullableInt originalValue, ValueReceiver receiver) {
+            if (originalValue == null || !originalValue.isPresent()) {
+                return;
+            }
+            receiver.value(null, originalValue.hasValue() ? originalValue.getAsInt() : null);
+        }
+    }
+
+    @UnwrapByDefault
+    public static class LongExtractor implements ValueExtractor<@ExtractedValue(type = Long.class) NullableLong> {
+
+        @Override
+        public void extractValues(NullableLong originalValue, ValueReceiver receiver) {
+            if (originalValue == null || !originalValue.isPresent()) {
+                return;
+            }
+            receiver.value(null, originalValue.hasValue() ? originalValue.getAsLong() : null);
+        }
+    }
+
+    @UnwrapByDefault
+    public static class DoubleExtractor implements ValueExtractor<@ExtractedValue(type = Double.class) NullableDouble> {
+
+        @Override
+        public void extractValues(NullableDouble originalValue, ValueReceiver receiver) {
+            if (originalValue == null || !originalValue.isPresent()) {
+                return;
+            }
+            receiver.value(null, originalValue.hasValue() ? originalValue.getAsDouble() : null);
+        }
+    }
+
+    @UnwrapByDefault
+    public static class BooleanExtractor implements ValueExtractor<@ExtractedValue(type = Boolean.class) NullableBoolean> {
+
+        @Override
+        public void extractValues(NullableBoolean originalValue, ValueReceiver receiver) {
+            if (originalValue == null || !originalValue.isPresent()) {
+                return;
+            }
+            receiver.value(null, originalValue.hasValue() ? originalValue.getAsBoolean() : null);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+public final class NullablePrimitiveSerializers {
+
+    private NullablePrimitiveSerializers() {
+    }
+
+    public static class IntSerializer extends ValueSerializer<NullableInt> {
+
+        @Override
+        public void serialize(NullableInt value, JsonGenerator gen, SerializationContext ctxt) {
+            if (value.hasValue()) {
+                gen.writeNumber(value.getAsInt());
+            } else {
+                gen.writeNull();
+            }
+        }
+
+        @Override
+        public boolean isEmpty(SerializationContext ctxt, NullableInt value) {
+            return value == null || !value.isPresent();
+        }
+    }
+
+    public static class LongSerializer extends ValueSerializer<NullableLong> {
+
+        @Override
+        public void serialize(NullableLong value, JsonGenerator gen, SerializationContext ctxt) {
+            if (value.hasValue()) {
+                gen.writeNumber(value.getAsLong());
+            } else {
+                gen.writeNull();
+            }
+        }
+
+        @Override
+        public boolean isEmpty(SerializationContext ctxt, NullableLong value) {
+            return value == null || !value.isPresent();
+        }
+    }
+
+    public static class DoubleSerializer extends ValueSerializer<NullableDouble> {
+
+        @Override
+        public void serialize(NullableDouble value, JsonGenerator gen, SerializationContext ctxt) {
+            if (value.hasValue()) {
+                gen.writeNumber(value.getAsDouble());
+            } else {
+                gen.writeNull();
+            }
+        }
+
+        @Override
+        public boolean isEmpty(SerializationContext ctxt, NullableDouble value) {
+            return value == null || !value.isPresent();
+        }
+    }
+
+    public static class BooleanSerializer extends ValueSerializer<NullableBoolean> {
+
+        @Override
+        public void serialize(NullableBoolean value, JsonGenerator gen, SerializationContext ctxt) {
+            if (value.hasValue()) {
+                gen.writeBoolean(value.getAsBoolean());
+            } else {
+                gen.writeNull();
+            }
+        }
+
+        @Override
+        public boolean isEmpty(SerializationContext ctxt, NullableBoolean value) {
+            return value == null || !value.isPresent();
+        }
+    }
+}
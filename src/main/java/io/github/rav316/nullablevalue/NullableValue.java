@@ -4,10 +4,23 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public class NullableValue<T> {
 
     private static final NullableValue<?> UNDEFINED = new NullableValue<>(null, false);
+    private static final NullableValue<?> NULL = new NullableValue<>(null, true);
+    private static final NullableValue<?> TRUE = new NullableValue<>(Boolean.TRUE, true);
+    private static final NullableValue<?> FALSE = new NullableValue<>(Boolean.FALSE, true);
+    private static final NullableValue<?> EMPTY_STRING = new NullableValue<>("", true);
+    private static final NullableValue<?>[] SMALL_INTEGERS = new NullableValue<?>[256];
+
+    static {
+        for (int i = 0; i < SMALL_INTEGERS.length; i++) {
+            SMALL_INTEGERS[i] = new NullableValue<>(i - 128, true);
+        }
+    }
 
     private final T value;
     private final boolean present;
@@ -17,12 +30,29 @@ public class NullableValue<T> {
         this.present = present;
     }
 
+    NullableValue() {
+        this(null, true);
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> NullableValue<T> undefined() {
         return (NullableValue<T>) UNDEFINED;
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> NullableValue<T> of(T value) {
+        if (value == null) {
+            return (NullableValue<T>) NULL;
+        }
+        if (value instanceof Boolean b) {
+            return (NullableValue<T>) (b ? TRUE : FALSE);
+        }
+        if (value instanceof Integer i && i >= -128 && i <= 127) {
+            return (NullableValue<T>) SMALL_INTEGERS[i + 128];
+        }
+        if (value instanceof String s && s.isEmpty()) {
+            return (NullableValue<T>) EMPTY_STRING;
+        }
         return new NullableValue<>(value, true);
     }
 
@@ -34,38 +64,62 @@ public class NullableValue<T> {
         if (!present) {
             throw new NoSuchElementException("Value is undefined");
         }
-        return value;
+        return content();
     }
 
     public T orElse(T other) {
-        return present ? value : other;
+        return present ? content() : other;
+    }
+
+    public T orElseGet(Supplier<? extends T> supplier) {
+        return present ? content() : supplier.get();
     }
 
     public void ifPresent(Consumer<? super T> action) {
         if (present) {
-            action.accept(value);
+            action.accept(content());
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <U> NullableValue<U> map(Function<? super T, ? extends U> mapper) {
-        if (!present) return undefined();
-        return value == null ? of(null) : of(mapper.apply(value));
+        T content = present ? content() : null;
+        if (content == null) return (NullableValue<U>) this;
+        return of(mapper.apply(content));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> NullableValue<U> flatMap(Function<? super T, ? extends NullableValue<? extends U>> mapper) {
+        T content = present ? content() : null;
+        if (content == null) return (NullableValue<U>) this;
+        return (NullableValue<U>) Objects.requireNonNull(mapper.apply(content));
+    }
+
+    public NullableValue<T> filter(Predicate<? super T> predicate) {
+        T content = present ? content() : null;
+        if (content == null) return this;
+        return predicate.test(content) ? this : undefined();
+    }
+
+    // overridden by LazyNullableValue to bind captured JSON on first access
+    T content() {
+        return value;
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof NullableValue<?> that)) return false;
-        return present == that.present && Objects.equals(value, that.value);
+        return present == that.present && Objects.equals(content(), that.content());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value, present);
+        return present ? 31 + Objects.hashCode(content()) : 0;
     }
 
     @Override
     public String toString() {
-        return present ? "NullableValue[" + value + "]" : "NullableValue.undefined";
+        return present ? "NullableValue[" + content() + "]" : "NullableValue.undefined";
     }
 }
@@ -0,0 +1,58 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+import java.util.Collection;
+
+// Writes collections of NullableValue as indefinite-length CBOR arrays so undefined elements can use the
+// native undefined marker; every other format goes through the standard collection serializer.
+final class NullableValueCollectionSerializer extends ValueSerializer<Collection<?>> {
+
+    private final ValueSerializer<Collection<?>> delegate;
+    private final JavaType elementType;
+    private final ValueSerializer<Object> elementSerializer;
+
+    NullableValueCollectionSerializer(ValueSerializer<Collection<?>> delegate, JavaType elementType,
+                                      ValueSerializer<Object> elementSerializer) {
+        this.delegate = delegate;
+        this.elementType = elementType;
+        this.elementSerializer = elementSerializer;
+    }
+
+    @Override
+    public void serialize(Collection<?> value, JsonGenerator gen, SerializationContext ctxt) {
+        if (elementSerializer == null || !CborSupport.isCbor(gen)) {
+            delegate.serialize(value, gen, ctxt);
+            return;
+        }
+        gen.writeStartArray(value);
+        for (Object element : value) {
+            if (element instanceof NullableValue<?> nullable && !nullable.isPresent()) {
+                CborSupport.writeUndefined(gen);
+            } else if (element == null) {
+                gen.writeNull();
+            } else {
+                elementSerializer.serialize(element, gen, ctxt);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, Collection<?> value) {
+        return delegate.isEmpty(ctxt, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        ValueSerializer<Collection<?>> contextual = (ValueSerializer<Collection<?>>) ctxt
+                .handleSecondaryContextualization(delegate, property);
+        return new NullableValueCollectionSerializer(contextual, elementType,
+                ctxt.findContentValueSerializer(elementType, property));
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.rav316.nullablevalue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class NullableValueDescriptor {
+
+    private static final ClassValue<NullableValueDescriptor> CACHE = new ClassValue<>() {
+        @Override
+        protected NullableValueDescriptor computeValue(Class<?> type) {
+            return new NullableValueDescriptor(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<Property> properties;
+    private final Map<String, Property> propertiesByName;
+    private volatile Supplier<Object> constructor;
+
+    private NullableValueDescriptor(Class<?> type) {
+        this.type = type;
+        this.properties = Collections.unmodifiableList(introspect(type));
+        Map<String, Property> byName = new HashMap<>();
+        for (Property property : properties) {
+            byName.put(property.name, property);
+        }
+        this.propertiesByName = byName;
+    }
+
+    public static NullableValueDescriptor of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public List<Property> properties() {
+        return properties;
+    }
+
+    public Property property(String name) {
+        return propertiesByName.get(name);
+    }
+
+    public boolean hasProperties() {
+        return !properties.isEmpty();
+    }
+
+    public Object newInstance() {
+        Supplier<Object> c = constructor;
+        if (c == null) {
+            constructor = c = Accessors.constructor(type);
+        }
+        return c.get();
+    }
+
+    public static final class Property {
+
+        private final String name;
+        private final int index;
+        private final Type contentType;
+        private final Field field;
+        private final Method getterMethod;
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+
+        private Property(String name, int index, Type contentType, Field field, Method getterMethod,
+                         Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+            this.name = name;
+            this.index = index;
+            this.contentType = contentType;
+            this.field = field;
+            this.getterMethod = getterMethod;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public Type contentType() {
+            return contentType;
+        }
+
+        public Class<?> rawContentType() {
+            return rawClass(contentType);
+        }
+
+        public boolean isWritable() {
+            return setter != null;
+        }
+
+        public NullableValue<?> get(Object bean) {
+            NullableValue<?> value = (NullableValue<?>) getter.apply(bean);
+            return value != null ? value : NullableValue.undefined();
+        }
+
+        public void set(Object bean, NullableValue<?> value) {
+            if (setter == null) {
+                throw new UnsupportedOperationException("Property '" + name + "' is read-only");
+            }
+            setter.accept(bean, value);
+        }
+
+        public <A extends Annotation> A getAnnotation(Class<A> annotationType) {
+            A annotation = field != null ? field.getAnnotation(annotationType) : null;
+            if (annotation == null && getterMethod != null) {
+                annotation = getterMethod.getAnnotation(annotationType);
+            }
+            return annotation;
+        }
+
+        @Override
+        public String toString() {
+            return "Property[" + name + "]";
+        }
+    }
+
+    static Class<?> rawClass(Type type) {
+        if (type instanceof Class<?> c) return c;
+        if (type instanceof ParameterizedType p) return (Class<?>) p.getRawType();
+        if (type instanceof GenericArrayType a) return rawClass(a.getGenericComponentType()).arrayType();
+        if (type instanceof WildcardType w) return rawClass(w.getUpperBounds()[0]);
+        if (type instanceof TypeVariable<?> v) return rawClass(v.getBounds()[0]);
+        return Object.class;
+    }
+
+    private static List<Property> introspect(Class<?> type) {
+        Map<String, Method> getters = new HashMap<>();
+        Map<String, Method> setters = new HashMap<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                if (component.getType() == NullableValue.class) {
+                    getters.put(component.getName(), component.getAccessor());
+                }
+            }
+        }
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge()) continue;
+            String name = method.getName();
+            if (name.length() <= 3) continue;
+            if (method.getParameterCount() == 0 && method.getReturnType() == NullableValue.class
+                    && name.startsWith("get")) {
+                getters.putIfAbsent(decapitalize(name.substring(3)), method);
+            } else if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == NullableValue.class
+                    && name.startsWith("set")) {
+                setters.putIfAbsent(decapitalize(name.substring(3)), method);
+            }
+        }
+
+        // declared field order (superclass first) keeps property indexes stable across runs
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.addFirst(c);
+        }
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.getType() == NullableValue.class && !Modifier.isStatic(field.getModifiers())) {
+                    fields.putIfAbsent(field.getName(), field);
+                }
+            }
+        }
+
+        List<String> names = new ArrayList<>();
+        fields.forEach((name, field) -> {
+            if (getters.containsKey(name) || Modifier.isPublic(field.getModifiers())) {
+                names.add(name);
+            }
+        });
+        getters.keySet().stream().filter(name -> !fields.containsKey(name)).sorted().forEach(names::add);
+
+        List<Property> properties = new ArrayList<>(names.size());
+        for (String name : names) {
+            Field field = fields.get(name);
+            Method getterMethod = getters.get(name);
+            Method setterMethod = setters.get(name);
+            Type wrapperType = getterMethod != null ? getterMethod.getGenericReturnType() : field.getGenericType();
+            Function<Object, Object> getter = getterMethod != null
+                    ? Accessors.getter(getterMethod)
+                    : Accessors.getter(field);
+            BiConsumer<Object, Object> setter = null;
+            if (setterMethod != null) {
+                setter = Accessors.setter(setterMethod);
+            } else if (field != null && Modifier.isPublic(field.getModifiers())
+                    && !Modifier.isFinal(field.getModifiers())) {
+                setter = Accessors.setter(field);
+            }
+            properties.add(new Property(name, properties.size(), contentType(wrapperType),
+                    field, getterMethod, getter, setter));
+        }
+        return properties;
+    }
+
+    private static Type contentType(Type wrapperType) {
+        if (wrapperType instanceof ParameterizedType p) {
+            return p.getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
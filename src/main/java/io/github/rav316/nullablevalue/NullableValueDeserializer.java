@@ -1,32 +1,81 @@
 package io.github.rav316.nullablevalue;
 
 import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationConfig;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.util.TokenBuffer;
 
 public class NullableValueDeserializer extends ValueDeserializer<NullableValue<?>> {
 
+    private static final WeakInterner<ValueDeserializer<Object>, NullableValueDeserializer> INTERNED =
+            new WeakInterner<>();
+
     private final JavaType contentType;
     private final ValueDeserializer<Object> contentDeserializer;
+    private final boolean lazyContent;
+    // lazy values bind later through the owning mapper; without one, content is bound right away
+    private final LazyNullableValue.Owner owner;
+    private volatile ObjectReader reader;
 
     public NullableValueDeserializer() {
-        this.contentType = null;
-        this.contentDeserializer = null;
+        this(false);
+    }
+
+    public NullableValueDeserializer(boolean lazyContent) {
+        this(lazyContent, null);
+    }
+
+    NullableValueDeserializer(boolean lazyContent, LazyNullableValue.Owner owner) {
+        this(null, null, lazyContent, owner);
     }
 
-    private NullableValueDeserializer(JavaType contentType, ValueDeserializer<Object> contentDeserializer) {
+    private NullableValueDeserializer(JavaType contentType, ValueDeserializer<Object> contentDeserializer,
+                                      boolean lazyContent, LazyNullableValue.Owner owner) {
         this.contentType = contentType;
         this.contentDeserializer = contentDeserializer;
+        this.lazyContent = lazyContent;
+        this.owner = owner;
     }
 
     @Override
     public NullableValue<?> deserialize(JsonParser p, DeserializationContext ctxt) {
-        Object value = contentDeserializer != null
-                ? contentDeserializer.deserialize(p, ctxt)
-                : ctxt.readTreeAsValue(ctxt.readTree(p), contentType != null ? contentType : ctxt.constructType(Object.class));
-        return NullableValue.of(value);
+        // binary formats can carry an explicit undefined, surfaced by CBOR as an embedded null
+        if (p.currentToken() == JsonToken.VALUE_EMBEDDED_OBJECT && p.getEmbeddedObject() == null) {
+            return NullableValue.undefined();
+        }
+        if (lazyContent && contentDeserializer != null
+                && (p.isExpectedStartObjectToken() || p.isExpectedStartArrayToken())) {
+            ObjectReader r = reader(ctxt);
+            if (r != null) {
+                TokenBuffer raw = ctxt.bufferForInputBuffering(p);
+                raw.copyCurrentStructure(p);
+                return new LazyNullableValue<>(raw, r);
+            }
+        }
+        ValueDeserializer<Object> deserializer = contentDeserializer != null
+                ? contentDeserializer
+                : ctxt.findRootValueDeserializer(contentType != null ? contentType : ctxt.constructType(Object.class));
+        return NullableValue.of(deserializer.deserialize(p, ctxt));
+    }
+
+    // a reader of the content type under the configuration of the current call, kept for as long as calls share it
+    private ObjectReader reader(DeserializationContext ctxt) {
+        ObjectMapper mapper = owner != null ? owner.mapper() : null;
+        if (mapper == null) {
+            return null;
+        }
+        DeserializationConfig config = ctxt.getConfig();
+        ObjectReader r = reader;
+        if (r == null || r.getConfig() != config) {
+            reader = r = mapper.readerFor(contentType).with(config);
+        }
+        return r;
     }
 
     @Override
@@ -41,14 +90,22 @@ public class NullableValueDeserializer extends ValueDeserializer<NullableValue<?
 
     @Override
     public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
-        JavaType wrapperType = property != null ? property.getType() : ctxt.getContextualType();
-        if (wrapperType != null) {
-            JavaType contentType = wrapperType.containedType(0);
-            if (contentType != null) {
-                ValueDeserializer<Object> cd = ctxt.findContextualValueDeserializer(contentType, property);
-                return new NullableValueDeserializer(contentType, cd);
-            }
+        // for container elements the contextual type is the element type; the property is the container
+        JavaType wrapperType = ctxt.getContextualType();
+        if (wrapperType == null || !wrapperType.hasRawClass(NullableValue.class)) {
+            wrapperType = property != null ? property.getType() : wrapperType;
+        }
+        JavaType contentType = JacksonTypes.nullableContentType(wrapperType);
+        if (contentType == null) {
+            contentType = ctxt.constructType(Object.class);
+        }
+        LazyContent lazy = property != null ? property.getAnnotation(LazyContent.class) : null;
+        ValueDeserializer<Object> cd = ctxt.findContextualValueDeserializer(contentType, property);
+        boolean lazyHere = lazy != null ? lazy.value() : lazyContent;
+        JavaType resolved = contentType;
+        if (lazyHere && owner != null) {
+            return owner.interned.intern(cd, key -> new NullableValueDeserializer(resolved, key, true, owner));
         }
-        return this;
+        return INTERNED.intern(cd, key -> new NullableValueDeserializer(resolved, key, false, null));
     }
 }
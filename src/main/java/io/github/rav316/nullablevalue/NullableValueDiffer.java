@@ -0,0 +1,296 @@
+package io.github.rav316.nullablevalue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+public final class NullableValueDiffer<S, D> {
+
+    private static final int MAX_PROPERTIES = Long.SIZE;
+
+    private static final ClassValue<ConcurrentMap<Class<?>, NullableValueDiffer<?, ?>>> CACHE = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Class<?>, NullableValueDiffer<?, ?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<S> sourceType;
+    private final Class<D> dtoType;
+    private final NullableValueDescriptor descriptor;
+    private final Slot[] slots;
+    private final List<String> propertyNames;
+
+    private NullableValueDiffer(Class<S> sourceType, Class<D> dtoType) {
+        this.sourceType = sourceType;
+        this.dtoType = dtoType;
+        this.descriptor = NullableValueDescriptor.of(dtoType);
+        List<Slot> slots = new ArrayList<>();
+        for (NullableValueDescriptor.Property property : descriptor.properties()) {
+            if (!property.isWritable()) continue;
+            PatchTarget patchTarget = property.getAnnotation(PatchTarget.class);
+            String sourceName = patchTarget != null ? patchTarget.value() : property.name();
+            Member getter = findGetter(sourceType, sourceName);
+            Slot slot = getter != null ? slot(property, getter) : null;
+            if (slot == null) {
+                if (patchTarget != null) {
+                    throw new IllegalArgumentException("No getter for @PatchTarget(\"" + sourceName + "\") on "
+                            + sourceType.getName() + " compatible with " + property.rawContentType().getName());
+                }
+                continue;
+            }
+            slots.add(slot);
+        }
+        if (slots.size() > MAX_PROPERTIES) {
+            throw new IllegalArgumentException(dtoType.getName() + " has " + slots.size()
+                    + " diffable properties, at most " + MAX_PROPERTIES + " are supported");
+        }
+        this.slots = slots.toArray(new Slot[0]);
+        this.propertyNames = slots.stream().map(slot -> slot.property.name()).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <S, D> NullableValueDiffer<S, D> of(Class<S> sourceType, Class<D> dtoType) {
+        return (NullableValueDiffer<S, D>) CACHE.get(sourceType)
+                .computeIfAbsent(dtoType, t -> new NullableValueDiffer<>(sourceType, t));
+    }
+
+    public Class<S> sourceType() {
+        return sourceType;
+    }
+
+    public Class<D> dtoType() {
+        return dtoType;
+    }
+
+    public List<String> propertyNames() {
+        return Collections.unmodifiableList(propertyNames);
+    }
+
+    @SuppressWarnings("unchecked")
+    public D diff(S previous, S current) {
+        D dto = (D) descriptor.newInstance();
+        diffInto(previous, current, dto);
+        return dto;
+    }
+
+    public long diffInto(S previous, S current, D dto) {
+        Objects.requireNonNull(current, "current");
+        long changed = 0L;
+        Slot[] slots = this.slots;
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].diff(previous, current, dto)) {
+                changed |= 1L << i;
+            }
+        }
+        return changed;
+    }
+
+    private static Member findGetter(Class<?> type, String name) {
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())
+                    || method.getReturnType() == void.class || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            String methodName = method.getName();
+            if (methodName.equals("get" + capitalized)
+                    || methodName.equals("is" + capitalized) && method.getReturnType() == boolean.class
+                    || type.isRecord() && methodName.equals(name)) {
+                return method;
+            }
+        }
+        for (Field field : type.getFields()) {
+            if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static Slot slot(NullableValueDescriptor.Property property, Member getter) {
+        Class<?> type = getter instanceof Method m ? m.getReturnType() : ((Field) getter).getType();
+        Class<?> contentType = property.rawContentType();
+        if (!contentType.isAssignableFrom(Accessors.wrap(type))) {
+            if (!type.isPrimitive() && NullableValueDescriptor.of(contentType).hasProperties()) {
+                return new NestedSlot(property, objectGetter(getter), type, contentType);
+            }
+            return null;
+        }
+        if (type == boolean.class) {
+            return new BooleanSlot(property, getter instanceof Method m
+                    ? Accessors.booleanGetter(m) : Accessors.booleanGetter((Field) getter));
+        }
+        if (type == double.class || type == float.class) {
+            return new DoubleSlot(property, getter instanceof Method m
+                    ? Accessors.doubleGetter(m) : Accessors.doubleGetter((Field) getter), type);
+        }
+        if (type.isPrimitive()) {
+            return new LongSlot(property, getter instanceof Method m
+                    ? Accessors.longGetter(m) : Accessors.longGetter((Field) getter), type);
+        }
+        return new ObjectSlot(property, objectGetter(getter));
+    }
+
+    private static Function<Object, Object> objectGetter(Member getter) {
+        return getter instanceof Method m ? Accessors.getter(m) : Accessors.getter((Field) getter);
+    }
+
+    private abstract static class Slot {
+
+        final NullableValueDescriptor.Property property;
+
+        Slot(NullableValueDescriptor.Property property) {
+            this.property = property;
+        }
+
+        // previous == null means there is no earlier snapshot: every value of current counts as a change
+        abstract boolean diff(Object previous, Object current, Object dto);
+
+        final boolean changed(Object dto, Object value) {
+            property.set(dto, NullableValue.of(value));
+            return true;
+        }
+
+        final boolean unchanged(Object dto) {
+            property.set(dto, NullableValue.undefined());
+            return false;
+        }
+    }
+
+    private static final class ObjectSlot extends Slot {
+
+        private final Function<Object, Object> getter;
+
+        ObjectSlot(NullableValueDescriptor.Property property, Function<Object, Object> getter) {
+            super(property);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean diff(Object previous, Object current, Object dto) {
+            Object b = getter.apply(current);
+            if (previous == null) {
+                return b != null ? changed(dto, b) : unchanged(dto);
+            }
+            return Objects.equals(getter.apply(previous), b) ? unchanged(dto) : changed(dto, b);
+        }
+    }
+
+    private static final class LongSlot extends Slot {
+
+        private final ToLongFunction<Object> getter;
+        private final Class<?> type;
+
+        LongSlot(NullableValueDescriptor.Property property, ToLongFunction<Object> getter, Class<?> type) {
+            super(property);
+            this.getter = getter;
+            this.type = type;
+        }
+
+        @Override
+        boolean diff(Object previous, Object current, Object dto) {
+            long b = getter.applyAsLong(current);
+            if (previous != null && getter.applyAsLong(previous) == b) {
+                return unchanged(dto);
+            }
+            return changed(dto, box(b));
+        }
+
+        private Object box(long value) {
+            if (type == int.class) return (int) value;
+            if (type == long.class) return value;
+            if (type == short.class) return (short) value;
+            if (type == byte.class) return (byte) value;
+            return (char) value;
+        }
+    }
+
+    private static final class DoubleSlot extends Slot {
+
+        private final ToDoubleFunction<Object> getter;
+        private final boolean isFloat;
+
+        DoubleSlot(NullableValueDescriptor.Property property, ToDoubleFunction<Object> getter, Class<?> type) {
+            super(property);
+            this.getter = getter;
+            this.isFloat = type == float.class;
+        }
+
+        @Override
+        boolean diff(Object previous, Object current, Object dto) {
+            double b = getter.applyAsDouble(current);
+            if (previous != null
+                    && Double.doubleToLongBits(getter.applyAsDouble(previous)) == Double.doubleToLongBits(b)) {
+                return unchanged(dto);
+            }
+            return changed(dto, isFloat ? (Object) (float) b : (Object) b);
+        }
+    }
+
+    private static final class BooleanSlot extends Slot {
+
+        private final Predicate<Object> getter;
+
+        BooleanSlot(NullableValueDescriptor.Property property, Predicate<Object> getter) {
+            super(property);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean diff(Object previous, Object current, Object dto) {
+            boolean b = getter.test(current);
+            if (previous != null && getter.test(previous) == b) {
+                return unchanged(dto);
+            }
+            return changed(dto, b);
+        }
+    }
+
+    private static final class NestedSlot extends Slot {
+
+        private final Function<Object, Object> getter;
+        private final Class<?> sourceType;
+        private final Class<?> dtoType;
+        // resolved on first use so self-referencing types do not recurse during construction
+        private volatile NullableValueDiffer<Object, Object> differ;
+
+        NestedSlot(NullableValueDescriptor.Property property, Function<Object, Object> getter,
+                   Class<?> sourceType, Class<?> dtoType) {
+            super(property);
+            this.getter = getter;
+            this.sourceType = sourceType;
+            this.dtoType = dtoType;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean diff(Object previous, Object current, Object dto) {
+            Object a = previous != null ? getter.apply(previous) : null;
+            Object b = getter.apply(current);
+            if (b == null) {
+                return a != null ? changed(dto, null) : unchanged(dto);
+            }
+            NullableValueDiffer<Object, Object> d = differ;
+            if (d == null) {
+                differ = d = (NullableValueDiffer<Object, Object>) of(sourceType, dtoType);
+            }
+            Object nested = d.descriptor.newInstance();
+            if (d.diffInto(a, b, nested) == 0L && a != null) {
+                return unchanged(dto);
+            }
+            return changed(dto, nested);
+        }
+    }
+}
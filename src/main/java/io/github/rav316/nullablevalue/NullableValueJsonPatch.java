@@ -0,0 +1,234 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.PropertyName;
+import tools.jackson.databind.introspect.BeanPropertyDefinition;
+import tools.jackson.databind.introspect.ClassIntrospector;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// binds RFC 6902 add, replace and remove operations onto a NullableValue DTO in one pass over the document:
+// add and replace make the target present with the value, remove makes it present and null
+public final class NullableValueJsonPatch<D> {
+
+    // paths come from clients; beyond this many distinct paths per type they are compiled but not cached
+    static final int MAX_CACHED_PATHS = 1024;
+
+    private static final ClassValue<NullableValueJsonPatch<?>> CACHE = new ClassValue<>() {
+        @Override
+        protected NullableValueJsonPatch<?> computeValue(Class<?> type) {
+            return new NullableValueJsonPatch<>(type);
+        }
+    };
+
+    private final Class<D> type;
+    private final NullableValueDescriptor descriptor;
+    // pointer segments are external property names, which depend on the mapper's configuration; the paths of the
+    // last configuration seen are kept
+    private volatile Pointers pointers;
+
+    private NullableValueJsonPatch(Class<D> type) {
+        this.type = type;
+        this.descriptor = NullableValueDescriptor.of(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <D> NullableValueJsonPatch<D> of(Class<D> type) {
+        return (NullableValueJsonPatch<D>) CACHE.get(type);
+    }
+
+    public Class<D> type() {
+        return type;
+    }
+
+    public D read(ObjectMapper mapper, InputStream in) {
+        try (JsonParser p = mapper.createParser(in)) {
+            return read(mapper, p);
+        }
+    }
+
+    public D read(ObjectMapper mapper, String json) {
+        try (JsonParser p = mapper.createParser(json)) {
+            return read(mapper, p);
+        }
+    }
+
+    private D read(ObjectMapper mapper, JsonParser p) {
+        if (p.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("JSON Patch document must be an array of operations");
+        }
+        D dto = type.cast(descriptor.newInstance());
+        JsonToken t;
+        while ((t = p.nextToken()) == JsonToken.START_OBJECT) {
+            String op = null;
+            Path path = null;
+            NullableValue<?> value = null;
+            JsonNode buffered = null;
+            while (p.nextToken() == JsonToken.PROPERTY_NAME) {
+                String name = p.currentName();
+                p.nextToken();
+                switch (name) {
+                    case "op" -> op = p.getValueAsString();
+                    case "path" -> path = path(mapper, p.getValueAsString());
+                    // "value" usually follows "path"; only an early value is buffered as a tree
+                    case "value" -> {
+                        if (path != null) value = path.read(mapper, p);
+                        else buffered = mapper.readTree(p);
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            if (op == null || path == null) {
+                throw new IllegalArgumentException("JSON Patch operation requires 'op' and 'path'");
+            }
+            switch (op) {
+                case "add", "replace" -> {
+                    if (value == null && buffered == null) {
+                        throw new IllegalArgumentException("JSON Patch '" + op + "' operation requires 'value'");
+                    }
+                    path.set(dto, value != null ? value : path.read(mapper, buffered));
+                }
+                case "remove" -> path.set(dto, NullableValue.of(null));
+                default -> throw new IllegalArgumentException("Unsupported JSON Patch operation '" + op + "'");
+            }
+        }
+        if (t != JsonToken.END_ARRAY) {
+            throw new IllegalArgumentException("JSON Patch document must be an array of operations");
+        }
+        return dto;
+    }
+
+    Path path(ObjectMapper mapper, String pointer) {
+        DeserializationConfig config = mapper.deserializationConfig();
+        Pointers c = pointers;
+        if (c == null || c.config != config) {
+            pointers = c = new Pointers(config);
+        }
+        Path path = c.paths.get(pointer);
+        if (path == null) {
+            path = new Path(descriptor, c, pointer);
+            if (c.paths.size() < MAX_CACHED_PATHS) {
+                Path existing = c.paths.putIfAbsent(pointer, path);
+                if (existing != null) path = existing;
+            }
+        }
+        return path;
+    }
+
+    private static final class Pointers {
+
+        private final DeserializationConfig config;
+        private final Map<String, Path> paths = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Map<String, NullableValueDescriptor.Property>> names = new ConcurrentHashMap<>();
+
+        private Pointers(DeserializationConfig config) {
+            this.config = config;
+        }
+
+        NullableValueDescriptor.Property property(NullableValueDescriptor descriptor, String name) {
+            return names.computeIfAbsent(descriptor.type(), t -> externalNames(descriptor)).get(name);
+        }
+
+        // the names Jackson reads the DTO's properties under, so @JsonProperty, naming strategies and mix-ins apply
+        private Map<String, NullableValueDescriptor.Property> externalNames(NullableValueDescriptor descriptor) {
+            ClassIntrospector introspector = config.classIntrospectorInstance();
+            JavaType javaType = config.constructType(descriptor.type());
+            BeanDescription beanDesc = introspector.introspectForDeserialization(javaType,
+                    introspector.introspectClassAnnotations(javaType));
+            Map<String, NullableValueDescriptor.Property> byName = new HashMap<>();
+            for (BeanPropertyDefinition definition : beanDesc.findProperties()) {
+                NullableValueDescriptor.Property property = descriptor.property(definition.getInternalName());
+                if (property == null) continue;
+                byName.put(definition.getName(), property);
+                for (PropertyName alias : definition.findAliases()) {
+                    byName.putIfAbsent(alias.getSimpleName(), property);
+                }
+            }
+            return byName;
+        }
+    }
+
+    static final class Path {
+
+        private final NullableValueDescriptor.Property[] steps;
+        private final NullableValueDescriptor[] nested;
+        private volatile Binding binding;
+
+        private Path(NullableValueDescriptor root, Pointers pointers, String pointer) {
+            if (pointer == null || !pointer.startsWith("/")) {
+                throw new IllegalArgumentException("Unsupported JSON Pointer '" + pointer + "'");
+            }
+            String[] segments = pointer.substring(1).split("/", -1);
+            List<NullableValueDescriptor.Property> steps = new ArrayList<>(segments.length);
+            List<NullableValueDescriptor> nested = new ArrayList<>(segments.length);
+            NullableValueDescriptor descriptor = root;
+            for (int i = 0; i < segments.length; i++) {
+                String name = segments[i].replace("~1", "/").replace("~0", "~");
+                NullableValueDescriptor.Property property = pointers.property(descriptor, name);
+                if (property == null || !property.isWritable()) {
+                    throw new IllegalArgumentException("JSON Pointer '" + pointer + "' does not resolve to a writable "
+                            + "property of " + root.type().getName());
+                }
+                steps.add(property);
+                if (i < segments.length - 1) {
+                    // intermediate segments must be nested DTOs; array indexes and map keys are not traversed
+                    descriptor = NullableValueDescriptor.of(property.rawContentType());
+                    if (!descriptor.hasProperties()) {
+                        throw new IllegalArgumentException("JSON Pointer '" + pointer + "' traverses '" + name
+                                + "', which is not a NullableValue DTO");
+                    }
+                    nested.add(descriptor);
+                }
+            }
+            this.steps = steps.toArray(new NullableValueDescriptor.Property[0]);
+            this.nested = nested.toArray(new NullableValueDescriptor[0]);
+        }
+
+        NullableValue<?> read(ObjectMapper mapper, JsonParser p) {
+            return NullableValue.of(reader(mapper).readValue(p));
+        }
+
+        NullableValue<?> read(ObjectMapper mapper, JsonNode node) {
+            return NullableValue.of(reader(mapper).readValue(node));
+        }
+
+        // intermediate DTOs that are missing are created, so "/address/city" works without adding "/address" first
+        void set(Object dto, NullableValue<?> value) {
+            Object bean = dto;
+            for (int i = 0; i < nested.length; i++) {
+                NullableValue<?> current = steps[i].get(bean);
+                Object next = current.isPresent() ? current.get() : null;
+                if (next == null) {
+                    next = nested[i].newInstance();
+                    steps[i].set(bean, NullableValue.of(next));
+                }
+                bean = next;
+            }
+            steps[steps.length - 1].set(bean, value);
+        }
+
+        private ObjectReader reader(ObjectMapper mapper) {
+            Binding b = binding;
+            if (b == null || b.mapper != mapper) {
+                NullableValueDescriptor.Property leaf = steps[steps.length - 1];
+                binding = b = new Binding(mapper, mapper.readerFor(mapper.constructType(leaf.contentType())));
+            }
+            return b.reader;
+        }
+    }
+
+    private record Binding(ObjectMapper mapper, ObjectReader reader) {
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.rav316.nullablevalue;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+public final class NullableValueMap<V> {
+
+    // a key that is present maps to its value, which may be null; a missing key is undefined
+    private final LinkedHashMap<String, V> values;
+
+    public NullableValueMap() {
+        this.values = new LinkedHashMap<>();
+    }
+
+    public NullableValueMap(int expectedSize) {
+        this.values = LinkedHashMap.newLinkedHashMap(expectedSize);
+    }
+
+    public NullableValue<V> get(String key) {
+        V value = values.get(key);
+        if (value == null && !values.containsKey(key)) {
+            return NullableValue.undefined();
+        }
+        return NullableValue.of(value);
+    }
+
+    public boolean isPresent(String key) {
+        return values.containsKey(key);
+    }
+
+    public NullableValueMap<V> put(String key, V value) {
+        values.put(key, value);
+        return this;
+    }
+
+    public NullableValueMap<V> set(String key, NullableValue<? extends V> value) {
+        if (value.isPresent()) {
+            values.put(key, value.get());
+        } else {
+            values.remove(key);
+        }
+        return this;
+    }
+
+    public NullableValueMap<V> remove(String key) {
+        values.remove(key);
+        return this;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    public void forEach(BiConsumer<? super String, ? super V> action) {
+        values.forEach(action);
+    }
+
+    public Map<String, V> asMap() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NullableValueMap<?> that)) return false;
+        return values.equals(that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "NullableValueMap" + values;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+
+public class NullableValueMapDeserializer extends ValueDeserializer<NullableValueMap<?>> {
+
+    private final ValueDeserializer<Object> contentDeserializer;
+
+    public NullableValueMapDeserializer() {
+        this(null);
+    }
+
+    private NullableValueMapDeserializer(ValueDeserializer<Object> contentDeserializer) {
+        this.contentDeserializer = contentDeserializer;
+    }
+
+    @Override
+    public NullableValueMap<?> deserialize(JsonParser p, DeserializationContext ctxt) {
+        ValueDeserializer<Object> deserializer = contentDeserializer != null
+                ? contentDeserializer
+                : ctxt.findRootValueDeserializer(ctxt.constructType(Object.class));
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if (t != JsonToken.PROPERTY_NAME && t != JsonToken.END_OBJECT) {
+            return (NullableValueMap<?>) ctxt.handleUnexpectedToken(NullableValueMap.class, p);
+        }
+        NullableValueMap<Object> map = new NullableValueMap<>();
+        for (; t == JsonToken.PROPERTY_NAME; t = p.nextToken()) {
+            String key = p.currentName();
+            map.put(key, p.nextToken() == JsonToken.VALUE_NULL ? null : deserializer.deserialize(p, ctxt));
+        }
+        return map;
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext ctxt) {
+        return new NullableValueMap<>();
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        JavaType mapType = ctxt.getContextualType();
+        if ((mapType == null || !mapType.hasRawClass(NullableValueMap.class)) && property != null) {
+            mapType = property.getType();
+        }
+        JavaType contentType = mapType != null ? mapType.containedType(0) : null;
+        if (contentType == null) {
+            contentType = ctxt.constructType(Object.class);
+        }
+        return new NullableValueMapDeserializer(ctxt.findContextualValueDeserializer(contentType, property));
+    }
+}
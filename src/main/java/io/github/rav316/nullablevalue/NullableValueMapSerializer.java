@@ -0,0 +1,71 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.impl.PropertySerializerMap;
+
+public class NullableValueMapSerializer extends ValueSerializer<NullableValueMap<?>> {
+
+    private final JavaType contentType;
+    private final ValueSerializer<Object> contentSerializer;
+    private PropertySerializerMap dynamicSerializers = PropertySerializerMap.emptyForProperties();
+
+    public NullableValueMapSerializer() {
+        this(null, null);
+    }
+
+    private NullableValueMapSerializer(JavaType contentType, ValueSerializer<Object> contentSerializer) {
+        this.contentType = contentType;
+        this.contentSerializer = contentSerializer;
+    }
+
+    @Override
+    public void serialize(NullableValueMap<?> value, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartObject(value);
+        value.forEach((key, content) -> {
+            gen.writeName(key);
+            if (content == null) {
+                gen.writeNull();
+            } else if (contentSerializer != null) {
+                contentSerializer.serialize(content, gen, ctxt);
+            } else {
+                dynamicSerializer(ctxt, content.getClass()).serialize(content, gen, ctxt);
+            }
+        });
+        gen.writeEndObject();
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, NullableValueMap<?> value) {
+        return value == null || value.isEmpty();
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        JavaType mapType = property != null ? JacksonTypes.elementType(property.getType(), NullableValueMap.class) : null;
+        JavaType contentType = mapType != null ? mapType.containedType(0) : null;
+        if (contentType == null || !contentType.isFinal()) {
+            // runtime content classes are resolved per instance; the dynamic cache is per mapper, never shared
+            return new NullableValueMapSerializer(contentType, null);
+        }
+        // nested wrappers would find this same property type again, so they are resolved without it
+        BeanProperty contentProperty = JacksonTypes.isWrapper(contentType) ? null : property;
+        return new NullableValueMapSerializer(contentType, ctxt.findContentValueSerializer(contentType, contentProperty));
+    }
+
+    private ValueSerializer<Object> dynamicSerializer(SerializationContext ctxt, Class<?> type) {
+        PropertySerializerMap map = dynamicSerializers;
+        ValueSerializer<Object> serializer = map.serializerFor(type);
+        if (serializer == null) {
+            PropertySerializerMap.SerializerAndMapResult result = contentType != null && contentType.hasGenericTypes()
+                    ? map.findAndAddSecondarySerializer(ctxt.constructSpecializedType(contentType, type), ctxt, null)
+                    : map.findAndAddSecondarySerializer(type, ctxt, null);
+            dynamicSerializers = result.map;
+            serializer = result.serializer;
+        }
+        return serializer;
+    }
+}
@@ -1,23 +1,100 @@
 package io.github.rav316.nullablevalue;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.rav316.nullablevalue.metrics.InstrumentedNullableValueDeserializer;
+import io.github.rav316.nullablevalue.metrics.InstrumentedNullableValueSerializer;
+import io.github.rav316.nullablevalue.metrics.InstrumentingDeserializerModifier;
+import io.github.rav316.nullablevalue.metrics.NullableValueMetrics;
+import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.module.SimpleModule;
 
+import java.util.ServiceLoader;
+
 public class NullableValueModule extends SimpleModule {
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final NullableValueMetrics metrics;
+    private final LazyNullableValue.Owner owner = new LazyNullableValue.Owner();
+
     public NullableValueModule() {
+        this(null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public NullableValueModule(NullableValueMetrics metrics) {
         super("NullableValueModule");
-        addSerializer((Class) NullableValue.class, new NullableValueSerializer());
-        addDeserializer((Class) NullableValue.class, new NullableValueDeserializer());
+        this.metrics = metrics;
+        registerNullableValue(false);
+        if (CborSupport.CBOR_PRESENT) {
+            setSerializerModifier(new NullableValueSerializerModifier(true, false));
+        }
+        if (metrics != null) {
+            setDeserializerModifier(new InstrumentingDeserializerModifier(metrics));
+        }
+
+        addSerializer((Class) NullableValueMap.class, new NullableValueMapSerializer());
+        addDeserializer((Class) NullableValueMap.class, new NullableValueMapDeserializer());
+
+        addSerializer(NullableInt.class, new NullablePrimitiveSerializers.IntSerializer());
+        addSerializer(NullableLong.class, new NullablePrimitiveSerializers.LongSerializer());
+        addSerializer(NullableDouble.class, new NullablePrimitiveSerializers.DoubleSerializer());
+        addSerializer(NullableBoolean.class, new NullablePrimitiveSerializers.BooleanSerializer());
+        addDeserializer(NullableInt.class, new NullablePrimitiveDeserializers.IntDeserializer());
+        addDeserializer(NullableLong.class, new NullablePrimitiveDeserializers.LongDeserializer());
+        addDeserializer(NullableDouble.class, new NullablePrimitiveDeserializers.DoubleDeserializer());
+        addDeserializer(NullableBoolean.class, new NullablePrimitiveDeserializers.BooleanDeserializer());
+
+        // classes generated for @PatchDto types register themselves through META-INF/services
+        for (PatchDtoBinding<?> binding : ServiceLoader.load(PatchDtoBinding.class)) {
+            registerPatchDto(binding);
+        }
+    }
+
+    public NullableValueModule lazyContent(boolean lazyContent) {
+        registerNullableValue(lazyContent);
+        return this;
+    }
+
+    // lets NullableValueProjection.applyTo leave out unrequested properties while writing
+    public NullableValueModule projection(boolean projection) {
+        setSerializerModifier(projection || CborSupport.CBOR_PRESENT
+                ? new NullableValueSerializerModifier(CborSupport.CBOR_PRESENT, projection)
+                : null);
+        return this;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void registerNullableValue(boolean lazyContent) {
+        if (metrics == null) {
+            addSerializer((Class) NullableValue.class, new NullableValueSerializer());
+            addDeserializer((Class) NullableValue.class, new NullableValueDeserializer(lazyContent, owner));
+        } else {
+            addSerializer((Class) NullableValue.class,
+                    new InstrumentedNullableValueSerializer(new NullableValueSerializer(), metrics));
+            addDeserializer((Class) NullableValue.class,
+                    new InstrumentedNullableValueDeserializer(new NullableValueDeserializer(lazyContent, owner), metrics));
+        }
+    }
+
+    private <T> void registerPatchDto(PatchDtoBinding<T> binding) {
+        addSerializer(binding.type(), binding.serializer());
+        addDeserializer(binding.type(), binding.deserializer());
     }
 
     @Override
     public void setupModule(SetupContext context) {
+        // added first so the explicit bindings registered by SimpleModule, such as @PatchDto records, take precedence
+        context.addDeserializers(new NullableValueRecordDeserializers(metrics));
         super.setupModule(context);
-        context.configOverride(NullableValue.class)
-                .setInclude(JsonInclude.Value.construct(
-                        JsonInclude.Include.NON_EMPTY,
-                        JsonInclude.Include.NON_EMPTY));
+        // lazy values bind through the mapper with a context of their own rather than the one that captured them
+        if (context.getOwner() instanceof ObjectMapper mapper) {
+            owner.mapper(mapper);
+        }
+        JsonInclude.Value nonEmpty = JsonInclude.Value.construct(
+                JsonInclude.Include.NON_EMPTY,
+                JsonInclude.Include.NON_EMPTY);
+        for (Class<?> type : new Class<?>[]{NullableValue.class, NullableInt.class, NullableLong.class,
+                NullableDouble.class, NullableBoolean.class}) {
+            context.configOverride(type).setInclude(nonEmpty);
+        }
     }
 }
@@ -0,0 +1,125 @@
+package io.github.rav316.nullablevalue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+public final class NullableValuePatcher<D, T> {
+
+    private static final int MAX_PROPERTIES = Long.SIZE;
+
+    private static final ClassValue<ConcurrentMap<Class<?>, NullableValuePatcher<?, ?>>> CACHE = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Class<?>, NullableValuePatcher<?, ?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<D> dtoType;
+    private final Class<T> targetType;
+    private final Step[] steps;
+    private final List<String> propertyNames;
+
+    private NullableValuePatcher(Class<D> dtoType, Class<T> targetType) {
+        this.dtoType = dtoType;
+        this.targetType = targetType;
+        List<Step> steps = new ArrayList<>();
+        for (NullableValueDescriptor.Property property : NullableValueDescriptor.of(dtoType).properties()) {
+            PatchTarget patchTarget = property.getAnnotation(PatchTarget.class);
+            String targetName = patchTarget != null ? patchTarget.value() : property.name();
+            Method setter = findSetter(targetType, targetName, property.rawContentType());
+            if (setter == null) {
+                if (patchTarget != null) {
+                    throw new IllegalArgumentException("No setter for @PatchTarget(\"" + targetName + "\") on "
+                            + targetType.getName() + " accepting " + property.rawContentType().getName());
+                }
+                continue;
+            }
+            steps.add(new Step(property, targetName, Accessors.setter(setter), setter.getParameterTypes()[0].isPrimitive()));
+        }
+        if (steps.size() > MAX_PROPERTIES) {
+            throw new IllegalArgumentException(dtoType.getName() + " has " + steps.size()
+                    + " patchable properties, at most " + MAX_PROPERTIES + " are supported");
+        }
+        this.steps = steps.toArray(new Step[0]);
+        this.propertyNames = steps.stream().map(step -> step.property.name()).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <D, T> NullableValuePatcher<D, T> of(Class<D> dtoType, Class<T> targetType) {
+        return (NullableValuePatcher<D, T>) CACHE.get(dtoType)
+                .computeIfAbsent(targetType, t -> new NullableValuePatcher<>(dtoType, t));
+    }
+
+    public Class<D> dtoType() {
+        return dtoType;
+    }
+
+    public Class<T> targetType() {
+        return targetType;
+    }
+
+    public List<String> propertyNames() {
+        return Collections.unmodifiableList(propertyNames);
+    }
+
+    public long apply(D dto, T target) {
+        long changed = 0L;
+        Step[] steps = this.steps;
+        for (int i = 0; i < steps.length; i++) {
+            NullableValue<?> value = steps[i].property.get(dto);
+            if (value.isPresent()) {
+                steps[i].apply(target, value.get());
+                changed |= 1L << i;
+            }
+        }
+        return changed;
+    }
+
+    private static Method findSetter(Class<?> targetType, String name, Class<?> contentType) {
+        String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Method match = null;
+        for (Method method : targetType.getMethods()) {
+            if (!method.getName().equals(setterName) || method.getParameterCount() != 1
+                    || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            Class<?> parameterType = Accessors.wrap(method.getParameterTypes()[0]);
+            if (parameterType == contentType) {
+                return method;
+            }
+            if (parameterType.isAssignableFrom(contentType)) {
+                match = method;
+            }
+        }
+        return match;
+    }
+
+    private static final class Step {
+
+        private final NullableValueDescriptor.Property property;
+        private final String targetName;
+        private final BiConsumer<Object, Object> setter;
+        private final boolean primitive;
+
+        private Step(NullableValueDescriptor.Property property, String targetName,
+                     BiConsumer<Object, Object> setter, boolean primitive) {
+            this.property = property;
+            this.targetName = targetName;
+            this.setter = setter;
+            this.primitive = primitive;
+        }
+
+        private void apply(Object target, Object value) {
+            if (value == null && primitive) {
+                throw new IllegalArgumentException("Cannot set null to primitive property '" + targetName + "'");
+            }
+            setter.accept(target, value);
+        }
+    }
+}
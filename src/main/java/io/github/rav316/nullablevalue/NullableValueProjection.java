@@ -0,0 +1,101 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class NullableValueProjection {
+
+    // field lists come from clients; beyond this many distinct spellings per type plans are built but not cached
+    static final int MAX_CACHED_PLANS = 1024;
+
+    private static final ClassValue<Map<String, NullableValueProjection>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, NullableValueProjection> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<?> type;
+    private final Set<String> includedProperties;
+
+    private NullableValueProjection(Class<?> type, String fields) {
+        this.type = type;
+        Set<String> requested = new HashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.strip();
+            if (!name.isEmpty()) {
+                requested.add(name);
+            }
+        }
+        NullableValueDescriptor descriptor = NullableValueDescriptor.of(type);
+        Set<String> included = new HashSet<>();
+        for (NullableValueDescriptor.Property property : descriptor.properties()) {
+            if (requested.contains(property.name())) {
+                included.add(property.name());
+            }
+        }
+        this.includedProperties = Collections.unmodifiableSet(included);
+    }
+
+    public static NullableValueProjection of(Class<?> type, String fields) {
+        Map<String, NullableValueProjection> plans = CACHE.get(type);
+        NullableValueProjection plan = plans.get(fields);
+        if (plan == null) {
+            plan = new NullableValueProjection(type, fields);
+            if (plans.size() < MAX_CACHED_PLANS) {
+                NullableValueProjection existing = plans.putIfAbsent(fields, plan);
+                if (existing != null) plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public Set<String> includedProperties() {
+        return includedProperties;
+    }
+
+    public boolean includes(String property) {
+        return includedProperties.contains(property);
+    }
+
+    // the value is written as-is with unrequested NullableValue properties omitted; neither it nor its elements are
+    // modified, so shared or cached DTOs can be returned. Requires the module's projection support to be enabled
+    public Object applyTo(Object value) {
+        return new Projected(value, this);
+    }
+
+    static NullableValueProjection current(SerializationContext ctxt, Object bean) {
+        NullableValueProjection projection = (NullableValueProjection) ctxt.getAttribute(NullableValueProjection.class);
+        return projection != null && projection.type == bean.getClass() ? projection : null;
+    }
+
+    @JsonSerialize(using = ProjectedSerializer.class)
+    record Projected(Object value, NullableValueProjection projection) {
+    }
+
+    static final class ProjectedSerializer extends ValueSerializer<Projected> {
+
+        @Override
+        public void serialize(Projected projected, JsonGenerator gen, SerializationContext ctxt) {
+            Object previous = ctxt.getAttribute(NullableValueProjection.class);
+            ctxt.setAttribute(NullableValueProjection.class, projected.projection());
+            try {
+                ctxt.writeValue(gen, projected.value());
+            } finally {
+                ctxt.setAttribute(NullableValueProjection.class, previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.rav316.nullablevalue;
+
+import io.github.rav316.nullablevalue.metrics.InstrumentedNullableValueDeserializer;
+import io.github.rav316.nullablevalue.metrics.NullableValueMetrics;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ValueDeserializer;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+final class NullableValueRecordDeserializer extends ValueDeserializer<Object> {
+
+    // the part that depends only on the record class is shared by every mapper
+    static final ClassValue<Plan> PLANS = new ClassValue<>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return new Plan(type);
+        }
+    };
+
+    private final Plan plan;
+    private final Properties properties;
+    private final NullableValueMetrics metrics;
+    private final boolean contextual;
+    private volatile ValueDeserializer<Object>[] deserializers;
+
+    NullableValueRecordDeserializer(Plan plan, Properties properties, NullableValueMetrics metrics) {
+        this(plan, properties, metrics, false);
+    }
+
+    private NullableValueRecordDeserializer(Plan plan, Properties properties, NullableValueMetrics metrics,
+                                            boolean contextual) {
+        this.plan = plan;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.contextual = contextual;
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return plan.type;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        return contextual ? this : new NullableValueRecordDeserializer(plan, properties, metrics, true);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) {
+        ValueDeserializer<Object>[] deserializers = this.deserializers;
+        if (deserializers == null) {
+            // resolved on first use so records that reference themselves do not recurse while contextualizing
+            deserializers = resolve(ctxt);
+            if (contextual) this.deserializers = deserializers;
+        }
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if (t != JsonToken.PROPERTY_NAME && t != JsonToken.END_OBJECT) {
+            return ctxt.handleUnexpectedToken(plan.type, p);
+        }
+        Object[] args = new Object[plan.componentCount];
+        boolean failOnNull = ctxt.isEnabled(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES);
+        long seen = 0L;
+        for (; t == JsonToken.PROPERTY_NAME; t = p.nextToken()) {
+            String name = p.currentName();
+            Integer index = properties.indexByName.get(name);
+            if (index == null) {
+                p.nextToken();
+                if (properties.ignoreAllUnknown || properties.ignored.contains(name)) {
+                    p.skipChildren();
+                } else {
+                    ctxt.handleUnknownProperty(p, this, plan.type, name);
+                }
+                continue;
+            }
+            int i = index;
+            ValueDeserializer<Object> deserializer = deserializers[i];
+            Object value = p.nextToken() == JsonToken.VALUE_NULL
+                    ? deserializer.getNullValue(ctxt)
+                    : deserializer.deserialize(p, ctxt);
+            if (value == null && failOnNull) {
+                return ctxt.reportInputMismatch(this, "Null value for creator property '%s' (index %d); "
+                        + "`DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES` enabled", name, i);
+            }
+            args[i] = value;
+            seen |= 1L << i;
+        }
+        if (seen != plan.allSeen) {
+            boolean failOnMissing = ctxt.isEnabled(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES);
+            for (int i = 0; i < args.length; i++) {
+                if ((seen & (1L << i)) != 0) {
+                    continue;
+                }
+                if (failOnMissing || (properties.required & (1L << i)) != 0) {
+                    return ctxt.reportInputMismatch(this, "Missing creator property '%s' (index %d); %s",
+                            properties.externalName(plan, i), i, failOnMissing
+                                    ? "`DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES` enabled"
+                                    : "property is required");
+                }
+                // primitive components get their default, others ask their deserializer, so a NullableValue becomes
+                // undefined (and is counted as such with metrics) and an Optional becomes Optional.empty()
+                args[i] = plan.absentValues[i] != null ? plan.absentValues[i] : deserializers[i].getAbsentValue(ctxt);
+                if (args[i] == null && failOnNull) {
+                    return ctxt.reportInputMismatch(this, "Null value for creator property '%s' (index %d); "
+                            + "`DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES` enabled",
+                            properties.externalName(plan, i), i);
+                }
+            }
+        }
+        return plan.constructor.apply(args);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ValueDeserializer<Object>[] resolve(DeserializationContext ctxt) {
+        ValueDeserializer<Object>[] resolved = (ValueDeserializer<Object>[]) new ValueDeserializer<?>[plan.componentCount];
+        for (int i = 0; i < resolved.length; i++) {
+            // with the component's property, so @JsonFormat and other property-level settings reach its deserializer
+            BeanProperty property = properties.properties[i];
+            resolved[i] = property != null
+                    ? ctxt.findContextualValueDeserializer(property.getType(), property)
+                    : ctxt.findContextualValueDeserializer(ctxt.getTypeFactory().constructType(plan.types[i]), null);
+            if (metrics != null && plan.nullable[i] && !(resolved[i] instanceof InstrumentedNullableValueDeserializer)) {
+                // presence is recorded against the record, as it is for bean properties
+                resolved[i] = (ValueDeserializer<Object>) new InstrumentedNullableValueDeserializer(
+                        (ValueDeserializer) resolved[i], metrics).createContextual(ctxt, property);
+            }
+        }
+        return resolved;
+    }
+
+    static final class Plan {
+
+        static final int MAX_COMPONENTS = Long.SIZE;
+
+        final Class<?> type;
+        final int componentCount;
+        final String[] names;
+        final Type[] types;
+        final Object[] absentValues;
+        final boolean[] nullable;
+        final long allSeen;
+        final Function<Object[], Object> constructor;
+
+        private Plan(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            this.type = type;
+            this.componentCount = components.length;
+            this.names = new String[components.length];
+            this.types = new Type[components.length];
+            this.absentValues = new Object[components.length];
+            this.nullable = new boolean[components.length];
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                Class<?> componentType = components[i].getType();
+                names[i] = components[i].getName();
+                types[i] = components[i].getGenericType();
+                parameterTypes[i] = componentType;
+                nullable[i] = componentType == NullableValue.class;
+                if (componentType.isPrimitive()) {
+                    absentValues[i] = Array.get(Array.newInstance(componentType, 1), 0);
+                }
+            }
+            this.allSeen = components.length == MAX_COMPONENTS ? -1L : (1L << components.length) - 1;
+            try {
+                Constructor<?> canonical = type.getDeclaredConstructor(parameterTypes);
+                this.constructor = Accessors.constructor(canonical);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(type.getName() + " has no canonical constructor", e);
+            }
+        }
+    }
+
+    // what Jackson's introspection of the record says about each component for one mapper configuration
+    static final class Properties {
+
+        final Map<String, Integer> indexByName;
+        final String[] externalNames;
+        final BeanProperty[] properties;
+        final long required;
+        final boolean ignoreAllUnknown;
+        final Set<String> ignored;
+
+        Properties(Map<String, Integer> indexByName, String[] externalNames, BeanProperty[] properties, long required,
+                   boolean ignoreAllUnknown, Set<String> ignored) {
+            this.indexByName = indexByName;
+            this.externalNames = externalNames;
+            this.properties = properties;
+            this.required = required;
+            this.ignoreAllUnknown = ignoreAllUnknown;
+            this.ignored = ignored;
+        }
+
+        String externalName(Plan plan, int index) {
+            return externalNames[index] != null ? externalNames[index] : plan.names[index];
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.rav316.nullablevalue;
+
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import io.github.rav316.nullablevalue.metrics.NullableValueMetrics;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.PropertyName;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.deser.Deserializers;
+import tools.jackson.databind.introspect.AnnotatedMember;
+import tools.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// records with NullableValue components bind through their canonical constructor with undefined() for absent
+// components; anything the generic creator path handles specially is left to it
+class NullableValueRecordDeserializers extends Deserializers.Base {
+
+    private static final ClassValue<Boolean> SUPPORTED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isSupported(type);
+        }
+    };
+
+    // annotations whose handling lives in the bean deserializer factory or the generic creator path
+    private static final List<Class<? extends Annotation>> CREATOR_PATH_ONLY =
+            List.of(JsonDeserialize.class, JsonAnySetter.class, JacksonInject.class, JsonUnwrapped.class);
+
+    private final NullableValueMetrics metrics;
+
+    NullableValueRecordDeserializers(NullableValueMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ValueDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+                                                     BeanDescription.Supplier beanDescRef) {
+        Class<?> raw = type.getRawClass();
+        if (!raw.isRecord() || type.hasGenericTypes() || !SUPPORTED.get(raw)) {
+            return null;
+        }
+        BeanDescription beanDesc = beanDescRef.get();
+        if (beanDesc.findAnySetterAccessor() != null || !beanDesc.findInjectables().isEmpty()
+                || isCaseInsensitive(config, beanDesc)) {
+            return null;
+        }
+        NullableValueRecordDeserializer.Plan plan = NullableValueRecordDeserializer.PLANS.get(raw);
+        Map<String, Integer> componentIndex = new HashMap<>();
+        for (int i = 0; i < plan.names.length; i++) {
+            componentIndex.put(plan.names[i], i);
+        }
+        // names, aliases, required flags and per-property annotations come from Jackson's own introspection, so
+        // naming strategies and mix-ins apply as they do on the default path
+        Map<String, Integer> indexByName = new HashMap<>();
+        String[] externalNames = new String[plan.componentCount];
+        BeanProperty[] properties = new BeanProperty[plan.componentCount];
+        long required = 0L;
+        for (BeanPropertyDefinition definition : beanDesc.findProperties()) {
+            Integer index = componentIndex.get(definition.getInternalName());
+            if (index == null) {
+                continue;
+            }
+            AnnotatedMember member = definition.getConstructorParameter() != null
+                    ? definition.getConstructorParameter()
+                    : definition.getPrimaryMember();
+            if (member == null || hasCreatorPathOnlyAnnotation(definition)) {
+                return null;
+            }
+            int i = index;
+            externalNames[i] = definition.getName();
+            indexByName.put(definition.getName(), i);
+            for (PropertyName alias : definition.findAliases()) {
+                indexByName.putIfAbsent(alias.getSimpleName(), i);
+            }
+            properties[i] = new BeanProperty.Std(definition.getFullName(), definition.getPrimaryType(),
+                    definition.getWrapperName(), member, definition.getMetadata());
+            if (definition.isRequired()) {
+                required |= 1L << i;
+            }
+        }
+        JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(raw, beanDesc.getClassInfo());
+        Set<String> ignored = new HashSet<>(ignorals.findIgnoredForDeserialization());
+        ignored.addAll(beanDesc.getIgnoredPropertyNames());
+        return new NullableValueRecordDeserializer(plan, new NullableValueRecordDeserializer.Properties(
+                indexByName, externalNames, properties, required, ignorals.getIgnoreUnknown(), ignored), metrics);
+    }
+
+    // names are looked up exactly; case-insensitive matching is left to the bean deserializer
+    private static boolean isCaseInsensitive(DeserializationConfig config, BeanDescription beanDesc) {
+        if (config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)) {
+            return true;
+        }
+        JsonFormat.Value override = config.getDefaultPropertyFormat(beanDesc.getBeanClass());
+        JsonFormat.Value annotated = config.getAnnotationIntrospector() != null
+                ? config.getAnnotationIntrospector().findFormat(config, beanDesc.getClassInfo())
+                : null;
+        JsonFormat.Value format = annotated != null ? override.withOverrides(annotated) : override;
+        return Boolean.TRUE.equals(format.getFeature(JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES));
+    }
+
+    private static boolean hasCreatorPathOnlyAnnotation(BeanPropertyDefinition definition) {
+        for (Class<? extends Annotation> annotation : CREATOR_PATH_ONLY) {
+            if (has(definition.getConstructorParameter(), annotation) || has(definition.getField(), annotation)
+                    || has(definition.getGetter(), annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean has(AnnotatedMember member, Class<? extends Annotation> annotation) {
+        return member != null && member.hasAnnotation(annotation);
+    }
+
+    @Override
+    public boolean hasDeserializerFor(DeserializationConfig config, Class<?> valueType) {
+        return valueType.isRecord() && SUPPORTED.get(valueType)
+                && !config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES);
+    }
+
+    private static boolean isSupported(Class<?> type) {
+        RecordComponent[] components = type.getRecordComponents();
+        if (components.length > NullableValueRecordDeserializer.Plan.MAX_COMPONENTS
+                || type.getTypeParameters().length > 0) {
+            return false;
+        }
+        boolean nullable = false;
+        for (RecordComponent component : components) {
+            if (component.getType() == NullableValue.class) {
+                nullable = true;
+                if (component.getAccessor().isAnnotationPresent(LazyContent.class)) {
+                    return false;
+                }
+            }
+        }
+        if (!nullable) {
+            return false;
+        }
+        for (Executable creator : type.getDeclaredConstructors()) {
+            if (creator.isAnnotationPresent(JsonCreator.class)) return false;
+            // any-setter, injected and unwrapped components are only handled by the generic creator path
+            for (Parameter parameter : creator.getParameters()) {
+                for (Class<? extends Annotation> annotation : CREATOR_PATH_ONLY) {
+                    if (parameter.isAnnotationPresent(annotation)) return false;
+                }
+            }
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) && method.isAnnotationPresent(JsonCreator.class)) return false;
+        }
+        return true;
+    }
+}
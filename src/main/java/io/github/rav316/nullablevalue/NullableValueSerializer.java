@@ -5,16 +5,23 @@ import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.impl.PropertySerializerMap;
 
 public class NullableValueSerializer extends ValueSerializer<NullableValue<?>> {
 
+    private static final WeakInterner<ValueSerializer<Object>, NullableValueSerializer> INTERNED =
+            new WeakInterner<>();
+
+    private final JavaType contentType;
     private final ValueSerializer<Object> contentSerializer;
+    private PropertySerializerMap dynamicSerializers = PropertySerializerMap.emptyForProperties();
 
     public NullableValueSerializer() {
-        this.contentSerializer = null;
+        this(null, null);
     }
 
-    private NullableValueSerializer(ValueSerializer<Object> contentSerializer) {
+    private NullableValueSerializer(JavaType contentType, ValueSerializer<Object> contentSerializer) {
+        this.contentType = contentType;
         this.contentSerializer = contentSerializer;
     }
 
@@ -24,13 +31,17 @@ public class NullableValueSerializer extends ValueSerializer<NullableValue<?>> {
             gen.writeNull();
             return;
         }
+        if (value instanceof LazyNullableValue<?> lazy && !lazy.isBound()) {
+            lazy.writeRaw(gen);
+            return;
+        }
         Object content = value.get();
         if (content == null) {
             gen.writeNull();
         } else if (contentSerializer != null) {
             contentSerializer.serialize(content, gen, ctxt);
         } else {
-            gen.writePOJO(content);
+            dynamicSerializer(ctxt, content.getClass()).serialize(content, gen, ctxt);
         }
     }
 
@@ -41,13 +52,27 @@ public class NullableValueSerializer extends ValueSerializer<NullableValue<?>> {
 
     @Override
     public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
-        if (property != null) {
-            JavaType contentType = property.getType().containedType(0);
-            if (contentType != null) {
-                ValueSerializer<Object> cs = ctxt.findValueSerializer(contentType);
-                return new NullableValueSerializer(cs);
-            }
+        JavaType contentType = property != null ? JacksonTypes.nullableContentType(property.getType()) : null;
+        // only final content types are interned: their content serializer identifies the wrapper. Root values and
+        // non-final types resolve runtime classes through a dynamic map holding serializers of one mapper, so they
+        // get an instance per property rather than one shared across mappers
+        if (contentType == null || !contentType.isFinal()) {
+            return new NullableValueSerializer(contentType, null);
+        }
+        ValueSerializer<Object> cs = ctxt.findContentValueSerializer(contentType, property);
+        return INTERNED.intern(cs, key -> new NullableValueSerializer(contentType, key));
+    }
+
+    private ValueSerializer<Object> dynamicSerializer(SerializationContext ctxt, Class<?> type) {
+        PropertySerializerMap map = dynamicSerializers;
+        ValueSerializer<Object> serializer = map.serializerFor(type);
+        if (serializer == null) {
+            PropertySerializerMap.SerializerAndMapResult result = contentType != null && contentType.hasGenericTypes()
+                    ? map.findAndAddSecondarySerializer(ctxt.constructSpecializedType(contentType, type), ctxt, null)
+                    : map.findAndAddSecondarySerializer(type, ctxt, null);
+            dynamicSerializers = result.map;
+            serializer = result.serializer;
         }
-        return this;
+        return serializer;
     }
 }
@@ -0,0 +1,45 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.ValueSerializerModifier;
+import tools.jackson.databind.type.CollectionType;
+
+import java.util.Collection;
+import java.util.List;
+
+class NullableValueSerializerModifier extends ValueSerializerModifier {
+
+    private final boolean collections;
+    private final boolean projection;
+
+    NullableValueSerializerModifier(boolean collections, boolean projection) {
+        this.collections = collections;
+        this.projection = projection;
+    }
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription.Supplier beanDescRef,
+                                                     List<BeanPropertyWriter> beanProperties) {
+        if (projection) {
+            beanProperties.replaceAll(writer -> writer.getType().hasRawClass(NullableValue.class)
+                    ? new ProjectingPropertyWriter(writer)
+                    : writer);
+        }
+        return beanProperties;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ValueSerializer<?> modifyCollectionSerializer(SerializationConfig config, CollectionType valueType,
+                                                         BeanDescription.Supplier beanDescRef,
+                                                         ValueSerializer<?> serializer) {
+        if (!collections || !valueType.getContentType().hasRawClass(NullableValue.class)) {
+            return serializer;
+        }
+        return new NullableValueCollectionSerializer((ValueSerializer<Collection<?>>) serializer,
+                valueType.getContentType(), null);
+    }
+}
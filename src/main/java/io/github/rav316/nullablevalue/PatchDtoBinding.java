@@ -0,0 +1,14 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.ValueSerializer;
+
+// implemented by classes generated for @PatchDto types and discovered through ServiceLoader by NullableValueModule
+public interface PatchDtoBinding<T> {
+
+    Class<T> type();
+
+    ValueSerializer<T> serializer();
+
+    ValueDeserializer<T> deserializer();
+}
@@ -0,0 +1,21 @@
+package io.github.rav316.nullablevalue;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+
+// skips NullableValue properties left out by the projection of the value being written, before the getter is called
+final class ProjectingPropertyWriter extends BeanPropertyWriter {
+
+    ProjectingPropertyWriter(BeanPropertyWriter base) {
+        super(base);
+    }
+
+    @Override
+    public void serializeAsProperty(Object bean, JsonGenerator gen, SerializationContext ctxt) throws Exception {
+        NullableValueProjection projection = NullableValueProjection.current(ctxt, bean);
+        if (projection == null || projection.includes(getName())) {
+            super.serializeAsProperty(bean, gen, ctxt);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.rav316.nullablevalue;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+// keys and values are both weakly held: values reference their keys, so a strong value would pin the key
+final class WeakInterner<K, V> {
+
+    private final Map<K, WeakReference<V>> instances = new WeakHashMap<>();
+
+    synchronized V intern(K key, Function<? super K, ? extends V> factory) {
+        WeakReference<V> ref = instances.get(key);
+        V value = ref != null ? ref.get() : null;
+        if (value == null) {
+            value = factory.apply(key);
+            instances.put(key, new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    synchronized int size() {
+        return instances.size();
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.rav316.nullablevalue.autoconfigure;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Set;
+
+class NullableValueAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        List<String> packages = List.of();
+        Environment environment = beanFactory.getBean(Environment.class);
+        if (environment instanceof ConfigurableEnvironment configurable) {
+            packages = Binder.get(configurable)
+                    .bind("nullablevalue.warmup.packages", Bindable.listOf(String.class))
+                    .orElse(List.of());
+        }
+        if (packages.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+            packages = AutoConfigurationPackages.get(beanFactory);
+        }
+        Set<Class<?>> types = NullableValueWarmer.findTypes(packages, beanFactory.getBeanClassLoader());
+        if (types.isEmpty()) {
+            return null;
+        }
+        return (generationContext, code) -> {
+            ReflectionHints reflection = generationContext.getRuntimeHints().reflection();
+            new BindingReflectionHintsRegistrar().registerReflectionHints(reflection, types.toArray(Class<?>[]::new));
+            // NullableValueDescriptor reads getters, setters and constructors through method handles
+            for (Class<?> type : types) {
+                reflection.registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        };
+    }
+}
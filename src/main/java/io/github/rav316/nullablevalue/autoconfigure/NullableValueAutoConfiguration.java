@@ -1,17 +1,80 @@
 package io.github.rav316.nullablevalue.autoconfigure;
 
 import io.github.rav316.nullablevalue.NullableValueModule;
+import io.github.rav316.nullablevalue.metrics.InMemoryNullableValueMetrics;
+import io.github.rav316.nullablevalue.metrics.MicrometerNullableValueMetrics;
+import io.github.rav316.nullablevalue.metrics.NullableValueMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 @AutoConfiguration(before = JacksonAutoConfiguration.class)
 @ConditionalOnClass(name = "tools.jackson.databind.ObjectMapper")
+@EnableConfigurationProperties(NullableValueProperties.class)
+@ImportRuntimeHints(NullableValueRuntimeHints.class)
 public class NullableValueAutoConfiguration {
 
     @Bean
-    public NullableValueModule nullableValueModule() {
-        return new NullableValueModule();
+    public NullableValueModule nullableValueModule(NullableValueProperties properties,
+                                                   ObjectProvider<NullableValueMetrics> metrics) {
+        return new NullableValueModule(metrics.getIfAvailable())
+                .lazyContent(properties.isLazyContent())
+                .projection(properties.getProjection().isEnabled());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "nullablevalue.warmup", name = "enabled", havingValue = "true")
+    public NullableValueWarmer nullableValueWarmer(NullableValueProperties properties, BeanFactory beanFactory,
+                                                   ObjectProvider<ObjectMapper> objectMapper,
+                                                   ObjectProvider<NullableValueValidationWarmup> validationWarmup) {
+        List<Consumer<Class<?>>> steps = validationWarmup.stream().<Consumer<Class<?>>>map(step -> step).toList();
+        return new NullableValueWarmer(warmupPackages(properties, beanFactory), objectMapper.getIfAvailable(), steps);
+    }
+
+    static List<String> warmupPackages(NullableValueProperties properties, BeanFactory beanFactory) {
+        List<String> packages = properties.getWarmup().getPackages();
+        if (packages.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+            return AutoConfigurationPackages.get(beanFactory);
+        }
+        return packages;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "nullablevalue.metrics", name = "enabled", havingValue = "true")
+    static class MetricsConfiguration {
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+        static class MicrometerMetricsConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean(NullableValueMetrics.class)
+            public NullableValueMetrics nullableValueMetrics(ObjectProvider<MeterRegistry> registry) {
+                MeterRegistry meterRegistry = registry.getIfAvailable();
+                return meterRegistry != null
+                        ? new MicrometerNullableValueMetrics(meterRegistry)
+                        : new InMemoryNullableValueMetrics();
+            }
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(NullableValueMetrics.class)
+        public NullableValueMetrics inMemoryNullableValueMetrics() {
+            return new InMemoryNullableValueMetrics();
+        }
     }
 }
@@ -0,0 +1,128 @@
+package io.github.rav316.nullablevalue.autoconfigure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties("nullablevalue")
+public class NullableValueProperties {
+
+    private boolean lazyContent;
+    private final Metrics metrics = new Metrics();
+    private final Warmup warmup = new Warmup();
+    private final Validation validation = new Validation();
+    private final Projection projection = new Projection();
+    private final PatchConverters patchConverters = new PatchConverters();
+
+    public boolean isLazyContent() {
+        return lazyContent;
+    }
+
+    public void setLazyContent(boolean lazyContent) {
+        this.lazyContent = lazyContent;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public Warmup getWarmup() {
+        return warmup;
+    }
+
+    public Validation getValidation() {
+        return validation;
+    }
+
+    public Projection getProjection() {
+        return projection;
+    }
+
+    public PatchConverters getPatchConverters() {
+        return patchConverters;
+    }
+
+    public static class Metrics {
+
+        private boolean enabled;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Warmup {
+
+        private boolean enabled;
+        private List<String> packages = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getPackages() {
+            return packages;
+        }
+
+        public void setPackages(List<String> packages) {
+            this.packages = packages;
+        }
+    }
+
+    public static class Validation {
+
+        private boolean fastPath;
+
+        public boolean isFastPath() {
+            return fastPath;
+        }
+
+        public void setFastPath(boolean fastPath) {
+            this.fastPath = fastPath;
+        }
+    }
+
+    public static class Projection {
+
+        private boolean enabled;
+        private String parameter = "fields";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getParameter() {
+            return parameter;
+        }
+
+        public void setParameter(String parameter) {
+            this.parameter = parameter;
+        }
+    }
+
+    public static class PatchConverters {
+
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+}
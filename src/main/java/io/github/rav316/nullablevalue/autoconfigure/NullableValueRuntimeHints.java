@@ -0,0 +1,25 @@
+package io.github.rav316.nullablevalue.autoconfigure;
+
+import io.github.rav316.nullablevalue.NullableValueModule;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+public class NullableValueRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // value extractors are discovered through ServiceLoader by Bean Validation providers
+        hints.resources().registerPattern("META-INF/services/jakarta.validation.valueextraction.ValueExtractor");
+        // referenced by name so the registrar does not load them when jakarta.validation is absent
+        for (String type : new String[]{"io.github.rav316.nullablevalue.NullableValueExtractor",
+                "io.github.rav316.nullablevalue.NullablePrimitiveExtractors$IntExtractor",
+                "io.github.rav316.nullablevalue.NullablePrimitiveExtractors$LongExtractor",
+                "io.github.rav316.nullablevalue.NullablePrimitiveExtractors$DoubleExtractor",
+                "io.github.rav316.nullablevalue.NullablePrimitiveExtractors$BooleanExtractor"}) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+        hints.reflection().registerType(NullableValueModule.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
@@ -1,20 +1,70 @@
 package io.github.rav316.nullablevalue.autoconfigure;
 
+import io.github.rav316.nullablevalue.NullableValueExtractor;
+import io.github.rav316.nullablevalue.validation.NullableValueValidator;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-@AutoConfiguration
+@AutoConfiguration(before = NullableValueAutoConfiguration.class)
 @ConditionalOnClass(name = "jakarta.validation.valueextraction.ValueExtractor")
 public class NullableValueValidationAutoConfiguration {
 
     @Bean
-    public Object nullableValueExtractor() {
-        try {
-            Class<?> extractorClass = Class.forName("io.github.rav316.nullablevalue.NullableValueExtractor");
-            return extractorClass.getDeclaredConstructor().newInstance();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create NullableValueExtractor", e);
+    public NullableValueExtractor nullableValueExtractor() {
+        return new NullableValueExtractor();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "nullablevalue.warmup", name = "enabled", havingValue = "true")
+    public NullableValueValidationWarmup nullableValueValidationWarmup(ObjectProvider<Validator> validator) {
+        return new NullableValueValidationWarmup(validator);
+    }
+
+    static SpringValidatorAdapter fastPathValidator(ObjectProvider<Validator> validator) {
+        Validator target = validator.getIfUnique();
+        return target != null ? new SpringValidatorAdapter(new NullableValueValidator(target)) : null;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "nullablevalue.validation", name = "fast-path", havingValue = "true")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "org.springframework.web.servlet.config.annotation.WebMvcConfigurer")
+    static class WebMvcFastPathConfiguration {
+
+        @Bean
+        public WebMvcConfigurer nullableValueValidatorWebMvcConfigurer(ObjectProvider<Validator> validator) {
+            return new WebMvcConfigurer() {
+                @Override
+                public org.springframework.validation.Validator getValidator() {
+                    return fastPathValidator(validator);
+                }
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "nullablevalue.validation", name = "fast-path", havingValue = "true")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(name = "org.springframework.web.reactive.config.WebFluxConfigurer")
+    static class WebFluxFastPathConfiguration {
+
+        @Bean
+        public WebFluxConfigurer nullableValueValidatorWebFluxConfigurer(ObjectProvider<Validator> validator) {
+            return new WebFluxConfigurer() {
+                @Override
+                public org.springframework.validation.Validator getValidator() {
+                    return fastPathValidator(validator);
+                }
+            };
         }
     }
 }
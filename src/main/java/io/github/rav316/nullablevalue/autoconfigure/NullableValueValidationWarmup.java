@@ -0,0 +1,23 @@
+package io.github.rav316.nullablevalue.autoconfigure;
+
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.function.Consumer;
+
+public class NullableValueValidationWarmup implements Consumer<Class<?>> {
+
+    private final ObjectProvider<Validator> validator;
+
+    public NullableValueValidationWarmup(ObjectProvider<Validator> validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public void accept(Class<?> type) {
+        Validator v = validator.getIfAvailable();
+        if (v != null) {
+            v.getConstraintsForClass(type);
+        }
+    }
+}
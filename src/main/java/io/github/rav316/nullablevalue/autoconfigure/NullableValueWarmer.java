@@ -0,0 +1,124 @@
+package io.github.rav316.nullablevalue.autoconfigure;
+
+import io.github.rav316.nullablevalue.NullableBoolean;
+import io.github.rav316.nullablevalue.NullableDouble;
+import io.github.rav316.nullablevalue.NullableInt;
+import io.github.rav316.nullablevalue.NullableLong;
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueDescriptor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class NullableValueWarmer implements SmartInitializingSingleton {
+
+    private static final Log logger = LogFactory.getLog(NullableValueWarmer.class);
+
+    private static final Set<Class<?>> WRAPPER_TYPES = Set.of(NullableValue.class, NullableInt.class,
+            NullableLong.class, NullableDouble.class, NullableBoolean.class);
+
+    private final Collection<String> packages;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<Class<?>>> steps;
+    private volatile Set<Class<?>> warmedTypes = Set.of();
+
+    public NullableValueWarmer(Collection<String> packages, ObjectMapper objectMapper,
+                               List<Consumer<Class<?>>> steps) {
+        this.packages = packages;
+        this.objectMapper = objectMapper;
+        this.steps = steps;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        warmUp();
+    }
+
+    public Set<Class<?>> warmUp() {
+        long start = System.nanoTime();
+        Set<Class<?>> types = findTypes(packages, ClassUtils.getDefaultClassLoader());
+        for (Class<?> type : types) {
+            try {
+                NullableValueDescriptor.of(type);
+                if (objectMapper != null) {
+                    // readerFor/writerFor prefetch the root (de)serializers, resolving every property contextually
+                    objectMapper.readerFor(type);
+                    objectMapper.writerFor(type);
+                }
+                for (Consumer<Class<?>> step : steps) {
+                    step.accept(type);
+                }
+            } catch (RuntimeException | LinkageError e) {
+                logger.debug("Could not pre-warm " + type.getName(), e);
+            }
+        }
+        warmedTypes = Set.copyOf(types);
+        if (logger.isInfoEnabled()) {
+            logger.info("Pre-warmed " + types.size() + " NullableValue types in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        }
+        return warmedTypes;
+    }
+
+    public Set<Class<?>> warmedTypes() {
+        return warmedTypes;
+    }
+
+    public static Set<Class<?>> findTypes(Collection<String> packages, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent() && !beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Object.class));
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String basePackage : packages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                try {
+                    Class<?> type = ClassUtils.forName(candidate.getBeanClassName(), classLoader);
+                    if (hasNullableProperties(type)) {
+                        types.add(type);
+                    }
+                } catch (ClassNotFoundException | LinkageError e) {
+                    logger.debug("Skipping " + candidate.getBeanClassName(), e);
+                }
+            }
+        }
+        return types;
+    }
+
+    static boolean hasNullableProperties(Class<?> type) {
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                if (WRAPPER_TYPES.contains(component.getType())) {
+                    return true;
+                }
+            }
+        }
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (WRAPPER_TYPES.contains(field.getType()) && !Modifier.isStatic(field.getModifiers())) {
+                    return true;
+                }
+            }
+        }
+        return NullableValueDescriptor.of(type).hasProperties();
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.rav316.nullablevalue.autoconfigure;
+
+import io.github.rav316.nullablevalue.web.BulkRequestBodyArgumentResolver;
+import io.github.rav316.nullablevalue.web.JsonPatchHttpMessageConverter;
+import io.github.rav316.nullablevalue.web.SparseFieldsetsResponseBodyAdvice;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(name = "org.springframework.web.servlet.config.annotation.WebMvcConfigurer")
+public class NullableValueWebMvcAutoConfiguration {
+
+    @Bean
+    public WebMvcConfigurer nullableValueWebMvcConfigurer(ObjectMapper objectMapper) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+                resolvers.add(new BulkRequestBodyArgumentResolver(objectMapper));
+            }
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "nullablevalue.projection", name = "enabled", havingValue = "true")
+    static class ProjectionConfiguration {
+
+        @Bean
+        public SparseFieldsetsResponseBodyAdvice sparseFieldsetsResponseBodyAdvice(NullableValueProperties properties) {
+            return new SparseFieldsetsResponseBodyAdvice(properties.getProjection().getParameter());
+        }
+    }
+
+    // converter beans are picked up by Spring Boot and placed ahead of the default Jackson converter; merge patches
+    // need none, since that converter already reads application/*+json through the module
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "nullablevalue.patch-converters", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    static class PatchConvertersConfiguration {
+
+        @Bean
+        public JsonPatchHttpMessageConverter jsonPatchHttpMessageConverter(ObjectMapper objectMapper) {
+            return new JsonPatchHttpMessageConverter(objectMapper);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.rav316.nullablevalue.bulk;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+public final class NullableValueBulkProcessor implements AutoCloseable {
+
+    // more slices than threads, so one slow slice or a skewed key does not leave the other threads idle
+    private static final int SLICES_PER_THREAD = 4;
+
+    private final Executor executor;
+    private final int parallelism;
+    private final boolean ownsExecutor;
+
+    public NullableValueBulkProcessor(Executor executor, int parallelism) {
+        this(executor, parallelism, false);
+    }
+
+    private NullableValueBulkProcessor(Executor executor, int parallelism, boolean ownsExecutor) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.parallelism = parallelism;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    public static NullableValueBulkProcessor forkJoin(int parallelism) {
+        return new NullableValueBulkProcessor(new ForkJoinPool(parallelism), parallelism, true);
+    }
+
+    public static NullableValueBulkProcessor virtualThreads(int parallelism) {
+        return new NullableValueBulkProcessor(Executors.newVirtualThreadPerTaskExecutor(), parallelism, true);
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    // violations keyed by the index of the DTO in the input, DTOs without violations are left out
+    public <T> SortedMap<Integer, Set<ConstraintViolation<T>>> validate(Validator validator, List<T> dtos,
+                                                                         Class<?>... groups) {
+        @SuppressWarnings("unchecked")
+        Set<ConstraintViolation<T>>[] results = new Set[dtos.size()];
+        int slices = slices(dtos.size());
+        run(slices, slice -> {
+            int end = end(slice, slices, dtos.size());
+            for (int i = end(slice - 1, slices, dtos.size()); i < end; i++) {
+                Set<ConstraintViolation<T>> violations = validator.validate(dtos.get(i), groups);
+                if (!violations.isEmpty()) {
+                    results[i] = violations;
+                }
+            }
+        });
+        SortedMap<Integer, Set<ConstraintViolation<T>>> violations = new TreeMap<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null) {
+                violations.put(i, results[i]);
+            }
+        }
+        return violations;
+    }
+
+    public <T> SortedMap<Integer, Set<ConstraintViolation<T>>> validate(Validator validator, Stream<T> dtos,
+                                                                         Class<?>... groups) {
+        return validate(validator, dtos.toList(), groups);
+    }
+
+    // DTOs with equal keys go to the same slice, which is processed by one thread in input order
+    public <D> long apply(List<D> dtos, Function<? super D, ?> key, Consumer<? super D> action) {
+        int slices = slices(dtos.size());
+        List<List<D>> partitions = new ArrayList<>(slices);
+        for (int i = 0; i < slices; i++) {
+            partitions.add(new ArrayList<>(dtos.size() / slices + 1));
+        }
+        for (D dto : dtos) {
+            int h = Objects.hashCode(key.apply(dto));
+            partitions.get(Math.floorMod(h ^ (h >>> 16), slices)).add(dto);
+        }
+        AtomicLong applied = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        run(slices, slice -> {
+            long count = 0;
+            try {
+                for (D dto : partitions.get(slice)) {
+                    // stop at the first failure, so no DTO is applied after an earlier one of its key failed
+                    if (failure.get() != null) break;
+                    action.accept(dto);
+                    count++;
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                applied.addAndGet(count);
+            }
+        });
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException e) throw e;
+        if (t instanceof Error e) throw e;
+        if (t != null) throw new IllegalStateException("Bulk action failed", t);
+        return applied.get();
+    }
+
+    public <D> long apply(Stream<D> dtos, Function<? super D, ?> key, Consumer<? super D> action) {
+        return apply(dtos.toList(), key, action);
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).close();
+        }
+    }
+
+    private int slices(int size) {
+        return Math.max(1, Math.min(size, parallelism == 1 ? 1 : parallelism * SLICES_PER_THREAD));
+    }
+
+    private static int end(int slice, int slices, int size) {
+        return (int) ((long) (slice + 1) * size / slices);
+    }
+
+    private void run(int slices, IntConsumer task) {
+        if (slices == 1) {
+            task.accept(0);
+            return;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[slices];
+        for (int i = 0; i < slices; i++) {
+            int slice = i;
+            futures[i] = CompletableFuture.runAsync(() -> task.accept(slice), executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException r) throw r;
+            if (cause instanceof Error error) throw error;
+            throw e;
+        }
+    }
+}
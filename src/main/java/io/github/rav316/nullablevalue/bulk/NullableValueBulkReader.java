@@ -0,0 +1,121 @@
+package io.github.rav316.nullablevalue.bulk;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class NullableValueBulkReader<T> {
+
+    private final ObjectReader reader;
+
+    public NullableValueBulkReader(ObjectMapper mapper, Class<T> type) {
+        this.reader = mapper.readerFor(type);
+    }
+
+    public Stream<T> stream(InputStream in) {
+        RecordIterator iterator = new RecordIterator(reader.createParser(in));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    public long forEachBatch(InputStream in, int batchSize, int maxInFlight, Consumer<? super List<T>> consumer) {
+        if (batchSize < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("batchSize and maxInFlight must be positive");
+        }
+        Semaphore permits = new Semaphore(maxInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long count = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             Stream<T> records = stream(in)) {
+            Iterator<T> iterator = records.iterator();
+            List<T> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext() && failure.get() == null) {
+                batch.add(iterator.next());
+                count++;
+                if (batch.size() == batchSize) {
+                    submit(executor, permits, failure, batch, consumer);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty() && failure.get() == null) {
+                submit(executor, permits, failure, batch, consumer);
+            }
+        }
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException e) throw e;
+        if (t instanceof Error e) throw e;
+        if (t != null) throw new IllegalStateException("Batch consumer failed", t);
+        return count;
+    }
+
+    private void submit(ExecutorService executor, Semaphore permits, AtomicReference<Throwable> failure,
+                        List<T> batch, Consumer<? super List<T>> consumer) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a free batch slot");
+        }
+        executor.execute(() -> {
+            try {
+                consumer.accept(batch);
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private final class RecordIterator implements Iterator<T> {
+
+        private final JsonParser parser;
+        private JsonToken next;
+
+        private RecordIterator(JsonParser parser) {
+            this.parser = parser;
+            JsonToken first = parser.nextToken();
+            this.next = first == JsonToken.START_ARRAY ? endOf(parser.nextToken()) : first;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            T value = reader.readValue(parser);
+            next = endOf(parser.nextToken());
+            return value;
+        }
+
+        private JsonToken endOf(JsonToken token) {
+            return token == JsonToken.END_ARRAY ? null : token;
+        }
+
+        private void close() {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.rav316.nullablevalue.bulk;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueDescriptor;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+public final class NullableValueCoalescer<K, D> implements AutoCloseable {
+
+    private final NullableValueDescriptor descriptor;
+    private final List<NullableValueDescriptor.Property> properties;
+    private final int maxBatchSize;
+    private final Consumer<? super Map<K, D>> writer;
+    private final ConcurrentHashMap<K, Entry<D>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    public NullableValueCoalescer(Class<D> type, int maxBatchSize, Duration maxDelay,
+                                  Consumer<? super Map<K, D>> writer) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxDelay must be positive");
+        }
+        this.descriptor = NullableValueDescriptor.of(type);
+        this.properties = descriptor.properties().stream()
+                .filter(NullableValueDescriptor.Property::isWritable)
+                .toList();
+        this.maxBatchSize = maxBatchSize;
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("nullablevalue-coalescer").factory());
+        long delayNanos = maxDelay.toNanos();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, delayNanos, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public CompletableFuture<Void> submit(K key, D patch) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(patch, "patch");
+        if (closed) {
+            throw new IllegalStateException("Coalescer is closed");
+        }
+        submitted.increment();
+        boolean[] inserted = new boolean[1];
+        Entry<D> entry = pending.compute(key, (k, existing) -> {
+            if (existing == null) {
+                inserted[0] = true;
+                // the buffered DTO is a private copy, so callers may reuse or mutate the submitted one
+                @SuppressWarnings("unchecked")
+                D copy = (D) descriptor.newInstance();
+                mergeInto(copy, patch);
+                return new Entry<>(copy);
+            }
+            mergeInto(existing.patch, patch);
+            return existing;
+        });
+        if (inserted[0]) {
+            pendingCount.incrementAndGet();
+        }
+        if (closed) {
+            // close() may have run its final flush between the check above and compute; flushing the key under the
+            // lock writes the entry here unless that flush already took it, so no future is left pending
+            flushQuietly(key);
+        } else if (inserted[0] && pendingCount.get() >= maxBatchSize && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+        return entry.flushed;
+    }
+
+    public int flush() {
+        flushLock.lock();
+        try {
+            flushScheduled.set(false);
+            int total = 0;
+            // a single pass over the keys, so flushing terminates even while submitters keep adding entries
+            Map<K, Entry<D>> batch = new LinkedHashMap<>();
+            for (K key : pending.keySet()) {
+                Entry<D> entry = remove(key);
+                if (entry == null) continue;
+                batch.put(key, entry);
+                if (batch.size() == maxBatchSize) {
+                    write(batch);
+                    total += batch.size();
+                    batch = new LinkedHashMap<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                total += batch.size();
+            }
+            return total;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public boolean flush(K key) {
+        flushLock.lock();
+        try {
+            Entry<D> entry = remove(key);
+            if (entry == null) {
+                return false;
+            }
+            write(Collections.singletonMap(key, entry));
+            return true;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    public long submittedCount() {
+        return submitted.sum();
+    }
+
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        scheduler.shutdown();
+        flush();
+    }
+
+    private void mergeInto(Object target, Object patch) {
+        for (NullableValueDescriptor.Property property : properties) {
+            NullableValue<?> value = property.get(patch);
+            if (value.isPresent()) {
+                property.set(target, value);
+            }
+        }
+    }
+
+    private Entry<D> remove(K key) {
+        Entry<D> entry = pending.remove(key);
+        if (entry != null) {
+            pendingCount.decrementAndGet();
+        }
+        return entry;
+    }
+
+    private void write(Map<K, Entry<D>> batch) {
+        Map<K, D> patches = new LinkedHashMap<>(batch.size() * 2);
+        batch.forEach((key, entry) -> patches.put(key, entry.patch));
+        try {
+            writer.accept(Collections.unmodifiableMap(patches));
+        } catch (RuntimeException | Error e) {
+            batch.values().forEach(entry -> entry.flushed.completeExceptionally(e));
+            throw e;
+        }
+        written.add(batch.size());
+        batch.values().forEach(entry -> entry.flushed.complete(null));
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Throwable t) {
+            // already reported through the futures returned by submit; rethrowing would cancel the periodic flush
+        }
+    }
+
+    private void flushQuietly(K key) {
+        try {
+            flush(key);
+        } catch (RuntimeException | Error e) {
+            // reported through the future returned by submit
+        }
+    }
+
+    private static final class Entry<D> {
+
+        private final D patch;
+        private final CompletableFuture<Void> flushed = new CompletableFuture<>();
+
+        private Entry(D patch) {
+            this.patch = patch;
+        }
+    }
+}
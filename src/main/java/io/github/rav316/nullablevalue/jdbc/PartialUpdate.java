@@ -0,0 +1,186 @@
+package io.github.rav316.nullablevalue.jdbc;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueDescriptor;
+import io.github.rav316.nullablevalue.PatchTarget;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class PartialUpdate<D> {
+
+    private static final ClassValue<ConcurrentMap<String, PartialUpdate<?>>> CACHE = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<String, PartialUpdate<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<D> dtoType;
+    private final String table;
+    private final String idColumn;
+    private final NullableValueDescriptor.Property[] properties;
+    private final String[] columns;
+    private final int[] sqlTypes;
+    private final ConcurrentMap<Long, String> statements = new ConcurrentHashMap<>();
+
+    private PartialUpdate(Class<D> dtoType, String table, String idColumn) {
+        List<NullableValueDescriptor.Property> properties = NullableValueDescriptor.of(dtoType).properties();
+        if (properties.size() > Long.SIZE) {
+            throw new IllegalArgumentException(dtoType.getName() + " has " + properties.size()
+                    + " NullableValue properties, at most " + Long.SIZE + " are supported");
+        }
+        this.dtoType = dtoType;
+        this.table = table;
+        this.idColumn = idColumn;
+        this.properties = properties.toArray(new NullableValueDescriptor.Property[0]);
+        this.columns = new String[this.properties.length];
+        this.sqlTypes = new int[this.properties.length];
+        for (int i = 0; i < this.properties.length; i++) {
+            PatchTarget patchTarget = this.properties[i].getAnnotation(PatchTarget.class);
+            columns[i] = toColumnName(patchTarget != null ? patchTarget.value() : this.properties[i].name());
+            sqlTypes[i] = sqlType(this.properties[i].rawContentType());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <D> PartialUpdate<D> of(Class<D> dtoType, String table, String idColumn) {
+        return (PartialUpdate<D>) CACHE.get(dtoType)
+                .computeIfAbsent(table + '\u0000' + idColumn, key -> new PartialUpdate<>(dtoType, table, idColumn));
+    }
+
+    public Class<D> dtoType() {
+        return dtoType;
+    }
+
+    public long presenceMask(D dto) {
+        long mask = 0L;
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i].get(dto).isPresent()) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    public String sql(long presenceMask) {
+        if (presenceMask == 0L) {
+            throw new IllegalArgumentException("Presence mask is empty, there is nothing to update");
+        }
+        return statements.computeIfAbsent(presenceMask, this::buildSql);
+    }
+
+    public int execute(Connection connection, Object id, D dto) throws SQLException {
+        long mask = presenceMask(dto);
+        if (mask == 0L) {
+            return 0;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql(mask))) {
+            bind(statement, mask, id, dto);
+            return statement.executeUpdate();
+        }
+    }
+
+    public int[] executeBatch(Connection connection, Map<?, ? extends D> patches) throws SQLException {
+        Map<Long, List<Integer>> shapes = new LinkedHashMap<>();
+        List<Map.Entry<?, ? extends D>> entries = new ArrayList<>(patches.entrySet());
+        long[] masks = new long[entries.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = presenceMask(entries.get(i).getValue());
+            if (masks[i] != 0L) {
+                shapes.computeIfAbsent(masks[i], mask -> new ArrayList<>()).add(i);
+            }
+        }
+        int[] counts = new int[masks.length];
+        for (Map.Entry<Long, List<Integer>> shape : shapes.entrySet()) {
+            long mask = shape.getKey();
+            try (PreparedStatement statement = connection.prepareStatement(sql(mask))) {
+                for (int index : shape.getValue()) {
+                    Map.Entry<?, ? extends D> entry = entries.get(index);
+                    bind(statement, mask, entry.getKey(), entry.getValue());
+                    statement.addBatch();
+                }
+                int[] shapeCounts = statement.executeBatch();
+                for (int i = 0; i < shapeCounts.length; i++) {
+                    counts[shape.getValue().get(i)] = shapeCounts[i];
+                }
+            }
+        }
+        return counts;
+    }
+
+    private void bind(PreparedStatement statement, long mask, Object id, D dto) throws SQLException {
+        int parameter = 1;
+        for (long bits = mask; bits != 0L; bits &= bits - 1) {
+            int i = Long.numberOfTrailingZeros(bits);
+            NullableValue<?> value = properties[i].get(dto);
+            Object content = value.isPresent() ? value.get() : null;
+            if (content == null) {
+                statement.setNull(parameter++, sqlTypes[i]);
+            } else {
+                statement.setObject(parameter++, content);
+            }
+        }
+        statement.setObject(parameter, id);
+    }
+
+    private String buildSql(long mask) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET ");
+        for (long bits = mask; bits != 0L; bits &= bits - 1) {
+            int i = Long.numberOfTrailingZeros(bits);
+            if (bits != mask) {
+                sql.append(", ");
+            }
+            sql.append(columns[i]).append(" = ?");
+        }
+        return sql.append(" WHERE ").append(idColumn).append(" = ?").toString();
+    }
+
+    static String toColumnName(String propertyName) {
+        StringBuilder column = new StringBuilder(propertyName.length() + 4);
+        for (int i = 0; i < propertyName.length(); i++) {
+            char c = propertyName.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0 && !Character.isUpperCase(propertyName.charAt(i - 1))) {
+                    column.append('_');
+                }
+                column.append(Character.toLowerCase(c));
+            } else {
+                column.append(c);
+            }
+        }
+        return column.toString();
+    }
+
+    private static int sqlType(Class<?> type) {
+        if (type == String.class) return Types.VARCHAR;
+        if (type == Integer.class) return Types.INTEGER;
+        if (type == Long.class) return Types.BIGINT;
+        if (type == Short.class) return Types.SMALLINT;
+        if (type == Byte.class) return Types.TINYINT;
+        if (type == Boolean.class) return Types.BOOLEAN;
+        if (type == Double.class) return Types.DOUBLE;
+        if (type == Float.class) return Types.REAL;
+        if (type == BigDecimal.class || type == BigInteger.class) return Types.NUMERIC;
+        if (type == LocalDate.class) return Types.DATE;
+        if (type == LocalTime.class) return Types.TIME;
+        if (type == LocalDateTime.class) return Types.TIMESTAMP;
+        if (type == OffsetDateTime.class) return Types.TIMESTAMP_WITH_TIMEZONE;
+        if (type == byte[].class) return Types.VARBINARY;
+        return Types.NULL;
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.rav316.nullablevalue.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class InMemoryNullableValueMetrics implements NullableValueMetrics {
+
+    private final Map<Class<?>, LongAdder> instances = new ConcurrentHashMap<>();
+    private final Map<PropertyKey, PropertyCounters> properties = new ConcurrentHashMap<>();
+    private final Map<Phase, Histogram> timings = new EnumMap<>(Phase.class);
+
+    public InMemoryNullableValueMetrics() {
+        for (Phase phase : Phase.values()) {
+            timings.put(phase, new Histogram());
+        }
+    }
+
+    @Override
+    public void recordDeserialized(Class<?> dtoType) {
+        instances.computeIfAbsent(dtoType, t -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordPresence(Class<?> dtoType, String property, Presence presence) {
+        PropertyKey key = new PropertyKey(dtoType, property);
+        PropertyCounters counters = properties.get(key);
+        if (counters == null) {
+            PropertyCounters created = new PropertyCounters();
+            counters = properties.putIfAbsent(key, created);
+            // subclasses register meters here, which must not run inside a map update
+            if (counters == null) {
+                counters = created;
+                propertyRegistered(dtoType, property);
+            }
+        }
+        switch (presence) {
+            case NULL -> counters.nulls.increment();
+            case VALUE -> counters.values.increment();
+            case UNDEFINED -> counters.undefined.increment();
+        }
+    }
+
+    @Override
+    public void recordTiming(Phase phase, long nanos) {
+        timings.get(phase).record(nanos);
+    }
+
+    public long count(Class<?> dtoType) {
+        LongAdder adder = instances.get(dtoType);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    public long count(Class<?> dtoType, String property, Presence presence) {
+        PropertyCounters counters = properties.get(new PropertyKey(dtoType, property));
+        if (counters == null) {
+            return 0L;
+        }
+        return switch (presence) {
+            case NULL -> counters.nulls.sum();
+            case VALUE -> counters.values.sum();
+            case UNDEFINED -> counters.undefined.sum();
+        };
+    }
+
+    public TimingSnapshot timing(Phase phase) {
+        return timings.get(phase).snapshot();
+    }
+
+    protected void propertyRegistered(Class<?> dtoType, String property) {
+    }
+
+    public record TimingSnapshot(long count, long totalNanos, long maxNanos, long[] log2Buckets) {
+
+        public double meanNanos() {
+            return count == 0 ? 0.0 : (double) totalNanos / count;
+        }
+    }
+
+    private record PropertyKey(Class<?> dtoType, String property) {
+    }
+
+    private static final class PropertyCounters {
+        private final LongAdder nulls = new LongAdder();
+        private final LongAdder values = new LongAdder();
+        private final LongAdder undefined = new LongAdder();
+    }
+
+    private static final class Histogram {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+        // bucket i counts durations in [2^(i-1), 2^i) nanoseconds
+        private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+
+        private Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long nanos) {
+            long value = Math.max(0L, nanos);
+            count.increment();
+            total.add(value);
+            max.accumulate(value);
+            buckets[Math.min(Long.SIZE - Long.numberOfLeadingZeros(value), Long.SIZE - 1)].increment();
+        }
+
+        private TimingSnapshot snapshot() {
+            long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return new TimingSnapshot(count.sum(), total.sum(), max.get(), counts);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.rav316.nullablevalue.metrics;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.util.AccessPattern;
+
+public class InstrumentedNullableValueDeserializer extends ValueDeserializer<NullableValue<?>> {
+
+    private final ValueDeserializer<NullableValue<?>> delegate;
+    private final NullableValueMetrics metrics;
+    private final Class<?> dtoType;
+    private final String property;
+
+    public InstrumentedNullableValueDeserializer(ValueDeserializer<NullableValue<?>> delegate,
+                                                 NullableValueMetrics metrics) {
+        this(delegate, metrics, null, null);
+    }
+
+    private InstrumentedNullableValueDeserializer(ValueDeserializer<NullableValue<?>> delegate,
+                                                  NullableValueMetrics metrics, Class<?> dtoType, String property) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.dtoType = dtoType;
+        this.property = property;
+    }
+
+    @Override
+    public NullableValue<?> deserialize(JsonParser p, DeserializationContext ctxt) {
+        long start = System.nanoTime();
+        NullableValue<?> value = delegate.deserialize(p, ctxt);
+        metrics.recordTiming(NullableValueMetrics.Phase.CONTENT_DESERIALIZATION, System.nanoTime() - start);
+        if (dtoType != null) {
+            metrics.recordPresence(dtoType, property, value.isPresent() && value.orElse(null) == null
+                    ? NullableValueMetrics.Presence.NULL
+                    : NullableValueMetrics.Presence.VALUE);
+        }
+        return value;
+    }
+
+    @Override
+    public NullableValue<?> getNullValue(DeserializationContext ctxt) {
+        if (dtoType != null) {
+            metrics.recordPresence(dtoType, property, NullableValueMetrics.Presence.NULL);
+        }
+        return delegate.getNullValue(ctxt);
+    }
+
+    @Override
+    public AccessPattern getNullAccessPattern() {
+        return AccessPattern.DYNAMIC;
+    }
+
+    // called for creator arguments missing from the input; properties set through setters or fields are counted by
+    // InstrumentingDeserializerModifier
+    @Override
+    public Object getAbsentValue(DeserializationContext ctxt) {
+        if (dtoType != null) {
+            metrics.recordPresence(dtoType, property, NullableValueMetrics.Presence.UNDEFINED);
+        }
+        return delegate.getAbsentValue(ctxt);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        long start = System.nanoTime();
+        ValueDeserializer<NullableValue<?>> contextual =
+                (ValueDeserializer<NullableValue<?>>) delegate.createContextual(ctxt, property);
+        metrics.recordTiming(NullableValueMetrics.Phase.DESERIALIZER_RESOLUTION, System.nanoTime() - start);
+        if (property == null || property.getMember() == null || isElement(ctxt, property)) {
+            return new InstrumentedNullableValueDeserializer(contextual, metrics);
+        }
+        return new InstrumentedNullableValueDeserializer(contextual, metrics,
+                property.getMember().getDeclaringClass(), property.getName());
+    }
+
+    // elements of a List<NullableValue<T>> and similar containers are contextualized with the container property, but
+    // are not its presence
+    private static boolean isElement(DeserializationContext ctxt, BeanProperty property) {
+        if (!property.getType().hasRawClass(NullableValue.class)) {
+            return true;
+        }
+        JavaType contextualType = ctxt.getContextualType();
+        return contextualType != null && contextualType.hasRawClass(NullableValue.class)
+                && !contextualType.equals(property.getType());
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.rav316.nullablevalue.metrics;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+public class InstrumentedNullableValueSerializer extends ValueSerializer<NullableValue<?>> {
+
+    private final ValueSerializer<NullableValue<?>> delegate;
+    private final NullableValueMetrics metrics;
+
+    public InstrumentedNullableValueSerializer(ValueSerializer<NullableValue<?>> delegate,
+                                               NullableValueMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void serialize(NullableValue<?> value, JsonGenerator gen, SerializationContext ctxt) {
+        long start = System.nanoTime();
+        delegate.serialize(value, gen, ctxt);
+        metrics.recordTiming(NullableValueMetrics.Phase.CONTENT_SERIALIZATION, System.nanoTime() - start);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, NullableValue<?> value) {
+        return delegate.isEmpty(ctxt, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        long start = System.nanoTime();
+        ValueSerializer<NullableValue<?>> contextual =
+                (ValueSerializer<NullableValue<?>>) delegate.createContextual(ctxt, property);
+        metrics.recordTiming(NullableValueMetrics.Phase.SERIALIZER_RESOLUTION, System.nanoTime() - start);
+        return contextual == delegate ? this : new InstrumentedNullableValueSerializer(contextual, metrics);
+    }
+}
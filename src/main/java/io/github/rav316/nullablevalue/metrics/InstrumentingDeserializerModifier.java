@@ -0,0 +1,119 @@
+package io.github.rav316.nullablevalue.metrics;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueDescriptor;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.ValueDeserializerModifier;
+import tools.jackson.databind.deser.std.DelegatingDeserializer;
+import tools.jackson.databind.introspect.AnnotatedMember;
+import tools.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InstrumentingDeserializerModifier extends ValueDeserializerModifier {
+
+    private final NullableValueMetrics metrics;
+
+    public InstrumentingDeserializerModifier(NullableValueMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ValueDeserializer<?> modifyDeserializer(DeserializationConfig config,
+                                                   BeanDescription.Supplier beanDescRef,
+                                                   ValueDeserializer<?> deserializer) {
+        Class<?> type = deserializer.handledType();
+        if (type == null || type.isInterface() || type.getName().startsWith("java.")) {
+            return deserializer;
+        }
+        // presence is recorded against the class declaring each property, so count every level of the hierarchy
+        List<Class<?>> counted = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (NullableValueDescriptor.of(c).hasProperties()) {
+                counted.add(c);
+            }
+        }
+        if (counted.isEmpty()) {
+            return deserializer;
+        }
+        return new CountingDeserializer(deserializer, metrics, counted.toArray(Class<?>[]::new),
+                settable(type, beanDescRef.get()).toArray(Settable[]::new));
+    }
+
+    // properties Jackson sets through a setter or field; missing creator arguments are counted by
+    // InstrumentedNullableValueDeserializer.getAbsentValue instead
+    private static List<Settable> settable(Class<?> type, BeanDescription beanDesc) {
+        NullableValueDescriptor descriptor = NullableValueDescriptor.of(type);
+        List<Settable> settable = new ArrayList<>();
+        for (BeanPropertyDefinition definition : beanDesc.findProperties()) {
+            NullableValueDescriptor.Property property = descriptor.property(definition.getInternalName());
+            AnnotatedMember member = definition.getPrimaryMember();
+            if (property == null || member == null || definition.getConstructorParameter() != null
+                    || !(definition.hasSetter() || definition.hasField())) {
+                continue;
+            }
+            settable.add(new Settable(member.getDeclaringClass(), definition.getName(), property));
+        }
+        return settable;
+    }
+
+    private record Settable(Class<?> dtoType, String name, NullableValueDescriptor.Property property) {
+    }
+
+    private static final class CountingDeserializer extends DelegatingDeserializer {
+
+        private final NullableValueMetrics metrics;
+        private final Class<?>[] counted;
+        private final Settable[] settable;
+
+        private CountingDeserializer(ValueDeserializer<?> delegatee, NullableValueMetrics metrics,
+                                     Class<?>[] counted, Settable[] settable) {
+            super(delegatee);
+            this.metrics = metrics;
+            this.counted = counted;
+            this.settable = settable;
+        }
+
+        @Override
+        protected ValueDeserializer<?> newDelegatingInstance(ValueDeserializer<?> newDelegatee) {
+            return new CountingDeserializer(newDelegatee, metrics, counted, settable);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) {
+            Object bean = super.deserialize(p, ctxt);
+            record();
+            recordUndefined(bean);
+            return bean;
+        }
+
+        // an updated bean keeps the values it had, so what the input left out cannot be told from the result
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue) {
+            Object bean = super.deserialize(p, ctxt, intoValue);
+            record();
+            return bean;
+        }
+
+        private void record() {
+            for (Class<?> type : counted) {
+                metrics.recordDeserialized(type);
+            }
+        }
+
+        private void recordUndefined(Object bean) {
+            if (bean == null) return;
+            for (Settable s : settable) {
+                NullableValue<?> value = s.property().get(bean);
+                if (!value.isPresent()) {
+                    metrics.recordPresence(s.dtoType(), s.name(), NullableValueMetrics.Presence.UNDEFINED);
+                }
+            }
+        }
+    }
+}
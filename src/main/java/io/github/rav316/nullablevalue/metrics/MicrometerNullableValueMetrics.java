@@ -0,0 +1,45 @@
+package io.github.rav316.nullablevalue.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class MicrometerNullableValueMetrics extends InMemoryNullableValueMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+
+    public MicrometerNullableValueMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Phase phase : Phase.values()) {
+            timers.put(phase, Timer.builder("nullablevalue.timing")
+                    .description("Time spent in NullableValue (de)serialization phases")
+                    .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public void recordTiming(Phase phase, long nanos) {
+        super.recordTiming(phase, nanos);
+        timers.get(phase).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    protected void propertyRegistered(Class<?> dtoType, String property) {
+        for (Presence presence : Presence.values()) {
+            FunctionCounter.builder("nullablevalue.presence", this, m -> m.count(dtoType, property, presence))
+                    .description("Deserialized NullableValue properties by presence state")
+                    .tag("dto", dtoType.getName())
+                    .tag("property", property)
+                    .tag("state", presence.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.rav316.nullablevalue.metrics;
+
+public interface NullableValueMetrics {
+
+    enum Presence {
+        UNDEFINED, NULL, VALUE
+    }
+
+    enum Phase {
+        DESERIALIZER_RESOLUTION, SERIALIZER_RESOLUTION, CONTENT_DESERIALIZATION, CONTENT_SERIALIZATION
+    }
+
+    void recordDeserialized(Class<?> dtoType);
+
+    void recordPresence(Class<?> dtoType, String property, Presence presence);
+
+    void recordTiming(Phase phase, long nanos);
+}
@@ -0,0 +1,384 @@
+package io.github.rav316.nullablevalue.processor;
+
+import java.util.List;
+
+final class Generator {
+
+    private static final String NULLABLE_VALUE = "io.github.rav316.nullablevalue.NullableValue";
+    private static final String VALUE_SERIALIZER = "tools.jackson.databind.ValueSerializer";
+    private static final String VALUE_DESERIALIZER = "tools.jackson.databind.ValueDeserializer";
+    private static final String JSON_GENERATOR = "tools.jackson.core.JsonGenerator";
+    private static final String JSON_PARSER = "tools.jackson.core.JsonParser";
+    private static final String JSON_TOKEN = "tools.jackson.core.JsonToken";
+    private static final String SERIALIZATION_CONTEXT = "tools.jackson.databind.SerializationContext";
+    private static final String DESERIALIZATION_CONTEXT = "tools.jackson.databind.DeserializationContext";
+    private static final String BEAN_PROPERTY = "tools.jackson.databind.BeanProperty";
+    private static final String JAVA_TYPE = "tools.jackson.databind.JavaType";
+    private static final String SERIALIZER_MAP = "tools.jackson.databind.ser.impl.PropertySerializerMap";
+
+    private final String packageName;
+    private final String implName;
+    private final String typeName;
+    private final boolean record;
+    private final List<PatchDtoProcessor.Property> properties;
+    private final StringBuilder out = new StringBuilder();
+
+    Generator(String packageName, String implName, String typeName, boolean record,
+              List<PatchDtoProcessor.Property> properties) {
+        this.packageName = packageName;
+        this.implName = implName;
+        this.typeName = typeName;
+        this.record = record;
+        this.properties = properties;
+    }
+
+    String source() {
+        if (!packageName.isEmpty()) {
+            line("package " + packageName + ";");
+            line("");
+        }
+        line("@javax.annotation.processing.Generated(\"" + PatchDtoProcessor.class.getName() + "\")");
+        line("public final class " + implName + (record ? "" : " implements " + typeName) + " {");
+        line("");
+        line("    private final long[] $presence = new long[" + Math.max(1, (properties.size() + 63) >>> 6) + "];");
+        for (PatchDtoProcessor.Property property : properties) {
+            line("    private " + property.type() + " " + property.name() + ";");
+        }
+        line("");
+        line("    public " + implName + "() {");
+        line("    }");
+        for (int i = 0; i < properties.size(); i++) {
+            accessors(i, properties.get(i));
+        }
+        if (record) {
+            recordConversions();
+        }
+        objectMethods();
+        serializer();
+        deserializer();
+        binding();
+        line("}");
+        return out.toString();
+    }
+
+    private void accessors(int index, PatchDtoProcessor.Property property) {
+        String test = "($presence[" + word(index) + "] & " + bit(index) + ") != 0";
+        String name = property.name();
+        String capitalized = property.capitalized();
+        line("");
+        if (!record) {
+            line("    @Override");
+        }
+        line("    public " + NULLABLE_VALUE + "<" + property.type() + "> " + property.accessor() + "() {");
+        line("        return " + test + " ? " + NULLABLE_VALUE + ".of(" + name + ") : " + NULLABLE_VALUE + ".undefined();");
+        line("    }");
+        line("");
+        line("    public void set" + capitalized + "(" + NULLABLE_VALUE + "<? extends " + property.type() + "> value) {");
+        line("        if (value != null && value.isPresent()) {");
+        line("            $presence[" + word(index) + "] |= " + bit(index) + ";");
+        line("            this." + name + " = value.get();");
+        line("        } else {");
+        line("            $presence[" + word(index) + "] &= ~" + bit(index) + ";");
+        line("            this." + name + " = null;");
+        line("        }");
+        line("    }");
+        line("");
+        line("    public boolean has" + capitalized + "() {");
+        line("        return " + test + ";");
+        line("    }");
+        line("");
+        line("    public " + property.type() + " raw" + capitalized + "() {");
+        line("        return " + name + ";");
+        line("    }");
+        line("");
+        line("    public void set" + capitalized + "Raw(" + property.type() + " value) {");
+        line("        $presence[" + word(index) + "] |= " + bit(index) + ";");
+        line("        this." + name + " = value;");
+        line("    }");
+    }
+
+    private void recordConversions() {
+        StringBuilder arguments = new StringBuilder();
+        for (PatchDtoProcessor.Property property : properties) {
+            if (!arguments.isEmpty()) arguments.append(", ");
+            arguments.append(property.accessor()).append("()");
+        }
+        line("");
+        line("    public " + typeName + " toRecord() {");
+        line("        return new " + typeName + "(" + arguments + ");");
+        line("    }");
+        line("");
+        line("    public static " + implName + " from(" + typeName + " source) {");
+        line("        " + implName + " dto = new " + implName + "();");
+        for (PatchDtoProcessor.Property property : properties) {
+            line("        dto.set" + property.capitalized() + "(source." + property.accessor() + "());");
+        }
+        line("        return dto;");
+        line("    }");
+    }
+
+    private void objectMethods() {
+        line("");
+        line("    @Override");
+        line("    public boolean equals(Object o) {");
+        line("        if (this == o) return true;");
+        line("        if (!(o instanceof " + implName + " that)) return false;");
+        StringBuilder condition = new StringBuilder("java.util.Arrays.equals($presence, that.$presence)");
+        for (PatchDtoProcessor.Property property : properties) {
+            condition.append("\n                && java.util.Objects.equals(").append(property.name())
+                    .append(", that.").append(property.name()).append(")");
+        }
+        line("        return " + condition + ";");
+        line("    }");
+        line("");
+        line("    @Override");
+        line("    public int hashCode() {");
+        StringBuilder values = new StringBuilder();
+        for (PatchDtoProcessor.Property property : properties) {
+            values.append(", ").append(property.name());
+        }
+        line("        return 31 * java.util.Arrays.hashCode($presence) + java.util.Objects.hash(" +
+                (values.isEmpty() ? "" : values.substring(2)) + ");");
+        line("    }");
+        line("");
+        line("    @Override");
+        line("    public String toString() {");
+        line("        StringBuilder sb = new StringBuilder(\"" + implName + "[\");");
+        for (int i = 0; i < properties.size(); i++) {
+            String name = properties.get(i).name();
+            line("        if (($presence[" + word(i) + "] & " + bit(i) + ") != 0) {");
+            line("            if (sb.charAt(sb.length() - 1) != '[') sb.append(\", \");");
+            line("            sb.append(\"" + name + "=\").append(" + name + ");");
+            line("        }");
+        }
+        line("        return sb.append(']').toString();");
+        line("    }");
+    }
+
+    private void serializer() {
+        line("");
+        line("    public static final class Serializer extends " + VALUE_SERIALIZER + "<" + typeName + "> {");
+        line("");
+        line("        private final boolean contextual;");
+        line("        // resolved on first use rather than in createContextual, so self-referencing DTOs do not recurse;");
+        line("        // content types that are not final get a serializer per runtime class from the dynamic maps");
+        line("        private volatile Contents contents;");
+        line("        private final " + SERIALIZER_MAP + "[] dynamic = new " + SERIALIZER_MAP + "["
+                + properties.size() + "];");
+        line("");
+        line("        public Serializer() {");
+        line("            this(false);");
+        line("        }");
+        line("");
+        line("        private Serializer(boolean contextual) {");
+        line("            this.contextual = contextual;");
+        line("            java.util.Arrays.fill(dynamic, " + SERIALIZER_MAP + ".emptyForProperties());");
+        line("        }");
+        line("");
+        line("        @Override");
+        line("        public " + VALUE_SERIALIZER + "<?> createContextual(" + SERIALIZATION_CONTEXT + " ctxt, "
+                + BEAN_PROPERTY + " property) {");
+        line("            return contextual ? this : new Serializer(true);");
+        line("        }");
+        line("");
+        line("        @Override");
+        line("        public void serialize(" + typeName + " value, " + JSON_GENERATOR + " gen, "
+                + SERIALIZATION_CONTEXT + " ctxt) {");
+        line("            Contents contents = this.contents;");
+        line("            if (contents == null) {");
+        line("                contents = resolve(ctxt);");
+        line("                if (contextual) this.contents = contents;");
+        line("            }");
+        line("            gen.writeStartObject(value);");
+        if (record) {
+            writeThroughAccessors("            ");
+        } else {
+            // the generated class is written from its raw fields without creating NullableValue wrappers
+            line("            if (value instanceof " + implName + " dto) {");
+            line("                long[] presence = dto.$presence;");
+            for (int i = 0; i < properties.size(); i++) {
+                String name = properties.get(i).name();
+                line("                if ((presence[" + word(i) + "] & " + bit(i) + ") != 0) {");
+                line("                    gen.writeName(\"" + name + "\");");
+                line("                    writeContent(" + i + ", dto." + name + ", contents, gen, ctxt);");
+                line("                }");
+            }
+            line("            } else {");
+            writeThroughAccessors("                ");
+            line("            }");
+        }
+        line("            gen.writeEndObject();");
+        line("        }");
+        line("");
+        line("        private void writeProperty(int index, String name, " + NULLABLE_VALUE + "<?> value, "
+                + "Contents contents, " + JSON_GENERATOR + " gen, " + SERIALIZATION_CONTEXT + " ctxt) {");
+        line("            if (value != null && value.isPresent()) {");
+        line("                gen.writeName(name);");
+        line("                writeContent(index, value.get(), contents, gen, ctxt);");
+        line("            }");
+        line("        }");
+        line("");
+        line("        private void writeContent(int index, Object content, Contents contents, " + JSON_GENERATOR
+                + " gen, " + SERIALIZATION_CONTEXT + " ctxt) {");
+        line("            if (content == null) {");
+        line("                gen.writeNull();");
+        line("                return;");
+        line("            }");
+        line("            " + VALUE_SERIALIZER + "<Object> serializer = contents.serializers()[index];");
+        line("            if (serializer == null) {");
+        line("                " + SERIALIZER_MAP + " map = dynamic[index];");
+        line("                serializer = map.serializerFor(content.getClass());");
+        line("                if (serializer == null) {");
+        line("                    " + JAVA_TYPE + " type = contents.types()[index];");
+        line("                    " + SERIALIZER_MAP + ".SerializerAndMapResult result = type.hasGenericTypes()");
+        line("                            ? map.findAndAddSecondarySerializer(ctxt.constructSpecializedType(type, "
+                + "content.getClass()), ctxt, null)");
+        line("                            : map.findAndAddSecondarySerializer(content.getClass(), ctxt, null);");
+        line("                    dynamic[index] = result.map;");
+        line("                    serializer = result.serializer;");
+        line("                }");
+        line("            }");
+        line("            serializer.serialize(content, gen, ctxt);");
+        line("        }");
+        line("");
+        line("        @SuppressWarnings(\"unchecked\")");
+        line("        private static Contents resolve(" + SERIALIZATION_CONTEXT + " ctxt) {");
+        line("            " + JAVA_TYPE + "[] types = new " + JAVA_TYPE + "[" + properties.size() + "];");
+        line("            " + VALUE_SERIALIZER + "<Object>[] serializers = (" + VALUE_SERIALIZER + "<Object>[]) new "
+                + VALUE_SERIALIZER + "<?>[" + properties.size() + "];");
+        for (int i = 0; i < properties.size(); i++) {
+            line("            types[" + i + "] = " + javaType(properties.get(i)) + ";");
+        }
+        line("            for (int i = 0; i < types.length; i++) {");
+        line("                if (types[i].isFinal()) {");
+        line("                    serializers[i] = ctxt.findContentValueSerializer(types[i], null);");
+        line("                }");
+        line("            }");
+        line("            return new Contents(types, serializers);");
+        line("        }");
+        line("");
+        line("        private record Contents(" + JAVA_TYPE + "[] types, " + VALUE_SERIALIZER
+                + "<Object>[] serializers) {");
+        line("        }");
+        line("    }");
+    }
+
+    private void writeThroughAccessors(String indent) {
+        for (int i = 0; i < properties.size(); i++) {
+            PatchDtoProcessor.Property property = properties.get(i);
+            line(indent + "writeProperty(" + i + ", \"" + property.name() + "\", value." + property.accessor()
+                    + "(), contents, gen, ctxt);");
+        }
+    }
+
+    // the declared content type, with its type arguments
+    private static String javaType(PatchDtoProcessor.Property property) {
+        return property.generic()
+                ? "ctxt.getTypeFactory().constructType(new tools.jackson.core.type.TypeReference<"
+                + property.type() + ">() {})"
+                : "ctxt.constructType(" + property.rawType() + ".class)";
+    }
+
+    private void deserializer() {
+        line("");
+        line("    public static final class Deserializer extends " + VALUE_DESERIALIZER + "<" + typeName + "> {");
+        line("");
+        line("        private final boolean contextual;");
+        line("        // resolved on first use rather than in createContextual, so self-referencing DTOs do not recurse");
+        line("        private volatile " + VALUE_DESERIALIZER + "<Object>[] contents;");
+        line("");
+        line("        public Deserializer() {");
+        line("            this(false);");
+        line("        }");
+        line("");
+        line("        private Deserializer(boolean contextual) {");
+        line("            this.contextual = contextual;");
+        line("        }");
+        line("");
+        line("        @Override");
+        line("        public " + VALUE_DESERIALIZER + "<?> createContextual(" + DESERIALIZATION_CONTEXT + " ctxt, "
+                + BEAN_PROPERTY + " property) {");
+        line("            return contextual ? this : new Deserializer(true);");
+        line("        }");
+        line("");
+        line("        @Override");
+        line("        @SuppressWarnings(\"unchecked\")");
+        line("        public " + typeName + " deserialize(" + JSON_PARSER + " p, " + DESERIALIZATION_CONTEXT + " ctxt) {");
+        line("            " + VALUE_DESERIALIZER + "<Object>[] contents = this.contents;");
+        line("            if (contents == null) {");
+        line("                contents = resolve(ctxt);");
+        line("                if (contextual) this.contents = contents;");
+        line("            }");
+        line("            " + JSON_TOKEN + " t = p.currentToken();");
+        line("            if (t == " + JSON_TOKEN + ".START_OBJECT) {");
+        line("                t = p.nextToken();");
+        line("            } else if (t != " + JSON_TOKEN + ".PROPERTY_NAME && t != " + JSON_TOKEN + ".END_OBJECT) {");
+        line("                return (" + typeName + ") ctxt.handleUnexpectedToken(" + typeName + ".class, p);");
+        line("            }");
+        line("            " + implName + " dto = new " + implName + "();");
+        line("            long[] presence = dto.$presence;");
+        line("            for (; t == " + JSON_TOKEN + ".PROPERTY_NAME; t = p.nextToken()) {");
+        line("                String name = p.currentName();");
+        line("                boolean isNull = p.nextToken() == " + JSON_TOKEN + ".VALUE_NULL;");
+        line("                switch (name) {");
+        for (int i = 0; i < properties.size(); i++) {
+            PatchDtoProcessor.Property property = properties.get(i);
+            line("                    case \"" + property.name() + "\" -> {");
+            line("                        presence[" + word(i) + "] |= " + bit(i) + ";");
+            line("                        dto." + property.name() + " = isNull ? null : (" + property.type()
+                    + ") contents[" + i + "].deserialize(p, ctxt);");
+            line("                    }");
+        }
+        line("                    default -> ctxt.handleUnknownProperty(p, this, " + typeName + ".class, name);");
+        line("                }");
+        line("            }");
+        line("            return " + (record ? "dto.toRecord()" : "dto") + ";");
+        line("        }");
+        line("");
+        line("        @SuppressWarnings(\"unchecked\")");
+        line("        private static " + VALUE_DESERIALIZER + "<Object>[] resolve(" + DESERIALIZATION_CONTEXT + " ctxt) {");
+        line("            " + VALUE_DESERIALIZER + "<Object>[] contents = (" + VALUE_DESERIALIZER + "<Object>[]) new "
+                + VALUE_DESERIALIZER + "<?>[" + properties.size() + "];");
+        for (int i = 0; i < properties.size(); i++) {
+            PatchDtoProcessor.Property property = properties.get(i);
+            line("            contents[" + i + "] = ctxt.findRootValueDeserializer(" + javaType(property) + ");");
+        }
+        line("            return contents;");
+        line("        }");
+        line("    }");
+    }
+
+    private void binding() {
+        line("");
+        line("    public static final class Binding implements io.github.rav316.nullablevalue.PatchDtoBinding<"
+                + typeName + "> {");
+        line("");
+        line("        @Override");
+        line("        public Class<" + typeName + "> type() {");
+        line("            return " + typeName + ".class;");
+        line("        }");
+        line("");
+        line("        @Override");
+        line("        public " + VALUE_SERIALIZER + "<" + typeName + "> serializer() {");
+        line("            return new Serializer();");
+        line("        }");
+        line("");
+        line("        @Override");
+        line("        public " + VALUE_DESERIALIZER + "<" + typeName + "> deserializer() {");
+        line("            return new Deserializer();");
+        line("        }");
+        line("    }");
+    }
+
+    private static int word(int index) {
+        return index >>> 6;
+    }
+
+    private static String bit(int index) {
+        return "0x" + Long.toHexString(1L << (index & 63)) + "L";
+    }
+
+    private void line(String line) {
+        out.append(line).append('\n');
+    }
+}
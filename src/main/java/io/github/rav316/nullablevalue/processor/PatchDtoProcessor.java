@@ -0,0 +1,216 @@
+package io.github.rav316.nullablevalue.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@SupportedAnnotationTypes(PatchDtoProcessor.PATCH_DTO)
+public class PatchDtoProcessor extends AbstractProcessor {
+
+    static final String PATCH_DTO = "io.github.rav316.nullablevalue.PatchDto";
+    private static final String NULLABLE_VALUE = "io.github.rav316.nullablevalue.NullableValue";
+    private static final String BINDING = "io.github.rav316.nullablevalue.PatchDtoBinding";
+
+    private final Set<String> bindings = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(PATCH_DTO);
+        if (annotation != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) {
+                    generate(type);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !bindings.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        boolean record = type.getKind() == ElementKind.RECORD;
+        if (!record && type.getKind() != ElementKind.INTERFACE) {
+            error(type, "@PatchDto is only supported on interfaces and records");
+            return;
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            error(type, "@PatchDto types must not be generic");
+            return;
+        }
+        List<Property> properties = record ? recordProperties(type) : interfaceProperties(type);
+        if (properties == null) {
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String implName = flatName(type) + "Impl";
+        String qualifiedImplName = packageName.isEmpty() ? implName : packageName + "." + implName;
+        try {
+            try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedImplName, type).openWriter()) {
+                writer.write(new Generator(packageName, implName, type.getQualifiedName().toString(), record, properties)
+                        .source());
+            }
+            bindings.add(qualifiedImplName + "$Binding");
+        } catch (IOException e) {
+            error(type, "Cannot write " + qualifiedImplName + ": " + e.getMessage());
+        }
+    }
+
+    private List<Property> interfaceProperties(TypeElement type) {
+        List<Property> properties = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)
+                    || method.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+                continue;
+            }
+            TypeMirror content = nullableContent(method.getReturnType());
+            if (!method.getParameters().isEmpty() || content == null) {
+                error(method, "@PatchDto interface methods must be parameterless and return NullableValue<T>");
+                return null;
+            }
+            String accessor = method.getSimpleName().toString();
+            String name = accessor.length() > 3 && accessor.startsWith("get") && Character.isUpperCase(accessor.charAt(3))
+                    ? decapitalize(accessor.substring(3))
+                    : accessor;
+            properties.add(new Property(name, accessor, typeName(content), erasure(content), isGeneric(content)));
+        }
+        return properties;
+    }
+
+    private List<Property> recordProperties(TypeElement type) {
+        List<Property> properties = new ArrayList<>();
+        for (RecordComponentElement component : type.getRecordComponents()) {
+            TypeMirror content = nullableContent(component.asType());
+            if (content == null) {
+                error(component, "@PatchDto record components must be NullableValue<T>");
+                return null;
+            }
+            String name = component.getSimpleName().toString();
+            properties.add(new Property(name, name, typeName(content), erasure(content), isGeneric(content)));
+        }
+        return properties;
+    }
+
+    private TypeMirror nullableContent(TypeMirror type) {
+        if (type instanceof DeclaredType declared
+                && ((TypeElement) declared.asElement()).getQualifiedName().contentEquals(NULLABLE_VALUE)) {
+            List<? extends TypeMirror> arguments = declared.getTypeArguments();
+            if (arguments.size() == 1) {
+                TypeMirror content = arguments.getFirst();
+                return content instanceof WildcardType wildcard
+                        ? (wildcard.getExtendsBound() != null ? wildcard.getExtendsBound()
+                        : processingEnv.getElementUtils().getTypeElement("java.lang.Object").asType())
+                        : content;
+            }
+        }
+        return null;
+    }
+
+    // TypeMirror.toString() includes type-use annotations such as @Size, which are not valid in these positions
+    private String typeName(TypeMirror type) {
+        if (type instanceof ArrayType array) {
+            return typeName(array.getComponentType()) + "[]";
+        }
+        if (type instanceof WildcardType wildcard) {
+            if (wildcard.getExtendsBound() != null) return "? extends " + typeName(wildcard.getExtendsBound());
+            if (wildcard.getSuperBound() != null) return "? super " + typeName(wildcard.getSuperBound());
+            return "?";
+        }
+        if (type instanceof DeclaredType declared) {
+            StringBuilder name = new StringBuilder(((TypeElement) declared.asElement()).getQualifiedName());
+            if (!declared.getTypeArguments().isEmpty()) {
+                name.append('<');
+                for (int i = 0; i < declared.getTypeArguments().size(); i++) {
+                    if (i > 0) name.append(", ");
+                    name.append(typeName(declared.getTypeArguments().get(i)));
+                }
+                name.append('>');
+            }
+            return name.toString();
+        }
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase();
+        }
+        return "java.lang.Object";
+    }
+
+    private String erasure(TypeMirror type) {
+        return typeName(processingEnv.getTypeUtils().erasure(type));
+    }
+
+    private static boolean isGeneric(TypeMirror type) {
+        if (type instanceof ArrayType array) return isGeneric(array.getComponentType());
+        return type instanceof DeclaredType declared && !declared.getTypeArguments().isEmpty()
+                || type.getKind() == TypeKind.WILDCARD;
+    }
+
+    private static String flatName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement outer; e = outer.getEnclosingElement()) {
+            name.insert(0, outer.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    "META-INF/services/" + BINDING);
+            try (Writer writer = file.openWriter()) {
+                for (String binding : bindings) {
+                    writer.write(binding);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write META-INF/services/" + BINDING + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    record Property(String name, String accessor, String type, String rawType, boolean generic) {
+
+        String capitalized() {
+            return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package io.github.rav316.nullablevalue.protobuf;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueDescriptor;
+import io.github.rav316.nullablevalue.PatchTarget;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public final class NullableValueProtobufMapper<D> {
+
+    private static final Set<String> WRAPPER_TYPES = Set.of(
+            "google.protobuf.DoubleValue", "google.protobuf.FloatValue",
+            "google.protobuf.Int64Value", "google.protobuf.UInt64Value",
+            "google.protobuf.Int32Value", "google.protobuf.UInt32Value",
+            "google.protobuf.BoolValue", "google.protobuf.StringValue", "google.protobuf.BytesValue");
+
+    private static final ClassValue<Map<Descriptors.Descriptor, NullableValueProtobufMapper<?>>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Descriptors.Descriptor, NullableValueProtobufMapper<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<D> dtoType;
+    private final Descriptors.Descriptor descriptor;
+    private final NullableValueDescriptor dtoDescriptor;
+    private final Slot[] slots;
+    private final Map<String, Slot> slotsByPath;
+    // typed accessors of the last message and builder class seen; a descriptor normally has one generated class
+    private volatile Binding messageBinding;
+    private volatile Binding builderBinding;
+
+    private NullableValueProtobufMapper(Class<D> dtoType, Descriptors.Descriptor descriptor) {
+        this.dtoType = dtoType;
+        this.descriptor = descriptor;
+        this.dtoDescriptor = NullableValueDescriptor.of(dtoType);
+        List<Slot> slots = new ArrayList<>();
+        Map<String, Slot> slotsByPath = new HashMap<>();
+        for (NullableValueDescriptor.Property property : dtoDescriptor.properties()) {
+            if (!property.isWritable()) continue;
+            PatchTarget patchTarget = property.getAnnotation(PatchTarget.class);
+            String name = patchTarget != null ? patchTarget.value() : property.name();
+            Descriptors.FieldDescriptor field = findField(descriptor, name);
+            if (field == null) {
+                if (patchTarget != null) {
+                    throw new IllegalArgumentException("No field '" + name + "' in " + descriptor.getFullName()
+                            + " for @PatchTarget on " + dtoType.getName() + "." + property.name());
+                }
+                continue;
+            }
+            Slot slot = slot(slots.size(), property, field);
+            slots.add(slot);
+            slotsByPath.put(field.getName(), slot);
+        }
+        this.slots = slots.toArray(new Slot[0]);
+        this.slotsByPath = slotsByPath;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <D> NullableValueProtobufMapper<D> of(Class<D> dtoType, Descriptors.Descriptor descriptor) {
+        return (NullableValueProtobufMapper<D>) CACHE.get(dtoType)
+                .computeIfAbsent(descriptor, d -> new NullableValueProtobufMapper<>(dtoType, d));
+    }
+
+    public Class<D> dtoType() {
+        return dtoType;
+    }
+
+    public Descriptors.Descriptor descriptor() {
+        return descriptor;
+    }
+
+    public FieldMask fieldMask(D dto) {
+        FieldMask.Builder mask = FieldMask.newBuilder();
+        for (Slot slot : slots) {
+            slot.addPaths(dto, "", mask);
+        }
+        return mask.build();
+    }
+
+    public FieldMask toMessage(D dto, Message.Builder builder) {
+        checkType(builder.getDescriptorForType());
+        FieldMask.Builder mask = FieldMask.newBuilder();
+        write(dto, builder, "", mask);
+        return mask.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public D fromMessage(MessageOrBuilder message, FieldMask mask) {
+        D dto = (D) dtoDescriptor.newInstance();
+        applyTo(message, mask, dto);
+        return dto;
+    }
+
+    public void applyTo(MessageOrBuilder message, FieldMask mask, D dto) {
+        checkType(message.getDescriptorForType());
+        read(message, mask.getPathsList(), dto);
+    }
+
+    private void checkType(Descriptors.Descriptor actual) {
+        if (actual != descriptor) {
+            throw new IllegalArgumentException("Expected " + descriptor.getFullName() + " but got " + actual.getFullName());
+        }
+    }
+
+    private void write(Object dto, Message.Builder builder, String prefix, FieldMask.Builder mask) {
+        ProtobufFieldAccess[] access = access(builder);
+        for (Slot slot : slots) {
+            slot.write(dto, builder, access[slot.index], prefix, mask);
+        }
+    }
+
+    // paths the DTO does not map are ignored, so a DTO may cover only part of a message
+    private void read(MessageOrBuilder message, List<String> paths, Object dto) {
+        ProtobufFieldAccess[] access = access(message);
+        Map<NestedSlot, List<String>> nestedPaths = null;
+        for (String path : paths) {
+            int dot = path.indexOf('.');
+            Slot slot = slotsByPath.get(dot < 0 ? path : path.substring(0, dot));
+            if (slot == null) continue;
+            if (dot < 0) {
+                slot.read(message, access[slot.index], dto);
+            } else if (slot instanceof NestedSlot nested) {
+                if (nestedPaths == null) nestedPaths = new LinkedHashMap<>();
+                nestedPaths.computeIfAbsent(nested, n -> new ArrayList<>()).add(path.substring(dot + 1));
+            } else {
+                throw new IllegalArgumentException("Field mask path '" + path + "' descends into non-message field "
+                        + slot.field.getFullName());
+            }
+        }
+        if (nestedPaths != null) {
+            nestedPaths.forEach((nested, subPaths) -> nested.read(message, access[nested.index], dto, subPaths));
+        }
+    }
+
+    private void readAll(MessageOrBuilder message, Object dto) {
+        ProtobufFieldAccess[] access = access(message);
+        for (Slot slot : slots) {
+            slot.read(message, access[slot.index], dto);
+        }
+    }
+
+    private ProtobufFieldAccess[] access(MessageOrBuilder target) {
+        boolean builder = target instanceof Message.Builder;
+        Binding binding = builder ? builderBinding : messageBinding;
+        Class<?> type = target.getClass();
+        if (binding == null || binding.type() != type) {
+            ProtobufFieldAccess[] access = new ProtobufFieldAccess[slots.length];
+            for (Slot slot : slots) {
+                access[slot.index] = ProtobufFieldAccess.of(type, slot.field, slot.wrapperValue);
+            }
+            binding = new Binding(type, access);
+            if (builder) builderBinding = binding;
+            else messageBinding = binding;
+        }
+        return binding.access();
+    }
+
+    private static Descriptors.FieldDescriptor findField(Descriptors.Descriptor descriptor, String name) {
+        Descriptors.FieldDescriptor field = descriptor.findFieldByName(name);
+        if (field != null) return field;
+        for (Descriptors.FieldDescriptor candidate : descriptor.getFields()) {
+            if (candidate.getJsonName().equals(name)) return candidate;
+        }
+        return null;
+    }
+
+    private static boolean isWrapper(Descriptors.FieldDescriptor field) {
+        return field.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE
+                && WRAPPER_TYPES.contains(field.getMessageType().getFullName());
+    }
+
+    private static Slot slot(int index, NullableValueDescriptor.Property property, Descriptors.FieldDescriptor field) {
+        if (field.isMapField()) {
+            throw new IllegalArgumentException("Map field " + field.getFullName() + " is not supported");
+        }
+        Class<?> contentType = property.rawContentType();
+        if (field.isRepeated()) {
+            if (!List.class.isAssignableFrom(contentType)) {
+                throw incompatible(property, field);
+            }
+            Type elementType = property.contentType() instanceof ParameterizedType p
+                    ? p.getActualTypeArguments()[0] : Object.class;
+            Class<?> elementClass = elementType instanceof Class<?> c ? c
+                    : elementType instanceof ParameterizedType p ? (Class<?>) p.getRawType() : Object.class;
+            return new ScalarSlot(index, property, field, null, converter(property, field, elementClass));
+        }
+        if (isWrapper(field)) {
+            Descriptors.FieldDescriptor valueField = field.getMessageType().findFieldByName("value");
+            return new ScalarSlot(index, property, field, valueField, converter(property, valueField, contentType));
+        }
+        if (field.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE
+                && !Message.class.isAssignableFrom(contentType)
+                && NullableValueDescriptor.of(contentType).hasProperties()) {
+            return new NestedSlot(index, property, field, contentType);
+        }
+        return new ScalarSlot(index, property, field, null, converter(property, field, contentType));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Converter converter(NullableValueDescriptor.Property property, Descriptors.FieldDescriptor field,
+                                       Class<?> type) {
+        Function<Object, Object> identity = Function.identity();
+        switch (field.getJavaType()) {
+            // unsigned values above the signed range would come back negative, so they need a wider type
+            case INT -> {
+                if (isUnsigned(field)) {
+                    if (type.isAssignableFrom(Long.class)) {
+                        return new Converter(v -> Integer.toUnsignedLong((Integer) v), v -> toUnsignedInt(field, (Long) v));
+                    }
+                    break;
+                }
+                if (type.isAssignableFrom(Integer.class)) return new Converter(identity, identity);
+                if (type == Long.class) return new Converter(v -> ((Integer) v).longValue(), v -> Math.toIntExact((Long) v));
+            }
+            case LONG -> {
+                if (isUnsigned(field)) {
+                    if (type.isAssignableFrom(BigInteger.class)) {
+                        return new Converter(v -> new BigInteger(Long.toUnsignedString((Long) v)),
+                                v -> toUnsignedLong(field, (BigInteger) v));
+                    }
+                    break;
+                }
+                if (type.isAssignableFrom(Long.class)) return new Converter(identity, identity);
+            }
+            case FLOAT -> {
+                if (type.isAssignableFrom(Float.class)) return new Converter(identity, identity);
+                if (type == Double.class) return new Converter(v -> ((Float) v).doubleValue(), v -> ((Double) v).floatValue());
+            }
+            case DOUBLE -> {
+                if (type.isAssignableFrom(Double.class)) return new Converter(identity, identity);
+            }
+            case BOOLEAN -> {
+                if (type.isAssignableFrom(Boolean.class)) return new Converter(identity, identity);
+            }
+            case STRING -> {
+                if (type.isAssignableFrom(String.class)) return new Converter(identity, identity);
+            }
+            case BYTE_STRING -> {
+                if (type.isAssignableFrom(ByteString.class)) return new Converter(identity, identity);
+                if (type == byte[].class) {
+                    return new Converter(v -> ((ByteString) v).toByteArray(), v -> ByteString.copyFrom((byte[]) v));
+                }
+            }
+            case ENUM -> {
+                Descriptors.EnumDescriptor enumType = field.getEnumType();
+                if (type.isEnum()) {
+                    Class<? extends Enum> enumClass = (Class<? extends Enum>) type;
+                    return new Converter(v -> Enum.valueOf(enumClass, ((Descriptors.EnumValueDescriptor) v).getName()),
+                            v -> enumValue(enumType, ((Enum<?>) v).name()));
+                }
+                if (type == String.class) {
+                    return new Converter(v -> ((Descriptors.EnumValueDescriptor) v).getName(),
+                            v -> enumValue(enumType, (String) v));
+                }
+                if (type == Integer.class) {
+                    return new Converter(v -> ((Descriptors.EnumValueDescriptor) v).getNumber(),
+                            v -> enumType.findValueByNumberCreatingIfUnknown((Integer) v));
+                }
+            }
+            case MESSAGE -> {
+                if (Message.class.isAssignableFrom(type) || type == Object.class) return new Converter(identity, identity);
+            }
+        }
+        throw incompatible(property, field);
+    }
+
+    private static boolean isUnsigned(Descriptors.FieldDescriptor field) {
+        return switch (field.getType()) {
+            case UINT32, FIXED32, UINT64, FIXED64 -> true;
+            default -> false;
+        };
+    }
+
+    private static int toUnsignedInt(Descriptors.FieldDescriptor field, long value) {
+        if (value < 0 || value > 0xFFFF_FFFFL) {
+            throw new IllegalArgumentException(value + " is out of range for " + field.getFullName());
+        }
+        return (int) value;
+    }
+
+    private static long toUnsignedLong(Descriptors.FieldDescriptor field, BigInteger value) {
+        if (value.signum() < 0 || value.bitLength() > Long.SIZE) {
+            throw new IllegalArgumentException(value + " is out of range for " + field.getFullName());
+        }
+        return value.longValue();
+    }
+
+    private static Descriptors.EnumValueDescriptor enumValue(Descriptors.EnumDescriptor enumType, String name) {
+        Descriptors.EnumValueDescriptor value = enumType.findValueByName(name);
+        if (value == null) {
+            throw new IllegalArgumentException("No value " + name + " in " + enumType.getFullName());
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException incompatible(NullableValueDescriptor.Property property,
+                                                         Descriptors.FieldDescriptor field) {
+        return new IllegalArgumentException("Property '" + property.name() + "' of type "
+                + property.contentType().getTypeName() + " is not compatible with " + field.getFullName()
+                + " (" + field.getType() + ")");
+    }
+
+    private record Converter(Function<Object, Object> fromProto, Function<Object, Object> toProto) {
+    }
+
+    private record Binding(Class<?> type, ProtobufFieldAccess[] access) {
+    }
+
+    private abstract static class Slot {
+
+        final int index;
+        final NullableValueDescriptor.Property property;
+        final Descriptors.FieldDescriptor field;
+        final Descriptors.FieldDescriptor wrapperValue;
+
+        Slot(int index, NullableValueDescriptor.Property property, Descriptors.FieldDescriptor field,
+             Descriptors.FieldDescriptor wrapperValue) {
+            this.index = index;
+            this.property = property;
+            this.field = field;
+            this.wrapperValue = wrapperValue;
+        }
+
+        void addPaths(Object dto, String prefix, FieldMask.Builder mask) {
+            if (property.get(dto).isPresent()) {
+                mask.addPaths(prefix + field.getName());
+            }
+        }
+
+        abstract void write(Object dto, Message.Builder builder, ProtobufFieldAccess access, String prefix,
+                            FieldMask.Builder mask);
+
+        abstract void read(MessageOrBuilder message, ProtobufFieldAccess access, Object dto);
+    }
+
+    private static final class ScalarSlot extends Slot {
+
+        private final Converter converter;
+
+        ScalarSlot(int index, NullableValueDescriptor.Property property, Descriptors.FieldDescriptor field,
+                   Descriptors.FieldDescriptor wrapperValue, Converter converter) {
+            super(index, property, field, wrapperValue);
+            this.converter = converter;
+        }
+
+        @Override
+        void write(Object dto, Message.Builder builder, ProtobufFieldAccess access, String prefix,
+                   FieldMask.Builder mask) {
+            NullableValue<?> value = property.get(dto);
+            if (!value.isPresent()) return;
+            mask.addPaths(prefix + field.getName());
+            Object content = value.get();
+            if (content == null) {
+                // FieldMask semantics: a listed path without a value clears the field
+                access.clear(builder);
+            } else if (field.isRepeated()) {
+                List<?> elements = (List<?>) content;
+                List<Object> converted = new ArrayList<>(elements.size());
+                for (Object element : elements) {
+                    converted.add(converter.toProto().apply(element));
+                }
+                access.set(builder, converted);
+            } else {
+                access.set(builder, converter.toProto().apply(content));
+            }
+        }
+
+        @Override
+        void read(MessageOrBuilder message, ProtobufFieldAccess access, Object dto) {
+            Object content;
+            if (field.isRepeated()) {
+                List<?> elements = (List<?>) access.get(message);
+                List<Object> converted = new ArrayList<>(elements.size());
+                for (Object element : elements) {
+                    converted.add(converter.fromProto().apply(element));
+                }
+                content = converted;
+            } else if (field.hasPresence() && !access.has(message)) {
+                content = null;
+            } else {
+                content = converter.fromProto().apply(access.get(message));
+            }
+            property.set(dto, NullableValue.of(content));
+        }
+    }
+
+    private static final class NestedSlot extends Slot {
+
+        private final Class<?> contentType;
+        // resolved on first use so recursive message types do not recurse during construction
+        private volatile NullableValueProtobufMapper<Object> mapper;
+
+        NestedSlot(int index, NullableValueDescriptor.Property property, Descriptors.FieldDescriptor field,
+                   Class<?> contentType) {
+            super(index, property, field, null);
+            this.contentType = contentType;
+        }
+
+        @SuppressWarnings("unchecked")
+        private NullableValueProtobufMapper<Object> mapper() {
+            NullableValueProtobufMapper<Object> m = mapper;
+            if (m == null) {
+                mapper = m = (NullableValueProtobufMapper<Object>) of(contentType, field.getMessageType());
+            }
+            return m;
+        }
+
+        @Override
+        void addPaths(Object dto, String prefix, FieldMask.Builder mask) {
+            NullableValue<?> value = property.get(dto);
+            if (!value.isPresent()) return;
+            if (value.get() == null) {
+                mask.addPaths(prefix + field.getName());
+                return;
+            }
+            for (Slot slot : mapper().slots) {
+                slot.addPaths(value.get(), prefix + field.getName() + ".", mask);
+            }
+        }
+
+        @Override
+        void write(Object dto, Message.Builder builder, ProtobufFieldAccess access, String prefix,
+                   FieldMask.Builder mask) {
+            NullableValue<?> value = property.get(dto);
+            if (!value.isPresent()) return;
+            Object nested = value.get();
+            if (nested == null) {
+                mask.addPaths(prefix + field.getName());
+                access.clear(builder);
+                return;
+            }
+            // an unset field reads as the default instance, whose builder is empty
+            Message.Builder nestedBuilder = ((Message) access.get(builder)).toBuilder();
+            int before = mask.getPathsCount();
+            mapper().write(nested, nestedBuilder, prefix + field.getName() + ".", mask);
+            if (mask.getPathsCount() > before) {
+                access.set(builder, nestedBuilder.build());
+            }
+        }
+
+        @Override
+        void read(MessageOrBuilder message, ProtobufFieldAccess access, Object dto) {
+            if (!access.has(message)) {
+                property.set(dto, NullableValue.of(null));
+                return;
+            }
+            NullableValueProtobufMapper<Object> m = mapper();
+            Object nested = m.dtoDescriptor.newInstance();
+            m.readAll((MessageOrBuilder) access.get(message), nested);
+            property.set(dto, NullableValue.of(nested));
+        }
+
+        void read(MessageOrBuilder message, ProtobufFieldAccess access, Object dto, List<String> subPaths) {
+            NullableValueProtobufMapper<Object> m = mapper();
+            NullableValue<?> current = property.get(dto);
+            Object nested = current.isPresent() && current.get() != null ? current.get() : m.dtoDescriptor.newInstance();
+            m.read((MessageOrBuilder) access.get(message), subPaths, nested);
+            property.set(dto, NullableValue.of(nested));
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package io.github.rav316.nullablevalue.protobuf;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+// one field of one message or builder class, in the representation of the reflection API: EnumValueDescriptor for
+// enums, a List for repeated fields and the unwrapped value for wrapper fields. Generated classes are accessed through
+// their typed accessors, bound once per class; DynamicMessage and accessors protoc did not generate under the expected
+// name go through the descriptor
+abstract class ProtobufFieldAccess {
+
+    abstract boolean has(MessageOrBuilder message);
+
+    abstract Object get(MessageOrBuilder message);
+
+    abstract void set(Message.Builder builder, Object value);
+
+    abstract void clear(Message.Builder builder);
+
+    static ProtobufFieldAccess of(Class<?> type, Descriptors.FieldDescriptor field,
+                                  Descriptors.FieldDescriptor wrapperValue) {
+        Reflective reflective = new Reflective(field, wrapperValue);
+        if (type == DynamicMessage.class || type == DynamicMessage.Builder.class) {
+            return reflective;
+        }
+        try {
+            return new Generated(type, field, wrapperValue, reflective);
+        } catch (ReflectiveOperationException e) {
+            return reflective;
+        }
+    }
+
+    // protoc's field name to accessor name mangling: underscores are dropped and the next letter, as well as a letter
+    // following a digit, is capitalized
+    static String camelCase(String name) {
+        StringBuilder camel = new StringBuilder(name.length());
+        boolean upper = true;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                upper = true;
+            } else if (Character.isDigit(c)) {
+                camel.append(c);
+                upper = true;
+            } else if (upper) {
+                camel.append(Character.toUpperCase(c));
+                upper = false;
+            } else {
+                camel.append(c);
+            }
+        }
+        return camel.toString();
+    }
+
+    private static final class Reflective extends ProtobufFieldAccess {
+
+        private final Descriptors.FieldDescriptor field;
+        private final Descriptors.FieldDescriptor wrapperValue;
+
+        private Reflective(Descriptors.FieldDescriptor field, Descriptors.FieldDescriptor wrapperValue) {
+            this.field = field;
+            this.wrapperValue = wrapperValue;
+        }
+
+        @Override
+        boolean has(MessageOrBuilder message) {
+            return message.hasField(field);
+        }
+
+        @Override
+        Object get(MessageOrBuilder message) {
+            Object value = message.getField(field);
+            return wrapperValue != null ? ((Message) value).getField(wrapperValue) : value;
+        }
+
+        @Override
+        void set(Message.Builder builder, Object value) {
+            builder.setField(field, wrapperValue != null
+                    ? builder.newBuilderForField(field).setField(wrapperValue, value).build()
+                    : value);
+        }
+
+        @Override
+        void clear(Message.Builder builder) {
+            builder.clearField(field);
+        }
+    }
+
+    private static final class Generated extends ProtobufFieldAccess {
+
+        private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+        private static final MethodType PREDICATE = MethodType.methodType(boolean.class, Object.class);
+        private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+        private static final MethodType ACTION = MethodType.methodType(void.class, Object.class);
+
+        private final Reflective fallback;
+        private final Descriptors.EnumDescriptor enumType;
+        private final boolean repeated;
+        private final MethodHandle get;
+        private final MethodHandle has;
+        private final MethodHandle set;
+        private final MethodHandle addAll;
+        private final MethodHandle clear;
+        private final MethodHandle unwrap;
+        private final MethodHandle wrap;
+
+        private Generated(Class<?> type, Descriptors.FieldDescriptor field, Descriptors.FieldDescriptor wrapperValue,
+                          Reflective fallback) throws ReflectiveOperationException {
+            this.fallback = fallback;
+            this.repeated = field.isRepeated();
+            boolean isEnum = field.getJavaType() == Descriptors.FieldDescriptor.JavaType.ENUM;
+            // enums go through the int-valued accessors, which also carry values unknown to the generated enum
+            this.enumType = isEnum ? field.getEnumType() : null;
+            String camel = camelCase(field.getName());
+            String suffix = isEnum ? "Value" : "";
+            Method getter = type.getMethod("get" + camel + suffix + (repeated ? "List" : ""));
+            // a field whose accessors protoc renamed to avoid a clash resolves to some other method, such as getClass()
+            if (!returns(getter, field, isEnum)) {
+                throw new NoSuchMethodException(getter.toString());
+            }
+            this.get = handle(getter, GETTER);
+            this.has = !repeated && field.hasPresence() ? handle(find(type, "has" + camel), PREDICATE) : null;
+            this.clear = handle(find(type, "clear" + camel), ACTION);
+            if (repeated) {
+                this.set = null;
+                this.addAll = handle(find(type, "addAll" + camel + suffix, Iterable.class), SETTER);
+            } else {
+                this.set = handle(find(type, "set" + camel + suffix, getter.getReturnType()), SETTER);
+                this.addAll = null;
+            }
+            if (wrapperValue != null) {
+                Class<?> wrapperType = getter.getReturnType();
+                Method value = wrapperType.getMethod("getValue");
+                this.unwrap = handle(value, GETTER);
+                this.wrap = MethodHandles.publicLookup().unreflect(wrapperType.getMethod("of", value.getReturnType()))
+                        .asType(GETTER);
+            } else {
+                this.unwrap = null;
+                this.wrap = null;
+            }
+        }
+
+        @Override
+        boolean has(MessageOrBuilder message) {
+            if (has == null) return fallback.has(message);
+            try {
+                return (boolean) has.invokeExact((Object) message);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        Object get(MessageOrBuilder message) {
+            try {
+                Object value = (Object) get.invokeExact((Object) message);
+                if (unwrap != null) {
+                    value = (Object) unwrap.invokeExact(value);
+                }
+                if (enumType == null) {
+                    return value;
+                }
+                if (!repeated) {
+                    return enumType.findValueByNumberCreatingIfUnknown((Integer) value);
+                }
+                List<?> numbers = (List<?>) value;
+                List<Object> values = new ArrayList<>(numbers.size());
+                for (Object number : numbers) {
+                    values.add(enumType.findValueByNumberCreatingIfUnknown((Integer) number));
+                }
+                return values;
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        void set(Message.Builder builder, Object value) {
+            if (set == null && addAll == null) {
+                fallback.set(builder, value);
+                return;
+            }
+            try {
+                if (repeated) {
+                    Object elements = value;
+                    if (enumType != null) {
+                        List<?> descriptors = (List<?>) value;
+                        List<Integer> numbers = new ArrayList<>(descriptors.size());
+                        for (Object descriptor : descriptors) {
+                            numbers.add(((Descriptors.EnumValueDescriptor) descriptor).getNumber());
+                        }
+                        elements = numbers;
+                    }
+                    clear.invokeExact((Object) builder);
+                    addAll.invokeExact((Object) builder, elements);
+                } else if (wrap != null) {
+                    set.invokeExact((Object) builder, (Object) wrap.invokeExact(value));
+                } else if (enumType != null) {
+                    set.invokeExact((Object) builder, (Object) ((Descriptors.EnumValueDescriptor) value).getNumber());
+                } else {
+                    set.invokeExact((Object) builder, value);
+                }
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        void clear(Message.Builder builder) {
+            if (clear == null) {
+                fallback.clear(builder);
+                return;
+            }
+            try {
+                clear.invokeExact((Object) builder);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        private static boolean returns(Method getter, Descriptors.FieldDescriptor field, boolean isEnum) {
+            Class<?> type = getter.getReturnType();
+            if (field.isRepeated()) return List.class.isAssignableFrom(type);
+            if (isEnum) return type == int.class;
+            return switch (field.getJavaType()) {
+                case INT -> type == int.class;
+                case LONG -> type == long.class;
+                case FLOAT -> type == float.class;
+                case DOUBLE -> type == double.class;
+                case BOOLEAN -> type == boolean.class;
+                case STRING -> type == String.class;
+                case BYTE_STRING -> type == ByteString.class;
+                case MESSAGE -> Message.class.isAssignableFrom(type);
+                case ENUM -> false;
+            };
+        }
+
+        // accessors a message class does not have, such as setters, are left to the descriptor
+        private static Method find(Class<?> type, String name, Class<?>... parameterTypes) {
+            try {
+                return type.getMethod(name, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        private static MethodHandle handle(Method method, MethodType type) throws IllegalAccessException {
+            return method == null ? null : MethodHandles.publicLookup().unreflect(method).asType(type);
+        }
+
+        private static RuntimeException rethrow(Throwable t) {
+            if (t instanceof RuntimeException e) return e;
+            if (t instanceof Error e) throw e;
+            return new IllegalStateException(t);
+        }
+    }
+}
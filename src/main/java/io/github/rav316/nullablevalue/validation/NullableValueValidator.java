@@ -0,0 +1,173 @@
+package io.github.rav316.nullablevalue.validation;
+
+import io.github.rav316.nullablevalue.NullableValueDescriptor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class NullableValueValidator implements Validator {
+
+    private final Validator delegate;
+    private final ClassValue<Plan> plans = new ClassValue<>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return plan(type);
+        }
+    };
+
+    public NullableValueValidator(Validator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        if (object == null) {
+            return delegate.validate(object, groups);
+        }
+        Plan plan = plans.get(object.getClass());
+        if (plan.fullValidation) {
+            return delegate.validate(object, groups);
+        }
+        String[] present = new String[plan.optional.length];
+        int count = 0;
+        for (NullableValueDescriptor.Property property : plan.optional) {
+            if (property.get(object).isPresent()) {
+                present[count++] = property.name();
+            }
+        }
+        // a dense payload validates faster in one pass than property by property
+        if (count + plan.required.length > plan.fullValidationThreshold) {
+            return delegate.validate(object, groups);
+        }
+        Set<ConstraintViolation<T>> violations = null;
+        for (String name : plan.required) {
+            violations = merge(violations, delegate.validateProperty(object, name, groups));
+        }
+        for (int i = 0; i < count; i++) {
+            violations = merge(violations, delegate.validateProperty(object, present[i], groups));
+        }
+        return violations != null ? violations : Set.of();
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+        return delegate.validateProperty(object, propertyName, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value,
+                                                         Class<?>... groups) {
+        return delegate.validateValue(beanType, propertyName, value, groups);
+    }
+
+    @Override
+    public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+        return delegate.getConstraintsForClass(clazz);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        return delegate.unwrap(type);
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        return delegate.forExecutables();
+    }
+
+    boolean usesFastPath(Class<?> type) {
+        return !plans.get(type).fullValidation;
+    }
+
+    private static <T> Set<ConstraintViolation<T>> merge(Set<ConstraintViolation<T>> violations,
+                                                         Set<ConstraintViolation<T>> more) {
+        if (more.isEmpty()) {
+            return violations;
+        }
+        if (violations == null) {
+            violations = new LinkedHashSet<>();
+        }
+        violations.addAll(more);
+        return violations;
+    }
+
+    private Plan plan(Class<?> type) {
+        BeanDescriptor bean = delegate.getConstraintsForClass(type);
+        // class-level constraints, cascades and redefined default groups need the whole bean
+        if (!bean.isBeanConstrained() || bean.hasConstraints() || redefinesDefaultGroup(type)) {
+            return Plan.FULL;
+        }
+        NullableValueDescriptor descriptor = NullableValueDescriptor.of(type);
+        List<NullableValueDescriptor.Property> optional = new ArrayList<>();
+        List<String> required = new ArrayList<>();
+        for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+            if (property.isCascaded() || hasCascadedElements(property.getConstrainedContainerElementTypes())) {
+                return Plan.FULL;
+            }
+            NullableValueDescriptor.Property nullable = descriptor.property(property.getPropertyName());
+            if (nullable != null) {
+                optional.add(nullable);
+            } else {
+                required.add(property.getPropertyName());
+            }
+        }
+        if (optional.isEmpty()) {
+            return Plan.FULL;
+        }
+        return new Plan(false, optional.toArray(NullableValueDescriptor.Property[]::new),
+                required.toArray(String[]::new));
+    }
+
+    private static boolean hasCascadedElements(Set<ContainerElementTypeDescriptor> elements) {
+        for (ContainerElementTypeDescriptor element : elements) {
+            if (element.isCascaded() || hasCascadedElements(element.getConstrainedContainerElementTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean redefinesDefaultGroup(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (c.isAnnotationPresent(GroupSequence.class)) {
+                return true;
+            }
+            for (Annotation annotation : c.getAnnotations()) {
+                if (annotation.annotationType().getSimpleName().equals("GroupSequenceProvider")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final class Plan {
+
+        private static final Plan FULL = new Plan(true, new NullableValueDescriptor.Property[0], new String[0]);
+
+        private final boolean fullValidation;
+        private final NullableValueDescriptor.Property[] optional;
+        private final String[] required;
+        private final int fullValidationThreshold;
+
+        private Plan(boolean fullValidation, NullableValueDescriptor.Property[] optional, String[] required) {
+            this.fullValidation = fullValidation;
+            this.optional = optional;
+            this.required = required;
+            this.fullValidationThreshold = (optional.length + required.length) / 2;
+        }
+    }
+}
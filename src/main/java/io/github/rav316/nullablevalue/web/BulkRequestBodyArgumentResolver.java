@@ -0,0 +1,46 @@
+package io.github.rav316.nullablevalue.web;
+
+import io.github.rav316.nullablevalue.bulk.NullableValueBulkReader;
+import jakarta.servlet.ServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+public class BulkRequestBodyArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final ObjectMapper mapper;
+    private final Map<Class<?>, NullableValueBulkReader<?>> readers = new ConcurrentHashMap<>();
+
+    public BulkRequestBodyArgumentResolver(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(BulkRequestBody.class)
+                && (type == Stream.class || type == Iterator.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        Class<?> elementType = ResolvableType.forMethodParameter(parameter).getGeneric(0).toClass();
+        ServletRequest request = webRequest.getNativeRequest(ServletRequest.class);
+        if (request == null) {
+            throw new IllegalStateException("@BulkRequestBody requires a servlet request");
+        }
+        Stream<?> records = readers.computeIfAbsent(elementType, type -> new NullableValueBulkReader<>(mapper, type))
+                .stream(request.getInputStream());
+        return parameter.getParameterType() == Iterator.class ? records.iterator() : records;
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.rav316.nullablevalue.web;
+
+import io.github.rav316.nullablevalue.NullableValueDescriptor;
+import io.github.rav316.nullablevalue.NullableValueJsonPatch;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+// application/json-patch+json bodies bound straight into a NullableValue DTO; other targets such as JsonNode are
+// left to the regular Jackson converter
+public class JsonPatchHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_JSON_PATCH = MediaType.valueOf("application/json-patch+json");
+
+    private final ObjectMapper objectMapper;
+
+    public JsonPatchHttpMessageConverter(ObjectMapper objectMapper) {
+        super(APPLICATION_JSON_PATCH);
+        this.objectMapper = objectMapper;
+    }
+
+    // the media type is checked first, so other request bodies never introspect their target class
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return mediaType != null && canRead(mediaType) && supports(clazz);
+    }
+
+    // operations are applied property by property onto a new instance, so records, which cannot be set, and
+    // @PatchDto interfaces, which cannot be instantiated, are left to the regular Jackson converter
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return !clazz.isInterface() && !clazz.isRecord() && NullableValueDescriptor.of(clazz).hasProperties();
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return NullableValueJsonPatch.of(clazz).read(objectMapper, inputMessage.getBody());
+        } catch (IllegalArgumentException | JacksonException e) {
+            throw new HttpMessageNotReadableException("Invalid JSON Patch document: " + e.getMessage(), e,
+                    inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object o, HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException("JSON Patch documents are not written");
+    }
+}
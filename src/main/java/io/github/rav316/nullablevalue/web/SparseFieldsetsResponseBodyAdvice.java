@@ -0,0 +1,64 @@
+package io.github.rav316.nullablevalue.web;
+
+import io.github.rav316.nullablevalue.NullableValueDescriptor;
+import io.github.rav316.nullablevalue.NullableValueProjection;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+public class SparseFieldsetsResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final String parameterName;
+
+    public SparseFieldsetsResponseBodyAdvice(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        String fields = servletRequest.getServletRequest().getParameter(parameterName);
+        if (fields == null) {
+            return body;
+        }
+        // the body is wrapped rather than modified, so controllers can return shared or cached DTOs
+        Class<?> type = elementType(body);
+        if (type == null || !NullableValueDescriptor.of(type).hasProperties()) {
+            return body;
+        }
+        return NullableValueProjection.of(type, fields).applyTo(body);
+    }
+
+    // collections are projected by the class of their first element, elements of other classes are written in full
+    private static Class<?> elementType(Object body) {
+        if (body instanceof Iterable<?> elements) {
+            for (Object element : elements) {
+                if (element != null) return element.getClass();
+            }
+            return null;
+        }
+        if (body instanceof Object[] elements) {
+            for (Object element : elements) {
+                if (element != null) return element.getClass();
+            }
+            return null;
+        }
+        return body.getClass();
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.rav316.nullablevalue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NullablePrimitiveJacksonTest {
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+    }
+
+    static class TelemetryDto {
+        private NullableInt count = NullableInt.undefined();
+        private NullableLong timestamp = NullableLong.undefined();
+        private NullableDouble ratio = NullableDouble.undefined();
+        private NullableBoolean enabled = NullableBoolean.undefined();
+
+        public NullableInt getCount() { return count; }
+        public void setCount(NullableInt count) { this.count = count; }
+        public NullableLong getTimestamp() { return timestamp; }
+        public void setTimestamp(NullableLong timestamp) { this.timestamp = timestamp; }
+        public NullableDouble getRatio() { return ratio; }
+        public void setRatio(NullableDouble ratio) { this.ratio = ratio; }
+        public NullableBoolean getEnabled() { return enabled; }
+        public void setEnabled(NullableBoolean enabled) { this.enabled = enabled; }
+    }
+
+    @Test
+    void deserializeValues() throws Exception {
+        String json = """
+                {"count": 3, "timestamp": 1700000000000, "ratio": 0.25, "enabled": true}
+                """;
+        TelemetryDto dto = mapper.readValue(json, TelemetryDto.class);
+
+        assertThat(dto.getCount().getAsInt()).isEqualTo(3);
+        assertThat(dto.getTimestamp().getAsLong()).isEqualTo(1700000000000L);
+        assertThat(dto.getRatio().getAsDouble()).isEqualTo(0.25);
+        assertThat(dto.getEnabled().getAsBoolean()).isTrue();
+    }
+
+    @Test
+    void deserializeNullAndUndefined() throws Exception {
+        String json = """
+                {"count": null, "ratio": 1}
+                """;
+        TelemetryDto dto = mapper.readValue(json, TelemetryDto.class);
+
+        assertThat(dto.getCount().isNull()).isTrue();
+        assertThat(dto.getTimestamp().isPresent()).isFalse();
+        assertThat(dto.getRatio().getAsDouble()).isEqualTo(1.0);
+        assertThat(dto.getEnabled().isPresent()).isFalse();
+    }
+
+    @Test
+    void serializeOmitsUndefined() throws Exception {
+        TelemetryDto dto = new TelemetryDto();
+        dto.setCount(NullableInt.of(7));
+        dto.setEnabled(NullableBoolean.ofNull());
+
+        String json = mapper.writeValueAsString(dto);
+
+        assertThat(json).isEqualTo("{\"count\":7,\"enabled\":null}");
+    }
+}
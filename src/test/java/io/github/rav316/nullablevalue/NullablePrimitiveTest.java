@@ -0,0 +1,97 @@
+package io.github.rav316.nullablevalue;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullablePrimitiveTest {
+
+    @Test
+    void intStates() {
+        assertThat(NullableInt.undefined().isPresent()).isFalse();
+        assertThat(NullableInt.ofNull().isPresent()).isTrue();
+        assertThat(NullableInt.ofNull().isNull()).isTrue();
+        assertThat(NullableInt.of(42).hasValue()).isTrue();
+        assertThat(NullableInt.of(42).getAsInt()).isEqualTo(42);
+        assertThat(NullableInt.of((Integer) null)).isSameAs(NullableInt.ofNull());
+    }
+
+    @Test
+    void getAsIntThrowsWhenNotValue() {
+        assertThatThrownBy(() -> NullableInt.undefined().getAsInt())
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Value is undefined");
+        assertThatThrownBy(() -> NullableInt.ofNull().getAsInt())
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Value is null");
+    }
+
+    @Test
+    void smallValuesAreCached() {
+        assertThat(NullableInt.of(7)).isSameAs(NullableInt.of(7));
+        assertThat(NullableLong.of(-128L)).isSameAs(NullableLong.of(-128L));
+        assertThat(NullableBoolean.of(true)).isSameAs(NullableBoolean.of(Boolean.TRUE));
+    }
+
+    @Test
+    void orElseAndIfPresent() {
+        assertThat(NullableLong.of(5L).orElse(1L)).isEqualTo(5L);
+        assertThat(NullableLong.ofNull().orElse(1L)).isEqualTo(1L);
+        assertThat(NullableDouble.undefined().orElse(1.5)).isEqualTo(1.5);
+
+        AtomicReference<Double> result = new AtomicReference<>(0.0);
+        NullableDouble.ofNull().ifPresent(result::set);
+        assertThat(result.get()).isNull();
+        NullableDouble.undefined().ifPresent(result::set);
+        assertThat(result.get()).isNull();
+        NullableDouble.of(2.5).ifValue(result::set);
+        assertThat(result.get()).isEqualTo(2.5);
+    }
+
+    @Test
+    void boxed() {
+        assertThat(NullableInt.of(3).boxed()).isEqualTo(NullableValue.of(3));
+        assertThat(NullableBoolean.ofNull().boxed()).isEqualTo(NullableValue.of(null));
+        assertThat(NullableLong.undefined().boxed()).isEqualTo(NullableValue.undefined());
+    }
+
+    @Test
+    void equalsHashCodeAndToString() {
+        assertThat(NullableInt.of(1000)).isEqualTo(NullableInt.of(1000));
+        assertThat(NullableInt.of(1000).hashCode()).isEqualTo(NullableInt.of(1000).hashCode());
+        assertThat(NullableInt.of(0)).isNotEqualTo(NullableInt.ofNull());
+        assertThat(NullableInt.ofNull()).isNotEqualTo(NullableInt.undefined());
+        assertThat(NullableDouble.of(1.5).toString()).isEqualTo("NullableDouble[1.5]");
+        assertThat(NullableBoolean.ofNull().toString()).isEqualTo("NullableBoolean[null]");
+        assertThat(NullableLong.undefined().toString()).isEqualTo("NullableLong.undefined");
+    }
+
+    static class ValidatedDto {
+        @Min(0)
+        NullableInt age = NullableInt.undefined();
+        @NotNull
+        NullableBoolean active = NullableBoolean.undefined();
+    }
+
+    @Test
+    void constraintsApplyOnlyToPresentValues() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            ValidatedDto dto = new ValidatedDto();
+            assertThat(validator.validate(dto)).isEmpty();
+
+            dto.age = NullableInt.of(-1);
+            dto.active = NullableBoolean.ofNull();
+            assertThat(validator.validate(dto)).hasSize(2);
+        }
+    }
+}
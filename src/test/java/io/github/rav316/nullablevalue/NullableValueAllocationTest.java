@@ -0,0 +1,98 @@
+package io.github.rav316.nullablevalue;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class NullableValueAllocationTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    private static final NullableValue<String> UNDEFINED = NullableValue.undefined();
+    private static final NullableValue<String> NULL = NullableValue.of(null);
+    private static final NullableValue<String> HELLO = NullableValue.of("hello");
+    private static final NullableValue<String> OTHER = NullableValue.of("hel" + "lo");
+
+    private static final Function<String, Integer> LENGTH = String::length;
+    private static final Function<String, NullableValue<Boolean>> IS_EMPTY = s -> NullableValue.of(s.isEmpty());
+    private static final Predicate<String> NOT_EMPTY = s -> !s.isEmpty();
+    private static final Supplier<String> FALLBACK = () -> "fallback";
+
+    private static ThreadMXBean threads;
+    private static int sink;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+    }
+
+    @Test
+    void ofCommonValuesDoesNotAllocate() {
+        assertNoAllocation(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += NullableValue.of(null).hashCode();
+                sink += NullableValue.of(i % 2 == 0).hashCode();
+                sink += NullableValue.of(i % 256 - 128).hashCode();
+                sink += NullableValue.of("").hashCode();
+            }
+        });
+    }
+
+    @Test
+    void equalsAndHashCodeDoNotAllocate() {
+        assertNoAllocation(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += HELLO.hashCode() + UNDEFINED.hashCode() + NULL.hashCode();
+                sink += HELLO.equals(OTHER) ? 1 : 0;
+                sink += NULL.equals(UNDEFINED) ? 1 : 0;
+            }
+        });
+    }
+
+    @Test
+    void accessorsDoNotAllocate() {
+        assertNoAllocation(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += HELLO.orElse("x").length();
+                sink += UNDEFINED.orElse("x").length();
+                sink += UNDEFINED.orElseGet(FALLBACK).length();
+                sink += HELLO.orElseGet(FALLBACK).length();
+            }
+        });
+    }
+
+    @Test
+    void transformationsDoNotAllocate() {
+        assertNoAllocation(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += HELLO.map(LENGTH).hashCode();
+                sink += NULL.map(LENGTH).hashCode();
+                sink += UNDEFINED.map(LENGTH).hashCode();
+                sink += HELLO.flatMap(IS_EMPTY).hashCode();
+                sink += NULL.flatMap(IS_EMPTY).hashCode();
+                sink += HELLO.filter(NOT_EMPTY).hashCode();
+                sink += UNDEFINED.filter(NOT_EMPTY).hashCode();
+            }
+        });
+    }
+
+    private static void assertNoAllocation(Runnable action) {
+        action.run();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        action.run();
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        // a few bytes of measurement overhead are tolerated, anything per operation is not
+        assertThat(allocated).isLessThan(ITERATIONS);
+    }
+}
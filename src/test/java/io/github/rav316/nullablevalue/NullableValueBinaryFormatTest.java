@@ -0,0 +1,95 @@
+package io.github.rav316.nullablevalue;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.cbor.CBORReadFeature;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NullableValueBinaryFormatTest {
+
+    private static final ObjectMapper CBOR = CBORMapper.builder()
+            .enable(CBORReadFeature.READ_UNDEFINED_AS_EMBEDDED_OBJECT)
+            .addModule(new NullableValueModule())
+            .build();
+
+    private static final ObjectMapper SMILE = SmileMapper.builder()
+            .addModule(new NullableValueModule())
+            .build();
+
+    private static final ObjectMapper JSON = JsonMapper.builder()
+            .addModule(new NullableValueModule())
+            .build();
+
+    static class PatchDto {
+        private NullableValue<String> name = NullableValue.undefined();
+        private NullableValue<String> email = NullableValue.undefined();
+        private NullableValue<Integer> age = NullableValue.undefined();
+        private List<NullableValue<String>> tags;
+
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+        public NullableValue<String> getEmail() { return email; }
+        public void setEmail(NullableValue<String> email) { this.email = email; }
+        public NullableValue<Integer> getAge() { return age; }
+        public void setAge(NullableValue<Integer> age) { this.age = age; }
+        public List<NullableValue<String>> getTags() { return tags; }
+        public void setTags(List<NullableValue<String>> tags) { this.tags = tags; }
+    }
+
+    private static PatchDto patch() {
+        PatchDto dto = new PatchDto();
+        dto.setName(NullableValue.of("John"));
+        dto.setEmail(NullableValue.of(null));
+        return dto;
+    }
+
+    @Test
+    void cborRoundTripsAllThreeStates() throws Exception {
+        PatchDto copy = CBOR.readValue(CBOR.writeValueAsBytes(patch()), PatchDto.class);
+
+        assertThat(copy.getName()).isEqualTo(NullableValue.of("John"));
+        assertThat(copy.getEmail()).isEqualTo(NullableValue.of(null));
+        assertThat(copy.getAge().isPresent()).isFalse();
+    }
+
+    @Test
+    void smileRoundTripsAllThreeStates() throws Exception {
+        PatchDto copy = SMILE.readValue(SMILE.writeValueAsBytes(patch()), PatchDto.class);
+
+        assertThat(copy.getName()).isEqualTo(NullableValue.of("John"));
+        assertThat(copy.getEmail()).isEqualTo(NullableValue.of(null));
+        assertThat(copy.getAge().isPresent()).isFalse();
+    }
+
+    @Test
+    void cborMarksUndefinedContainerElementsWithNativeUndefined() throws Exception {
+        PatchDto dto = new PatchDto();
+        List<NullableValue<String>> tags = new ArrayList<>();
+        tags.add(NullableValue.of("a"));
+        tags.add(NullableValue.undefined());
+        tags.add(NullableValue.of(null));
+        dto.setTags(tags);
+
+        byte[] bytes = CBOR.writeValueAsBytes(dto);
+        PatchDto copy = CBOR.readValue(bytes, PatchDto.class);
+
+        assertThat(bytes).contains((byte) 0xF7);
+        assertThat(copy.getTags()).containsExactly(NullableValue.of("a"), NullableValue.undefined(),
+                NullableValue.of(null));
+    }
+
+    @Test
+    void jsonKeepsNullForUndefinedContainerElements() throws Exception {
+        PatchDto dto = new PatchDto();
+        dto.setTags(List.of(NullableValue.of("a"), NullableValue.undefined()));
+
+        assertThat(JSON.writeValueAsString(dto)).isEqualTo("{\"tags\":[\"a\",null]}");
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.rav316.nullablevalue;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NullableValueContainerTest {
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build();
+    }
+
+    static class Address {
+        private String city;
+
+        public String getCity() { return city; }
+        public void setCity(String city) { this.city = city; }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static class AttributesDto {
+        private Map<String, NullableValue<Long>> counters;
+        private List<NullableValue<Address>> addresses;
+        private NullableValueMap<Address> locations;
+        private NullableValueMap<Object> attributes;
+
+        public Map<String, NullableValue<Long>> getCounters() { return counters; }
+        public void setCounters(Map<String, NullableValue<Long>> counters) { this.counters = counters; }
+        public List<NullableValue<Address>> getAddresses() { return addresses; }
+        public void setAddresses(List<NullableValue<Address>> addresses) { this.addresses = addresses; }
+        public NullableValueMap<Address> getLocations() { return locations; }
+        public void setLocations(NullableValueMap<Address> locations) { this.locations = locations; }
+        public NullableValueMap<Object> getAttributes() { return attributes; }
+        public void setAttributes(NullableValueMap<Object> attributes) { this.attributes = attributes; }
+    }
+
+    @Test
+    void resolvesContentTypeOfMapValues() throws Exception {
+        AttributesDto dto = mapper.readValue("""
+                {"counters": {"a": 1, "b": null}}
+                """, AttributesDto.class);
+
+        assertThat(dto.getCounters().get("a").get()).isEqualTo(1L);
+        assertThat(dto.getCounters().get("b")).isEqualTo(NullableValue.of(null));
+    }
+
+    @Test
+    void resolvesContentTypeOfListElements() throws Exception {
+        AttributesDto dto = mapper.readValue("""
+                {"addresses": [{"city": "Berlin"}, null]}
+                """, AttributesDto.class);
+
+        assertThat(dto.getAddresses().get(0).get()).isInstanceOf(Address.class);
+        assertThat(dto.getAddresses().get(0).get().getCity()).isEqualTo("Berlin");
+        assertThat(dto.getAddresses().get(1)).isEqualTo(NullableValue.of(null));
+    }
+
+    @Test
+    void nullableValueMapKeepsPresence() throws Exception {
+        AttributesDto dto = mapper.readValue("""
+                {"locations": {"home": {"city": "Berlin"}, "work": null}}
+                """, AttributesDto.class);
+
+        NullableValueMap<Address> locations = dto.getLocations();
+        assertThat(locations.size()).isEqualTo(2);
+        assertThat(locations.get("home").get().getCity()).isEqualTo("Berlin");
+        assertThat(locations.get("work").isPresent()).isTrue();
+        assertThat(locations.get("work").get()).isNull();
+        assertThat(locations.get("other").isPresent()).isFalse();
+    }
+
+    @Test
+    void nullableValueMapRoundTrip() throws Exception {
+        String json = "{\"attributes\":{\"color\":\"red\",\"size\":3,\"tags\":[\"a\"],\"removed\":null}}";
+
+        AttributesDto dto = mapper.readValue(json, AttributesDto.class);
+
+        assertThat(dto.getAttributes().asMap()).containsEntry("tags", List.of("a")).containsEntry("removed", null);
+        assertThat(mapper.writeValueAsString(dto)).isEqualTo(json);
+    }
+
+    @Test
+    void nullableValueMapSetAndRemove() {
+        NullableValueMap<String> map = new NullableValueMap<String>()
+                .set("a", NullableValue.of("x"))
+                .set("b", NullableValue.of(null))
+                .set("c", NullableValue.undefined());
+
+        assertThat(map.keySet()).containsExactly("a", "b");
+        assertThat(map.remove("a").get("a").isPresent()).isFalse();
+    }
+
+    public static class NestedMapsDto {
+        public List<NullableValueMap<String>> list;
+        public Map<String, NullableValueMap<Integer>> byKey;
+        public NullableValue<NullableValueMap<String>> wrapped = NullableValue.undefined();
+        public NullableValueMap<NullableValueMap<Long>> nested;
+    }
+
+    @Test
+    void serializesNullableValueMapInsideContainers() {
+        NestedMapsDto dto = new NestedMapsDto();
+        dto.list = List.of(new NullableValueMap<String>().put("a", "x").put("b", null));
+        dto.byKey = Map.of("k", new NullableValueMap<Integer>().put("n", 1));
+        dto.wrapped = NullableValue.of(new NullableValueMap<String>().put("c", "y"));
+        dto.nested = new NullableValueMap<NullableValueMap<Long>>().put("outer", new NullableValueMap<Long>().put("id", 7L));
+
+        String json = mapper.writeValueAsString(dto);
+
+        assertThat(json).isEqualTo("{\"list\":[{\"a\":\"x\",\"b\":null}],\"byKey\":{\"k\":{\"n\":1}},"
+                + "\"wrapped\":{\"c\":\"y\"},\"nested\":{\"outer\":{\"id\":7}}}");
+        NestedMapsDto read = mapper.readValue(json, NestedMapsDto.class);
+        assertThat(read.list.getFirst().get("b")).isEqualTo(NullableValue.of(null));
+        assertThat(read.byKey.get("k").get("n")).isEqualTo(NullableValue.of(1));
+        assertThat(read.wrapped.get().get("c")).isEqualTo(NullableValue.of("y"));
+        assertThat(read.nested.get("outer").get().get("id")).isEqualTo(NullableValue.of(7L));
+    }
+}
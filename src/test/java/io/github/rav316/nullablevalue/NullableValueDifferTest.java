@@ -0,0 +1,161 @@
+package io.github.rav316.nullablevalue;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullableValueDifferTest {
+
+    static class Address {
+        private String city;
+        private String zip;
+
+        Address(String city, String zip) {
+            this.city = city;
+            this.zip = zip;
+        }
+
+        public String getCity() { return city; }
+        public String getZip() { return zip; }
+    }
+
+    static class User {
+        private String name;
+        private int age;
+        private double score;
+        private boolean active;
+        private String mail;
+        private Address address;
+
+        User(String name, int age, double score, boolean active, String mail, Address address) {
+            this.name = name;
+            this.age = age;
+            this.score = score;
+            this.active = active;
+            this.mail = mail;
+            this.address = address;
+        }
+
+        public String getName() { return name; }
+        public int getAge() { return age; }
+        public double getScore() { return score; }
+        public boolean isActive() { return active; }
+        public String getMail() { return mail; }
+        public Address getAddress() { return address; }
+    }
+
+    static class AddressPatch {
+        public NullableValue<String> city = NullableValue.undefined();
+        public NullableValue<String> zip = NullableValue.undefined();
+    }
+
+    static class UserPatch {
+        public NullableValue<String> name = NullableValue.undefined();
+        public NullableValue<Integer> age = NullableValue.undefined();
+        public NullableValue<Double> score = NullableValue.undefined();
+        public NullableValue<Boolean> active = NullableValue.undefined();
+        @PatchTarget("mail")
+        public NullableValue<String> email = NullableValue.undefined();
+        public NullableValue<AddressPatch> address = NullableValue.undefined();
+        public NullableValue<String> nickname = NullableValue.undefined();
+    }
+
+    record Point(int x, long y, String label) {
+    }
+
+    static class PointPatch {
+        public NullableValue<Integer> x = NullableValue.undefined();
+        public NullableValue<Long> y = NullableValue.undefined();
+        public NullableValue<String> label = NullableValue.undefined();
+    }
+
+    static class InvalidPatch {
+        @PatchTarget("missing")
+        public NullableValue<String> name = NullableValue.undefined();
+    }
+
+    private static final NullableValueDiffer<User, UserPatch> DIFFER =
+            NullableValueDiffer.of(User.class, UserPatch.class);
+
+    @Test
+    void leavesUnchangedPropertiesUndefined() {
+        User old = new User("John", 30, 1.5, true, "j@example.com", new Address("Oslo", "0150"));
+        User updated = new User("John", 31, 1.5, true, "j@example.com", new Address("Oslo", "0150"));
+
+        UserPatch patch = DIFFER.diff(old, updated);
+
+        assertThat(patch.age).isEqualTo(NullableValue.of(31));
+        assertThat(patch.name.isPresent()).isFalse();
+        assertThat(patch.score.isPresent()).isFalse();
+        assertThat(patch.active.isPresent()).isFalse();
+        assertThat(patch.email.isPresent()).isFalse();
+        assertThat(patch.address.isPresent()).isFalse();
+        assertThat(patch.nickname.isPresent()).isFalse();
+    }
+
+    @Test
+    void reportsClearedPropertiesAsNull() {
+        User old = new User("John", 30, 1.5, true, "j@example.com", new Address("Oslo", "0150"));
+        User updated = new User("John", 30, 2.5, false, null, null);
+
+        UserPatch patch = new UserPatch();
+        long changed = DIFFER.diffInto(old, updated, patch);
+
+        assertThat(changed).isEqualTo(0b111100L);
+        assertThat(patch.score).isEqualTo(NullableValue.of(2.5));
+        assertThat(patch.active).isEqualTo(NullableValue.of(false));
+        assertThat(patch.email).isEqualTo(NullableValue.of(null));
+        assertThat(patch.address).isEqualTo(NullableValue.of(null));
+    }
+
+    @Test
+    void diffsNestedObjects() {
+        User old = new User("John", 30, 1.5, true, null, new Address("Oslo", "0150"));
+        User updated = new User("John", 30, 1.5, true, null, new Address("Bergen", "0150"));
+
+        UserPatch patch = DIFFER.diff(old, updated);
+
+        assertThat(patch.address.isPresent()).isTrue();
+        AddressPatch address = patch.address.get();
+        assertThat(address.city).isEqualTo(NullableValue.of("Bergen"));
+        assertThat(address.zip.isPresent()).isFalse();
+    }
+
+    @Test
+    void treatsMissingSnapshotAsAllChanged() {
+        User updated = new User("John", 30, 0, false, null, new Address("Oslo", null));
+
+        UserPatch patch = DIFFER.diff(null, updated);
+
+        assertThat(patch.name).isEqualTo(NullableValue.of("John"));
+        assertThat(patch.age).isEqualTo(NullableValue.of(30));
+        assertThat(patch.score).isEqualTo(NullableValue.of(0.0));
+        assertThat(patch.email.isPresent()).isFalse();
+        assertThat(patch.address.get().city).isEqualTo(NullableValue.of("Oslo"));
+        assertThat(patch.address.get().zip.isPresent()).isFalse();
+    }
+
+    @Test
+    void readsRecordComponents() {
+        PointPatch patch = NullableValueDiffer.of(Point.class, PointPatch.class)
+                .diff(new Point(1, 2L, "a"), new Point(1, 3L, null));
+
+        assertThat(patch.x.isPresent()).isFalse();
+        assertThat(patch.y).isEqualTo(NullableValue.of(3L));
+        assertThat(patch.label).isEqualTo(NullableValue.of(null));
+    }
+
+    @Test
+    void cachesDifferPerTypePair() {
+        assertThat(NullableValueDiffer.of(User.class, UserPatch.class)).isSameAs(DIFFER);
+        assertThat(DIFFER.propertyNames()).containsExactly("name", "age", "score", "active", "email", "address");
+    }
+
+    @Test
+    void rejectsUnknownPatchTarget() {
+        assertThatThrownBy(() -> NullableValueDiffer.of(User.class, InvalidPatch.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("missing");
+    }
+}
@@ -2,9 +2,14 @@ package io.github.rav316.nullablevalue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class NullableValueJacksonTest {
@@ -31,6 +36,16 @@ class NullableValueJacksonTest {
         public void setAge(NullableValue<Integer> age) { this.age = age; }
     }
 
+    static class UntypedDto {
+        private NullableValue<Object> attributes = NullableValue.undefined();
+        private NullableValue<Map<String, Object>> meta = NullableValue.undefined();
+
+        public NullableValue<Object> getAttributes() { return attributes; }
+        public void setAttributes(NullableValue<Object> attributes) { this.attributes = attributes; }
+        public NullableValue<Map<String, Object>> getMeta() { return meta; }
+        public void setMeta(NullableValue<Map<String, Object>> meta) { this.meta = meta; }
+    }
+
     @Test
     void deserializeWithValue() throws Exception {
         String json = """
@@ -98,4 +113,55 @@ class NullableValueJacksonTest {
         assertThat(json).contains("\"name\":\"John\"");
         assertThat(json).contains("\"email\":null");
     }
+
+    @Test
+    void deserializeNestedUntypedContent() throws Exception {
+        String json = """
+                {"attributes": {"tags": ["a", "b"], "size": 3}, "meta": {"source": {"id": 7}}}
+                """;
+        UntypedDto dto = mapper.readValue(json, UntypedDto.class);
+
+        assertThat(dto.getAttributes().get()).isEqualTo(Map.of("tags", List.of("a", "b"), "size", 3));
+        assertThat(dto.getMeta().get()).isEqualTo(Map.of("source", Map.of("id", 7)));
+    }
+
+    @Test
+    void deserializeRootValue() throws Exception {
+        NullableValue<Map<String, Object>> typed = mapper.readValue("{\"a\": [1, 2]}",
+                new TypeReference<NullableValue<Map<String, Object>>>() {});
+        NullableValue<?> raw = mapper.readValue("[1, {\"b\": null}]", NullableValue.class);
+
+        assertThat(typed.get()).isEqualTo(Map.of("a", List.of(1, 2)));
+        assertThat(raw.get()).isEqualTo(List.of(1, Collections.singletonMap("b", null)));
+    }
+
+    static class ListDto {
+        private List<NullableValue<String>> items = List.of();
+
+        public List<NullableValue<String>> getItems() { return items; }
+        public void setItems(List<NullableValue<String>> items) { this.items = items; }
+    }
+
+    @Test
+    void serializeRootValue() throws Exception {
+        assertThat(mapper.writeValueAsString(NullableValue.of(Map.of("a", List.of(1, 2))))).isEqualTo("{\"a\":[1,2]}");
+        assertThat(mapper.writeValueAsString(NullableValue.of("x"))).isEqualTo("\"x\"");
+    }
+
+    @Test
+    void serializeUntypedContentByRuntimeType() throws Exception {
+        UntypedDto dto = new UntypedDto();
+        dto.setAttributes(NullableValue.of(List.of("a", 1)));
+        dto.setMeta(NullableValue.of(Map.of("id", 7)));
+
+        assertThat(mapper.writeValueAsString(dto)).isEqualTo("{\"attributes\":[\"a\",1],\"meta\":{\"id\":7}}");
+    }
+
+    @Test
+    void serializeContainerElements() throws Exception {
+        ListDto dto = new ListDto();
+        dto.setItems(List.of(NullableValue.of("a"), NullableValue.of(null)));
+
+        assertThat(mapper.writeValueAsString(dto)).isEqualTo("{\"items\":[\"a\",null]}");
+    }
 }
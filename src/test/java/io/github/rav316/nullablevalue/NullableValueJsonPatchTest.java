@@ -0,0 +1,148 @@
+package io.github.rav316.nullablevalue;
+
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullableValueJsonPatchTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new NullableValueModule())
+            .build();
+
+    public static class Address {
+        public NullableValue<String> city = NullableValue.undefined();
+        public NullableValue<String> zip = NullableValue.undefined();
+    }
+
+    public static class UserPatch {
+        public NullableValue<String> name = NullableValue.undefined();
+        public NullableValue<String> email = NullableValue.undefined();
+        public NullableValue<List<String>> tags = NullableValue.undefined();
+        public NullableValue<Address> address = NullableValue.undefined();
+        public NullableValue<String> path = NullableValue.undefined();
+    }
+
+    @Test
+    void mapsOperationsOntoPresence() {
+        UserPatch patch = NullableValueJsonPatch.of(UserPatch.class).read(mapper, """
+                [
+                  {"op": "replace", "path": "/name", "value": "John"},
+                  {"op": "remove", "path": "/email"},
+                  {"op": "add", "path": "/tags", "value": ["a", "b"]}
+                ]
+                """);
+
+        assertThat(patch.name).isEqualTo(NullableValue.of("John"));
+        assertThat(patch.email).isEqualTo(NullableValue.of(null));
+        assertThat(patch.tags).isEqualTo(NullableValue.of(List.of("a", "b")));
+        assertThat(patch.address.isPresent()).isFalse();
+    }
+
+    @Test
+    void resolvesNestedPointers() {
+        UserPatch patch = NullableValueJsonPatch.of(UserPatch.class).read(mapper, """
+                [
+                  {"op": "add", "path": "/address/city", "value": "Oslo"},
+                  {"op": "remove", "path": "/address/zip"}
+                ]
+                """);
+
+        assertThat(patch.address.get().city).isEqualTo(NullableValue.of("Oslo"));
+        assertThat(patch.address.get().zip).isEqualTo(NullableValue.of(null));
+    }
+
+    @Test
+    void bindsObjectValuesWithUndefinedMembers() {
+        UserPatch patch = NullableValueJsonPatch.of(UserPatch.class).read(mapper, """
+                [{"op": "replace", "path": "/address", "value": {"city": null}}]
+                """);
+
+        assertThat(patch.address.get().city).isEqualTo(NullableValue.of(null));
+        assertThat(patch.address.get().zip.isPresent()).isFalse();
+    }
+
+    @Test
+    void acceptsMembersInAnyOrderAndLaterOperationsWin() {
+        UserPatch patch = NullableValueJsonPatch.of(UserPatch.class).read(mapper, """
+                [
+                  {"value": "first", "op": "add", "path": "/name"},
+                  {"path": "/name", "value": null, "op": "replace"},
+                  {"op": "add", "path": "/path", "value": "~/", "from": "/ignored"}
+                ]
+                """);
+
+        assertThat(patch.name).isEqualTo(NullableValue.of(null));
+        assertThat(patch.path).isEqualTo(NullableValue.of("~/"));
+    }
+
+    @Test
+    void cachesCompiledPaths() {
+        NullableValueJsonPatch<UserPatch> jsonPatch = NullableValueJsonPatch.of(UserPatch.class);
+
+        assertThat(jsonPatch.path(mapper, "/address/city")).isSameAs(jsonPatch.path(mapper, "/address/city"));
+        assertThat(NullableValueJsonPatch.of(UserPatch.class)).isSameAs(jsonPatch);
+    }
+
+    public static class RenamedPatch {
+        public NullableValue<String> firstName = NullableValue.undefined();
+        @JsonProperty("mail")
+        public NullableValue<String> email = NullableValue.undefined();
+        public NullableValue<Address> homeAddress = NullableValue.undefined();
+    }
+
+    @Test
+    void resolvesPointersByExternalNames() {
+        ObjectMapper snakeCase = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        NullableValueJsonPatch<RenamedPatch> jsonPatch = NullableValueJsonPatch.of(RenamedPatch.class);
+
+        RenamedPatch patch = jsonPatch.read(snakeCase, """
+                [
+                  {"op": "replace", "path": "/first_name", "value": "John"},
+                  {"op": "remove", "path": "/mail"},
+                  {"op": "add", "path": "/home_address/city", "value": "Oslo"}
+                ]
+                """);
+
+        assertThat(patch.firstName).isEqualTo(NullableValue.of("John"));
+        assertThat(patch.email).isEqualTo(NullableValue.of(null));
+        assertThat(patch.homeAddress.get().city).isEqualTo(NullableValue.of("Oslo"));
+        // the same class under another mapper resolves its own names
+        assertThat(jsonPatch.read(mapper, "[{\"op\": \"add\", \"path\": \"/firstName\", \"value\": \"Jane\"}]")
+                .firstName).isEqualTo(NullableValue.of("Jane"));
+        assertThatThrownBy(() -> jsonPatch.read(mapper, "[{\"op\": \"remove\", \"path\": \"/email\"}]"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("/email");
+    }
+
+    @Test
+    void rejectsUnsupportedOperationsAndPaths() {
+        NullableValueJsonPatch<UserPatch> jsonPatch = NullableValueJsonPatch.of(UserPatch.class);
+
+        assertThatThrownBy(() -> jsonPatch.read(mapper, "[{\"op\": \"move\", \"from\": \"/name\", \"path\": \"/email\"}]"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'move'");
+        assertThatThrownBy(() -> jsonPatch.read(mapper, "[{\"op\": \"add\", \"path\": \"/tags/0\", \"value\": \"x\"}]"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not a NullableValue DTO");
+        assertThatThrownBy(() -> jsonPatch.read(mapper, "[{\"op\": \"add\", \"path\": \"/unknown\", \"value\": 1}]"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("/unknown");
+        assertThatThrownBy(() -> jsonPatch.read(mapper, "[{\"op\": \"add\", \"path\": \"/name\"}]"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("requires 'value'");
+        assertThatThrownBy(() -> jsonPatch.read(mapper, "{\"name\": \"x\"}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("array");
+    }
+}
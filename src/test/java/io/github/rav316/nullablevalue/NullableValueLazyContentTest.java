@@ -0,0 +1,165 @@
+package io.github.rav316.nullablevalue;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.UnrecognizedPropertyException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullableValueLazyContentTest {
+
+    private static ObjectMapper mapper(boolean lazyContent) {
+        return JsonMapper.builder()
+                .addModule(new NullableValueModule().lazyContent(lazyContent))
+                .build();
+    }
+
+    static class Address {
+        private String city;
+
+        public String getCity() { return city; }
+        public void setCity(String city) { this.city = city; }
+    }
+
+    static class ForwardDto {
+        private NullableValue<String> name = NullableValue.undefined();
+        @LazyContent
+        private NullableValue<Address> address = NullableValue.undefined();
+        @LazyContent
+        private NullableValue<List<Integer>> tags = NullableValue.undefined();
+
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+        public NullableValue<Address> getAddress() { return address; }
+        public void setAddress(NullableValue<Address> address) { this.address = address; }
+        public NullableValue<List<Integer>> getTags() { return tags; }
+        public void setTags(NullableValue<List<Integer>> tags) { this.tags = tags; }
+    }
+
+    static class EagerDto {
+        @LazyContent(false)
+        private NullableValue<Address> address = NullableValue.undefined();
+
+        public NullableValue<Address> getAddress() { return address; }
+        public void setAddress(NullableValue<Address> address) { this.address = address; }
+    }
+
+    static class GlobalDto {
+        private NullableValue<Address> address = NullableValue.undefined();
+
+        public NullableValue<Address> getAddress() { return address; }
+        public void setAddress(NullableValue<Address> address) { this.address = address; }
+    }
+
+    @Test
+    void capturesAnnotatedPropertiesWithoutBinding() throws Exception {
+        ForwardDto dto = mapper(false).readValue("""
+                {"name": "John", "address": {"city": "Berlin"}, "tags": [1, 2]}
+                """, ForwardDto.class);
+
+        assertThat(dto.getName()).isNotInstanceOf(LazyNullableValue.class);
+        assertThat(dto.getAddress()).isInstanceOf(LazyNullableValue.class);
+        assertThat(((LazyNullableValue<?>) dto.getAddress()).isBound()).isFalse();
+
+        assertThat(dto.getAddress().get().getCity()).isEqualTo("Berlin");
+        assertThat(((LazyNullableValue<?>) dto.getAddress()).isBound()).isTrue();
+        assertThat(dto.getAddress().get()).isSameAs(dto.getAddress().get());
+        assertThat(dto.getTags().get()).containsExactly(1, 2);
+    }
+
+    @Test
+    void writesUntouchedContentBackVerbatim() throws Exception {
+        ObjectMapper mapper = mapper(false);
+        ForwardDto dto = mapper.readValue("""
+                {"address": {"city": "Berlin", "zip": "10115", "geo": {"lat": 52.5}}}
+                """, ForwardDto.class);
+
+        assertThat(mapper.writeValueAsString(dto))
+                .isEqualTo("{\"address\":{\"city\":\"Berlin\",\"zip\":\"10115\",\"geo\":{\"lat\":52.5}}}");
+    }
+
+    @Test
+    void writesBoundContentThroughSerializer() throws Exception {
+        ObjectMapper mapper = mapper(false);
+        ForwardDto dto = mapper.readValue("""
+                {"address": {"city": "Berlin", "zip": "10115"}}
+                """, ForwardDto.class);
+
+        dto.getAddress().get().setCity("Hamburg");
+
+        assertThat(mapper.writeValueAsString(dto)).isEqualTo("{\"address\":{\"city\":\"Hamburg\"}}");
+    }
+
+    @Test
+    void keepsNullAndUndefinedSemantics() throws Exception {
+        ForwardDto dto = mapper(false).readValue("{\"address\": null}", ForwardDto.class);
+
+        assertThat(dto.getAddress().isPresent()).isTrue();
+        assertThat(dto.getAddress().get()).isNull();
+        assertThat(dto.getTags().isPresent()).isFalse();
+    }
+
+    @Test
+    void globalFlagAppliesUnlessPropertyOptsOut() throws Exception {
+        ObjectMapper mapper = mapper(true);
+
+        EagerDto eager = mapper.readValue("{\"address\": {\"city\": \"Berlin\"}}", EagerDto.class);
+        assertThat(eager.getAddress()).isNotInstanceOf(LazyNullableValue.class);
+
+        GlobalDto global = mapper.readValue("{\"address\": {\"city\": \"Berlin\"}}", GlobalDto.class);
+        assertThat(global.getAddress()).isInstanceOf(LazyNullableValue.class);
+        assertThat(global.getAddress().get().getCity()).isEqualTo("Berlin");
+    }
+
+    @Test
+    void lazyAndEagerValuesAreEqual() throws Exception {
+        ForwardDto lazy = mapper(false).readValue("{\"tags\": [1, 2]}", ForwardDto.class);
+
+        assertThat(lazy.getTags()).isEqualTo(NullableValue.of(List.of(1, 2)));
+    }
+
+    @Test
+    void bindsValuesOfOnePayloadFromSeveralThreads() throws Exception {
+        ObjectMapper mapper = mapper(false);
+        for (int i = 0; i < 200; i++) {
+            ForwardDto dto = mapper.readValue("{\"address\": {\"city\": \"Berlin\"}, \"tags\": [1, 2]}", ForwardDto.class);
+            CompletableFuture<String> city = CompletableFuture.supplyAsync(() -> dto.getAddress().get().getCity());
+            CompletableFuture<List<Integer>> tags = CompletableFuture.supplyAsync(() -> dto.getTags().get());
+
+            assertThat(city.get()).isEqualTo("Berlin");
+            assertThat(tags.get()).containsExactly(1, 2);
+        }
+    }
+
+    @Test
+    void toStringDoesNotBind() throws Exception {
+        ForwardDto dto = mapper(false).readValue("{\"tags\": [1, 2]}", ForwardDto.class);
+
+        assertThat(dto.getTags().toString()).isEqualTo("NullableValue[unbound]");
+        assertThat(((LazyNullableValue<?>) dto.getTags()).isBound()).isFalse();
+        dto.getTags().get();
+        assertThat(dto.getTags().toString()).isEqualTo("NullableValue[[1, 2]]");
+    }
+
+    @Test
+    void bindsWithTheConfigurationOfTheCapturingRead() throws Exception {
+        ObjectMapper mapper = mapper(false);
+        String json = "{\"address\": {\"city\": \"Berlin\", \"zip\": \"10115\"}}";
+
+        ForwardDto strict = mapper.readerFor(ForwardDto.class)
+                .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(json);
+        ForwardDto lenient = mapper.readerFor(ForwardDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(json);
+
+        assertThatThrownBy(() -> strict.getAddress().get()).isInstanceOf(UnrecognizedPropertyException.class);
+        assertThat(lenient.getAddress().get().getCity()).isEqualTo("Berlin");
+    }
+}
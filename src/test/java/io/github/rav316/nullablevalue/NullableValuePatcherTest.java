@@ -0,0 +1,97 @@
+package io.github.rav316.nullablevalue;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullableValuePatcherTest {
+
+    static class UserPatch {
+        private NullableValue<String> name = NullableValue.undefined();
+        private NullableValue<Integer> age = NullableValue.undefined();
+        @PatchTarget("mail")
+        private NullableValue<String> email = NullableValue.undefined();
+        private NullableValue<String> nickname = NullableValue.undefined();
+
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+        public NullableValue<Integer> getAge() { return age; }
+        public void setAge(NullableValue<Integer> age) { this.age = age; }
+        public NullableValue<String> getEmail() { return email; }
+        public void setEmail(NullableValue<String> email) { this.email = email; }
+        public NullableValue<String> getNickname() { return nickname; }
+        public void setNickname(NullableValue<String> nickname) { this.nickname = nickname; }
+    }
+
+    static class User {
+        private String name = "old";
+        private int age = 10;
+        private String mail = "old@example.com";
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public int getAge() { return age; }
+        public void setAge(int age) { this.age = age; }
+        public String getMail() { return mail; }
+        public void setMail(String mail) { this.mail = mail; }
+    }
+
+    static class InvalidPatch {
+        @PatchTarget("missing")
+        public NullableValue<String> name = NullableValue.undefined();
+    }
+
+    @Test
+    void appliesOnlyPresentProperties() {
+        UserPatch patch = new UserPatch();
+        patch.setName(NullableValue.of("John"));
+        User user = new User();
+
+        long changed = NullableValuePatcher.of(UserPatch.class, User.class).apply(patch, user);
+
+        assertThat(changed).isEqualTo(0b001L);
+        assertThat(user.getName()).isEqualTo("John");
+        assertThat(user.getAge()).isEqualTo(10);
+        assertThat(user.getMail()).isEqualTo("old@example.com");
+    }
+
+    @Test
+    void appliesNullAndRenamedProperties() {
+        UserPatch patch = new UserPatch();
+        patch.setAge(NullableValue.of(42));
+        patch.setEmail(NullableValue.of(null));
+        User user = new User();
+
+        long changed = NullableValuePatcher.of(UserPatch.class, User.class).apply(patch, user);
+
+        assertThat(changed).isEqualTo(0b110L);
+        assertThat(user.getAge()).isEqualTo(42);
+        assertThat(user.getMail()).isNull();
+    }
+
+    @Test
+    void skipsPropertiesWithoutTarget() {
+        NullableValuePatcher<UserPatch, User> patcher = NullableValuePatcher.of(UserPatch.class, User.class);
+
+        assertThat(patcher.propertyNames()).containsExactly("name", "age", "email");
+        assertThat(NullableValuePatcher.of(UserPatch.class, User.class)).isSameAs(patcher);
+    }
+
+    @Test
+    void rejectsNullForPrimitiveTarget() {
+        UserPatch patch = new UserPatch();
+        patch.setAge(NullableValue.of(null));
+
+        assertThatThrownBy(() -> NullableValuePatcher.of(UserPatch.class, User.class).apply(patch, new User()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("age");
+    }
+
+    @Test
+    void rejectsUnknownPatchTarget() {
+        assertThatThrownBy(() -> NullableValuePatcher.of(InvalidPatch.class, User.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("missing");
+    }
+}
@@ -0,0 +1,252 @@
+package io.github.rav316.nullablevalue;
+
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import io.github.rav316.nullablevalue.metrics.InMemoryNullableValueMetrics;
+import io.github.rav316.nullablevalue.metrics.NullableValueMetrics;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.InjectableValues;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.exc.UnrecognizedPropertyException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullableValueRecordTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new NullableValueModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    record UserPatch(NullableValue<String> name, NullableValue<Integer> age, String source) {
+    }
+
+    record Renamed(@JsonProperty("e_mail") NullableValue<String> email, int version, boolean active) {
+    }
+
+    record Nested(NullableValue<List<Integer>> ids, NullableValue<Map<String, UserPatch>> users,
+                  NullableValue<Nested> child) {
+    }
+
+    record WithOptional(NullableValue<String> name, Optional<String> nickname) {
+    }
+
+    record Formatted(NullableValue<String> name, @JsonFormat(pattern = "dd.MM.yyyy") LocalDate due) {
+    }
+
+    record Aliased(@JsonAlias("mail") NullableValue<String> email) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Lenient(NullableValue<String> name) {
+    }
+
+    record Tagged(NullableValue<String> name, @JsonDeserialize(contentUsing = UpperCase.class) List<String> tags) {
+    }
+
+    record Extensible(NullableValue<String> name, @JsonAnySetter Map<String, Object> extra) {
+    }
+
+    record Injected(NullableValue<String> name, @JacksonInject("source") String source) {
+    }
+
+    record Address(String city, String zip) {
+    }
+
+    record WithAddress(NullableValue<String> name, @JsonUnwrapped Address address) {
+    }
+
+    static class UpperCase extends ValueDeserializer<String> {
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) {
+            return p.getString().toUpperCase();
+        }
+    }
+
+    @Test
+    void bindsMissingComponentsAsUndefined() {
+        UserPatch patch = mapper.readValue("{\"name\": \"John\"}", UserPatch.class);
+
+        assertThat(patch.name()).isEqualTo(NullableValue.of("John"));
+        assertThat(patch.age().isPresent()).isFalse();
+        assertThat(patch.source()).isNull();
+    }
+
+    @Test
+    void bindsExplicitNullAsPresentNull() {
+        UserPatch patch = mapper.readValue("{\"name\": null, \"source\": null}", UserPatch.class);
+
+        assertThat(patch.name()).isEqualTo(NullableValue.of(null));
+        assertThat(patch.age().isPresent()).isFalse();
+        assertThat(patch.source()).isNull();
+    }
+
+    @Test
+    void honoursJsonPropertyAndPrimitiveDefaults() {
+        Renamed renamed = mapper.readValue("{\"e_mail\": \"a@b.c\", \"email\": \"ignored\"}", Renamed.class);
+
+        assertThat(renamed).isEqualTo(new Renamed(NullableValue.of("a@b.c"), 0, false));
+    }
+
+    @Test
+    void bindsGenericAndNestedContent() {
+        Nested nested = mapper.readValue("""
+                {"ids": [1, 2], "users": {"a": {"age": 3}}, "child": {"ids": null}}
+                """, Nested.class);
+
+        assertThat(nested.ids()).isEqualTo(NullableValue.of(List.of(1, 2)));
+        assertThat(nested.users().get().get("a"))
+                .isEqualTo(new UserPatch(NullableValue.undefined(), NullableValue.of(3), null));
+        assertThat(nested.child().get().ids()).isEqualTo(NullableValue.of(null));
+        assertThat(nested.child().get().child().isPresent()).isFalse();
+    }
+
+    @Test
+    void rejectsUnknownPropertiesWhenConfigured() {
+        ObjectMapper strict = JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+
+        assertThatThrownBy(() -> strict.readValue("{\"nickname\": \"x\"}", UserPatch.class))
+                .isInstanceOf(UnrecognizedPropertyException.class);
+    }
+
+    @Test
+    void roundTripsThroughJson() {
+        UserPatch patch = new UserPatch(NullableValue.of(null), NullableValue.of(42), "api");
+
+        String json = mapper.writeValueAsString(patch);
+
+        assertThat(json).isEqualTo("{\"name\":null,\"age\":42,\"source\":\"api\"}");
+        assertThat(mapper.readValue(json, UserPatch.class)).isEqualTo(patch);
+        assertThat(mapper.readValue("{}", UserPatch.class))
+                .isEqualTo(new UserPatch(NullableValue.undefined(), NullableValue.undefined(), null));
+    }
+
+    @Test
+    void bindsMissingOtherComponentsAsTheirAbsentValue() {
+        WithOptional value = mapper.readValue("{\"name\": \"John\"}", WithOptional.class);
+
+        assertThat(value.nickname()).isEmpty();
+    }
+
+    @Test
+    void failsOnMissingCreatorPropertiesWhenEnabled() {
+        ObjectMapper strict = mapper.rebuild().enable(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES).build();
+
+        assertThatThrownBy(() -> strict.readValue("{\"name\": \"John\"}", UserPatch.class))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("'age'");
+    }
+
+    @Test
+    void failsOnNullCreatorPropertiesWhenEnabled() {
+        ObjectMapper strict = mapper.rebuild().enable(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES).build();
+
+        assertThatThrownBy(() -> strict.readValue("{\"name\": null, \"source\": null}", UserPatch.class))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("'source'");
+    }
+
+    @Test
+    void appliesPropertyFormatToComponent() {
+        Formatted value = mapper.readValue("{\"due\": \"17.10.2026\"}", Formatted.class);
+
+        assertThat(value.due()).isEqualTo(LocalDate.of(2026, 10, 17));
+    }
+
+    @Test
+    void bindsAliases() {
+        Aliased value = mapper.readValue("{\"mail\": \"a@b.c\"}", Aliased.class);
+
+        assertThat(value.email()).isEqualTo(NullableValue.of("a@b.c"));
+    }
+
+    @Test
+    void honoursIgnoreUnknown() {
+        ObjectMapper strict = mapper.rebuild().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+
+        assertThat(strict.readValue("{\"name\": \"x\", \"nickname\": {\"a\": 1}}", Lenient.class))
+                .isEqualTo(new Lenient(NullableValue.of("x")));
+    }
+
+    @Test
+    void leavesCustomComponentDeserializersToJackson() {
+        Tagged value = mapper.readValue("{\"tags\": [\"a\", \"b\"]}", Tagged.class);
+
+        assertThat(value.tags()).containsExactly("A", "B");
+        assertThat(value.name().isPresent()).isFalse();
+    }
+
+    @Test
+    void leavesAnySetterComponentsToJackson() {
+        Extensible value = mapper.readValue("{\"name\": \"x\", \"color\": \"red\"}", Extensible.class);
+
+        assertThat(value.name()).isEqualTo(NullableValue.of("x"));
+        assertThat(value.extra()).containsEntry("color", "red");
+    }
+
+    @Test
+    void bindsMissingComponentsAsUndefinedWithMetrics() {
+        InMemoryNullableValueMetrics metrics = new InMemoryNullableValueMetrics();
+        ObjectMapper instrumented = JsonMapper.builder()
+                .addModule(new NullableValueModule(metrics))
+                .build();
+
+        UserPatch patch = instrumented.readValue("{\"name\": \"John\"}", UserPatch.class);
+
+        assertThat(patch.name()).isEqualTo(NullableValue.of("John"));
+        assertThat(patch.age()).isEqualTo(NullableValue.undefined());
+        assertThat(metrics.count(UserPatch.class, "name", NullableValueMetrics.Presence.VALUE)).isEqualTo(1);
+        assertThat(metrics.count(UserPatch.class, "age", NullableValueMetrics.Presence.UNDEFINED)).isEqualTo(1);
+    }
+
+    @Test
+    void leavesInjectedComponentsToJackson() {
+        Injected value = mapper.readerFor(Injected.class)
+                .with(new InjectableValues.Std().addValue("source", "api"))
+                .readValue("{\"name\": \"x\"}");
+
+        assertThat(value).isEqualTo(new Injected(NullableValue.of("x"), "api"));
+    }
+
+    @Test
+    void leavesUnwrappedComponentsToJackson() {
+        WithAddress value = mapper.readValue("{\"name\": \"x\", \"city\": \"Oslo\"}", WithAddress.class);
+
+        assertThat(value.address()).isEqualTo(new Address("Oslo", null));
+        assertThat(value.name()).isEqualTo(NullableValue.of("x"));
+    }
+
+    @Test
+    void leavesCaseInsensitiveMatchingToJackson() {
+        ObjectMapper caseInsensitive = mapper.rebuild()
+                .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                .build();
+
+        UserPatch patch = caseInsensitive.readValue("{\"NAME\": \"John\"}", UserPatch.class);
+
+        assertThat(patch.name()).isEqualTo(NullableValue.of("John"));
+        assertThat(patch.age().isPresent()).isFalse();
+    }
+}
@@ -116,4 +116,42 @@ class NullableValueTest {
         assertThat(NullableValue.of(null).toString()).isEqualTo("NullableValue[null]");
         assertThat(NullableValue.undefined().toString()).isEqualTo("NullableValue.undefined");
     }
+
+    @Test
+    void ofReturnsSharedInstances() {
+        assertThat(NullableValue.of(null)).isSameAs(NullableValue.of(null));
+        assertThat(NullableValue.of(true)).isSameAs(NullableValue.of(Boolean.TRUE));
+        assertThat(NullableValue.of(100)).isSameAs(NullableValue.of(100));
+        assertThat(NullableValue.of("")).isSameAs(NullableValue.of(""));
+        assertThat(NullableValue.of(1000)).isEqualTo(NullableValue.of(1000));
+    }
+
+    @Test
+    void orElseGetUsesSupplierOnlyWhenUndefined() {
+        assertThat(NullableValue.<String>undefined().orElseGet(() -> "default")).isEqualTo("default");
+        assertThat(NullableValue.<String>of(null).orElseGet(() -> "default")).isNull();
+        assertThat(NullableValue.of("hello").orElseGet(() -> "default")).isEqualTo("hello");
+    }
+
+    @Test
+    void flatMapTransformsValue() {
+        NullableValue<String> value = NullableValue.of("hello");
+        assertThat(value.flatMap(v -> NullableValue.undefined()).isPresent()).isFalse();
+        assertThat(value.flatMap(v -> NullableValue.of(v.length())).get()).isEqualTo(5);
+        assertThat(NullableValue.<String>of(null).flatMap(v -> NullableValue.of(1)).get()).isNull();
+        assertThat(NullableValue.<String>undefined().flatMap(v -> NullableValue.of(1)).isPresent()).isFalse();
+    }
+
+    @Test
+    void filterKeepsMatchingValue() {
+        NullableValue<String> value = NullableValue.of("hello");
+        assertThat(value.filter(v -> v.startsWith("h"))).isSameAs(value);
+        assertThat(value.filter(String::isEmpty).isPresent()).isFalse();
+        assertThat(NullableValue.<String>of(null).filter(String::isEmpty).isPresent()).isTrue();
+    }
+
+    @Test
+    void hashCodeDistinguishesUndefinedAndNull() {
+        assertThat(NullableValue.undefined().hashCode()).isNotEqualTo(NullableValue.of(null).hashCode());
+    }
 }
@@ -0,0 +1,23 @@
+package io.github.rav316.nullablevalue;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeakInternerTest {
+
+    @Test
+    void returnsSameInstanceForSameKey() {
+        WeakInterner<Object, StringBuilder> interner = new WeakInterner<>();
+        Object first = new Object();
+        Object second = new Object();
+
+        StringBuilder a = interner.intern(first, key -> new StringBuilder());
+        StringBuilder b = interner.intern(first, key -> new StringBuilder());
+        StringBuilder c = interner.intern(second, key -> new StringBuilder());
+
+        assertThat(a).isSameAs(b);
+        assertThat(c).isNotSameAs(a);
+        assertThat(interner.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.rav316.nullablevalue.autoconfigure;
+
+import io.github.rav316.nullablevalue.NullableInt;
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueExtractor;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NullableValueWarmerTest {
+
+    private static final String PACKAGE = NullableValueWarmerTest.class.getPackageName();
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+                    NullableValueAutoConfiguration.class, NullableValueValidationAutoConfiguration.class))
+            .withBean(Validator.class, () -> Validation.buildDefaultValidatorFactory().getValidator());
+
+    public static class WarmDto {
+        private NullableValue<String> name = NullableValue.undefined();
+
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+    }
+
+    public record WarmRecord(NullableInt count) {
+    }
+
+    public static class ColdDto {
+        private String name;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+    }
+
+    @Test
+    void findsTypesWithNullableProperties() {
+        Set<Class<?>> types = NullableValueWarmer.findTypes(List.of(PACKAGE), getClass().getClassLoader());
+
+        assertThat(types).contains(WarmDto.class, WarmRecord.class).doesNotContain(ColdDto.class);
+    }
+
+    @Test
+    void warmsUpConfiguredPackagesOnStartup() {
+        runner.withPropertyValues("nullablevalue.warmup.enabled=true", "nullablevalue.warmup.packages=" + PACKAGE)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(NullableValueWarmer.class);
+                    assertThat(context.getBean(NullableValueWarmer.class).warmedTypes())
+                            .contains(WarmDto.class, WarmRecord.class)
+                            .doesNotContain(ColdDto.class);
+                });
+    }
+
+    @Test
+    void warmupIsDisabledByDefault() {
+        runner.run(context -> assertThat(context).doesNotHaveBean(NullableValueWarmer.class));
+    }
+
+    @Test
+    void registersExtractorBeanWithoutReflection() {
+        runner.run(context -> assertThat(context).hasSingleBean(NullableValueExtractor.class));
+    }
+
+    @Test
+    void registersRuntimeHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new NullableValueRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(NullableValueExtractor.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/jakarta.validation.valueextraction.ValueExtractor")).accepts(hints);
+    }
+}
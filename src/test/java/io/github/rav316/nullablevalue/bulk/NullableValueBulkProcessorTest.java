@@ -0,0 +1,138 @@
+package io.github.rav316.nullablevalue.bulk;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.validation.NullableValueValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullableValueBulkProcessorTest {
+
+    private static ValidatorFactory factory;
+    private static NullableValueValidator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = new NullableValueValidator(factory.getValidator());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    public static class Patch {
+        public long id;
+        public int sequence;
+        public NullableValue<@Size(max = 5) String> name = NullableValue.undefined();
+        public NullableValue<@Min(0) Integer> age = NullableValue.undefined();
+
+        static Patch of(long id, int sequence, String name) {
+            Patch patch = new Patch();
+            patch.id = id;
+            patch.sequence = sequence;
+            patch.name = NullableValue.of(name);
+            return patch;
+        }
+    }
+
+    @Test
+    void gathersViolationsPerIndex() {
+        List<Patch> patches = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            patches.add(Patch.of(i, 0, i % 100 == 7 ? "too long" : "ok"));
+        }
+        patches.get(500).age = NullableValue.of(-1);
+
+        try (NullableValueBulkProcessor processor = NullableValueBulkProcessor.forkJoin(4)) {
+            SortedMap<Integer, Set<ConstraintViolation<Patch>>> violations = processor.validate(validator, patches);
+
+            assertThat(violations.keySet())
+                    .containsExactlyElementsOf(IntStream.of(7, 107, 207, 307, 407, 500, 507, 607, 707, 807, 907)
+                            .boxed().toList());
+            assertThat(violations.get(7)).extracting(v -> v.getPropertyPath().toString()).containsExactly("name");
+            assertThat(violations.get(500)).extracting(v -> v.getPropertyPath().toString()).containsExactly("age");
+        }
+    }
+
+    @Test
+    void validatesStreams() {
+        try (NullableValueBulkProcessor processor = NullableValueBulkProcessor.virtualThreads(2)) {
+            assertThat(processor.validate(validator, IntStream.range(0, 10).mapToObj(i -> Patch.of(i, 0, "ok"))))
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    void preservesOrderPerKey() {
+        List<Patch> patches = new ArrayList<>();
+        for (int sequence = 0; sequence < 200; sequence++) {
+            for (long id = 0; id < 50; id++) {
+                patches.add(Patch.of(id, sequence, "n"));
+            }
+        }
+        Map<Long, List<Integer>> applied = new ConcurrentHashMap<>();
+
+        for (NullableValueBulkProcessor processor : List.of(NullableValueBulkProcessor.forkJoin(8),
+                NullableValueBulkProcessor.virtualThreads(8))) {
+            applied.clear();
+            try (processor) {
+                long count = processor.apply(patches, patch -> patch.id,
+                        patch -> applied.computeIfAbsent(patch.id, id -> new CopyOnWriteArrayList<>())
+                                .add(patch.sequence));
+
+                assertThat(count).isEqualTo(patches.size());
+            }
+            assertThat(applied).hasSize(50);
+            applied.values().forEach(sequences ->
+                    assertThat(sequences).containsExactlyElementsOf(IntStream.range(0, 200).boxed().toList()));
+        }
+    }
+
+    @Test
+    void stopsAtFirstFailure() {
+        List<Integer> applied = new CopyOnWriteArrayList<>();
+
+        try (NullableValueBulkProcessor processor = NullableValueBulkProcessor.forkJoin(4)) {
+            assertThatThrownBy(() -> processor.apply(IntStream.range(0, 100).mapToObj(i -> Patch.of(1, i, "n")),
+                    patch -> patch.id,
+                    patch -> {
+                        if (patch.sequence == 10) throw new IllegalStateException("boom");
+                        applied.add(patch.sequence);
+                    }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+        }
+        assertThat(applied).containsExactlyElementsOf(IntStream.range(0, 10).boxed().toList());
+    }
+
+    @Test
+    void runsOnCallerThreadWithParallelismOne() {
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        try (NullableValueBulkProcessor processor = NullableValueBulkProcessor.forkJoin(1)) {
+            processor.apply(List.of(Patch.of(1, 0, "a"), Patch.of(2, 0, "b")), patch -> patch.id,
+                    patch -> threads.add(Thread.currentThread()));
+        }
+        assertThat(threads).containsOnly(caller);
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.rav316.nullablevalue.bulk;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullableValueBulkReaderTest {
+
+    private NullableValueBulkReader<Patch> reader;
+
+    static class Patch {
+        private NullableValue<Integer> id = NullableValue.undefined();
+        private NullableValue<String> name = NullableValue.undefined();
+
+        public NullableValue<Integer> getId() { return id; }
+        public void setId(NullableValue<Integer> id) { this.id = id; }
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        reader = new NullableValueBulkReader<>(JsonMapper.builder()
+                .addModule(new NullableValueModule())
+                .build(), Patch.class);
+    }
+
+    @Test
+    void readsNdjson() {
+        String ndjson = """
+                {"id": 1, "name": "a"}
+                {"id": 2, "name": null}
+                {"id": 3}
+                """;
+        List<Patch> patches = reader.stream(input(ndjson)).toList();
+
+        assertThat(patches).hasSize(3);
+        assertThat(patches.get(0).getName().get()).isEqualTo("a");
+        assertThat(patches.get(1).getName()).isEqualTo(NullableValue.of(null));
+        assertThat(patches.get(2).getName().isPresent()).isFalse();
+    }
+
+    @Test
+    void readsTopLevelArray() {
+        List<Patch> patches = reader.stream(input("[{\"id\": 1}, {\"id\": 2, \"name\": \"b\"}]")).toList();
+
+        assertThat(patches).extracting(p -> p.getId().get()).containsExactly(1, 2);
+        assertThat(patches.get(1).getName().get()).isEqualTo("b");
+    }
+
+    @Test
+    void readsEmptyArray() {
+        assertThat(reader.stream(input("[]")).count()).isZero();
+    }
+
+    @Test
+    void dispatchesBoundedBatches() {
+        String ndjson = IntStream.range(0, 25)
+                .mapToObj(i -> "{\"id\": " + i + "}")
+                .collect(Collectors.joining("\n"));
+        ConcurrentLinkedQueue<Integer> ids = new ConcurrentLinkedQueue<>();
+        AtomicInteger batches = new AtomicInteger();
+
+        long count = reader.forEachBatch(input(ndjson), 10, 2, batch -> {
+            assertThat(batch.size()).isLessThanOrEqualTo(10);
+            batches.incrementAndGet();
+            batch.forEach(p -> ids.add(p.getId().get()));
+        });
+
+        assertThat(count).isEqualTo(25);
+        assertThat(batches.get()).isEqualTo(3);
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 25).boxed().toList());
+    }
+
+    @Test
+    void propagatesConsumerFailure() {
+        assertThatThrownBy(() -> reader.forEachBatch(input("{\"id\": 1}"), 10, 1, batch -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+
+    private static InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
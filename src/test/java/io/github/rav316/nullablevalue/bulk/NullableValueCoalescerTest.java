@@ -0,0 +1,191 @@
+package io.github.rav316.nullablevalue.bulk;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullableValueCoalescerTest {
+
+    public static class Patch {
+        public NullableValue<String> name = NullableValue.undefined();
+        public NullableValue<String> email = NullableValue.undefined();
+        public NullableValue<Integer> age = NullableValue.undefined();
+
+        static Patch of(String name, String email, Integer age) {
+            Patch patch = new Patch();
+            if (name != null) patch.name = NullableValue.of(name.equals("<null>") ? null : name);
+            if (email != null) patch.email = NullableValue.of(email.equals("<null>") ? null : email);
+            if (age != null) patch.age = NullableValue.of(age);
+            return patch;
+        }
+    }
+
+    private final List<Map<Long, Patch>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    void mergesPatchesPerKeyLastWriterWins() {
+        try (NullableValueCoalescer<Long, Patch> coalescer = coalescer(100, Duration.ofHours(1))) {
+            coalescer.submit(1L, Patch.of("a", "a@example.com", null));
+            coalescer.submit(1L, Patch.of("b", null, 30));
+            coalescer.submit(1L, Patch.of(null, "<null>", null));
+            coalescer.submit(2L, Patch.of("c", null, null));
+
+            assertThat(coalescer.pendingCount()).isEqualTo(2);
+            assertThat(coalescer.flush()).isEqualTo(2);
+        }
+
+        assertThat(batches).hasSize(1);
+        Patch merged = batches.getFirst().get(1L);
+        assertThat(merged.name).isEqualTo(NullableValue.of("b"));
+        assertThat(merged.email).isEqualTo(NullableValue.of(null));
+        assertThat(merged.age).isEqualTo(NullableValue.of(30));
+        Patch other = batches.getFirst().get(2L);
+        assertThat(other.email.isPresent()).isFalse();
+        assertThat(other.age.isPresent()).isFalse();
+    }
+
+    @Test
+    void doesNotRetainSubmittedInstance() {
+        Patch patch = Patch.of("a", null, null);
+        try (NullableValueCoalescer<Long, Patch> coalescer = coalescer(100, Duration.ofHours(1))) {
+            coalescer.submit(1L, patch);
+            patch.name = NullableValue.of("changed");
+        }
+
+        assertThat(batches.getFirst().get(1L).name).isEqualTo(NullableValue.of("a"));
+    }
+
+    @Test
+    void flushesWhenBatchSizeIsReached() throws Exception {
+        try (NullableValueCoalescer<Long, Patch> coalescer = coalescer(3, Duration.ofHours(1))) {
+            CompletableFuture<Void> first = coalescer.submit(1L, Patch.of("a", null, null));
+            coalescer.submit(2L, Patch.of("b", null, null));
+            coalescer.submit(3L, Patch.of("c", null, null));
+
+            first.get(5, TimeUnit.SECONDS);
+            assertThat(batches.getFirst()).containsOnlyKeys(1L, 2L, 3L);
+        }
+    }
+
+    @Test
+    void flushesAfterMaxDelay() throws Exception {
+        try (NullableValueCoalescer<Long, Patch> coalescer = coalescer(100, Duration.ofMillis(20))) {
+            coalescer.submit(1L, Patch.of("a", null, null)).get(5, TimeUnit.SECONDS);
+
+            assertThat(coalescer.pendingCount()).isZero();
+            assertThat(coalescer.writtenCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void flushesSingleKeyForReadYourWrites() {
+        try (NullableValueCoalescer<Long, Patch> coalescer = coalescer(100, Duration.ofHours(1))) {
+            coalescer.submit(1L, Patch.of("a", null, null));
+            CompletableFuture<Void> second = coalescer.submit(2L, Patch.of("b", null, null));
+
+            assertThat(coalescer.flush(2L)).isTrue();
+            assertThat(coalescer.flush(2L)).isFalse();
+            assertThat(second).isDone();
+            assertThat(batches).singleElement().satisfies(batch -> assertThat(batch).containsOnlyKeys(2L));
+            assertThat(coalescer.pendingCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void coalescesConcurrentSubmissions() throws Exception {
+        try (NullableValueCoalescer<Long, Patch> coalescer = coalescer(1000, Duration.ofHours(1))) {
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                for (int t = 0; t < 8; t++) {
+                    executor.execute(() -> {
+                        for (int i = 0; i < 1000; i++) {
+                            coalescer.submit((long) (i % 10), Patch.of(null, null, i));
+                        }
+                    });
+                }
+            }
+            coalescer.flush();
+
+            assertThat(coalescer.submittedCount()).isEqualTo(8000);
+            assertThat(coalescer.writtenCount()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    void failsFuturesWhenWriterThrows() {
+        NullableValueCoalescer<Long, Patch> coalescer = new NullableValueCoalescer<>(Patch.class, 100,
+                Duration.ofHours(1), batch -> {
+            throw new IllegalStateException("database down");
+        });
+        CompletableFuture<Void> future = coalescer.submit(1L, Patch.of("a", null, null));
+
+        assertThatThrownBy(coalescer::flush).hasMessage("database down");
+        assertThat(future).isCompletedExceptionally();
+        assertThatCode(coalescer::close).doesNotThrowAnyException();
+    }
+
+    @Test
+    void keepsFlushingPeriodicallyAfterWriterError() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        try (NullableValueCoalescer<Long, Patch> coalescer = new NullableValueCoalescer<>(Patch.class, 100,
+                Duration.ofMillis(20), batch -> {
+            if (calls.incrementAndGet() == 1) throw new AssertionError("first write fails");
+            batches.add(batch);
+        })) {
+            CompletableFuture<Void> failed = coalescer.submit(1L, Patch.of("a", null, null));
+            assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+
+            coalescer.submit(2L, Patch.of("b", null, null)).get(5, TimeUnit.SECONDS);
+            assertThat(batches).singleElement().satisfies(batch -> assertThat(batch).containsOnlyKeys(2L));
+        }
+    }
+
+    @Test
+    void completesEverySubmissionRacingClose() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            NullableValueCoalescer<Long, Patch> coalescer = coalescer(1000, Duration.ofHours(1));
+            List<CompletableFuture<Void>> futures = new CopyOnWriteArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+                for (int t = 0; t < 4; t++) {
+                    executor.execute(() -> {
+                        for (long i = 0; ; i++) {
+                            try {
+                                futures.add(coalescer.submit(i % 20, Patch.of(null, null, 1)));
+                            } catch (IllegalStateException closed) {
+                                return;
+                            }
+                        }
+                    });
+                }
+                coalescer.close();
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+            assertThat(coalescer.pendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void rejectsSubmitAfterClose() {
+        NullableValueCoalescer<Long, Patch> coalescer = coalescer(100, Duration.ofHours(1));
+        coalescer.close();
+
+        assertThatThrownBy(() -> coalescer.submit(1L, new Patch())).isInstanceOf(IllegalStateException.class);
+    }
+
+    private NullableValueCoalescer<Long, Patch> coalescer(int maxBatchSize, Duration maxDelay) {
+        return new NullableValueCoalescer<>(Patch.class, maxBatchSize, maxDelay, batches::add);
+    }
+}
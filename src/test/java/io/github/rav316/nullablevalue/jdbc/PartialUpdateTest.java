@@ -0,0 +1,120 @@
+package io.github.rav316.nullablevalue.jdbc;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.PatchTarget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartialUpdateTest {
+
+    private Connection connection;
+
+    static class UserPatch {
+        private NullableValue<String> name = NullableValue.undefined();
+        private NullableValue<String> email = NullableValue.undefined();
+        private NullableValue<Integer> age = NullableValue.undefined();
+        @PatchTarget("displayName")
+        private NullableValue<String> nickname = NullableValue.undefined();
+
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+        public NullableValue<String> getEmail() { return email; }
+        public void setEmail(NullableValue<String> email) { this.email = email; }
+        public NullableValue<Integer> getAge() { return age; }
+        public void setAge(NullableValue<Integer> age) { this.age = age; }
+        public NullableValue<String> getNickname() { return nickname; }
+        public void setNickname(NullableValue<String> nickname) { this.nickname = nickname; }
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:partial_update");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, name VARCHAR(64), "
+                    + "email VARCHAR(64), age INT, display_name VARCHAR(64))");
+            statement.execute("INSERT INTO users VALUES (1, 'John', 'john@example.com', 30, 'JJ')");
+            statement.execute("INSERT INTO users VALUES (2, 'Jane', 'jane@example.com', 25, 'JD')");
+            statement.execute("INSERT INTO users VALUES (3, 'Jack', 'jack@example.com', 40, 'JK')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void updatesOnlyPresentColumns() throws SQLException {
+        UserPatch patch = new UserPatch();
+        patch.setName(NullableValue.of("Johnny"));
+        patch.setEmail(NullableValue.of(null));
+
+        int updated = PartialUpdate.of(UserPatch.class, "users", "id").execute(connection, 1L, patch);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(row(1)).isEqualTo("Johnny|null|30|JJ");
+    }
+
+    @Test
+    void generatesSqlPerPresenceMask() {
+        PartialUpdate<UserPatch> update = PartialUpdate.of(UserPatch.class, "users", "id");
+        UserPatch patch = new UserPatch();
+        patch.setAge(NullableValue.of(31));
+        patch.setNickname(NullableValue.of("J"));
+
+        long mask = update.presenceMask(patch);
+
+        assertThat(mask).isEqualTo(0b1100L);
+        assertThat(update.sql(mask)).isEqualTo("UPDATE users SET age = ?, display_name = ? WHERE id = ?");
+        assertThat(update.sql(mask)).isSameAs(update.sql(mask));
+        assertThat(PartialUpdate.of(UserPatch.class, "users", "id")).isSameAs(update);
+    }
+
+    @Test
+    void skipsEmptyPatch() throws SQLException {
+        int updated = PartialUpdate.of(UserPatch.class, "users", "id").execute(connection, 1L, new UserPatch());
+
+        assertThat(updated).isZero();
+        assertThat(row(1)).isEqualTo("John|john@example.com|30|JJ");
+    }
+
+    @Test
+    void batchesPatchesByShape() throws SQLException {
+        UserPatch first = new UserPatch();
+        first.setAge(NullableValue.of(31));
+        UserPatch second = new UserPatch();
+        second.setName(NullableValue.of("Janet"));
+        UserPatch third = new UserPatch();
+        third.setAge(NullableValue.of(41));
+        Map<Long, UserPatch> patches = new LinkedHashMap<>();
+        patches.put(1L, first);
+        patches.put(2L, second);
+        patches.put(3L, third);
+
+        int[] counts = PartialUpdate.of(UserPatch.class, "users", "id").executeBatch(connection, patches);
+
+        assertThat(counts).containsExactly(1, 1, 1);
+        assertThat(row(1)).isEqualTo("John|john@example.com|31|JJ");
+        assertThat(row(2)).isEqualTo("Janet|jane@example.com|25|JD");
+        assertThat(row(3)).isEqualTo("Jack|jack@example.com|41|JK");
+    }
+
+    private String row(long id) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT name, email, age, display_name FROM users WHERE id = " + id)) {
+            rs.next();
+            return rs.getString(1) + "|" + rs.getString(2) + "|" + rs.getInt(3) + "|" + rs.getString(4);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.rav316.nullablevalue.metrics;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueModule;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NullableValueMetricsTest {
+
+    static class UserDto {
+        private NullableValue<String> name = NullableValue.undefined();
+        private NullableValue<Integer> age = NullableValue.undefined();
+
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+        public NullableValue<Integer> getAge() { return age; }
+        public void setAge(NullableValue<Integer> age) { this.age = age; }
+    }
+
+    static class AddressDto {
+        private NullableValue<String> city = NullableValue.undefined();
+
+        public NullableValue<String> getCity() { return city; }
+        public void setCity(NullableValue<String> city) { this.city = city; }
+    }
+
+    static class OrderDto {
+        private NullableValue<AddressDto> address = NullableValue.undefined();
+        private List<NullableValue<String>> notes;
+
+        public NullableValue<AddressDto> getAddress() { return address; }
+        public void setAddress(NullableValue<AddressDto> address) { this.address = address; }
+        public List<NullableValue<String>> getNotes() { return notes; }
+        public void setNotes(List<NullableValue<String>> notes) { this.notes = notes; }
+    }
+
+    private static ObjectMapper mapper(NullableValueMetrics metrics) {
+        return JsonMapper.builder()
+                .addModule(new NullableValueModule(metrics))
+                .build();
+    }
+
+    @Test
+    void countsPresenceStatesPerProperty() throws Exception {
+        InMemoryNullableValueMetrics metrics = new InMemoryNullableValueMetrics();
+        ObjectMapper mapper = mapper(metrics);
+
+        mapper.readValue("{\"name\": \"John\", \"age\": null}", UserDto.class);
+        mapper.readValue("{\"name\": null}", UserDto.class);
+        mapper.readValue("{}", UserDto.class);
+
+        assertThat(metrics.count(UserDto.class)).isEqualTo(3);
+        assertThat(metrics.count(UserDto.class, "name", NullableValueMetrics.Presence.VALUE)).isEqualTo(1);
+        assertThat(metrics.count(UserDto.class, "name", NullableValueMetrics.Presence.NULL)).isEqualTo(1);
+        assertThat(metrics.count(UserDto.class, "name", NullableValueMetrics.Presence.UNDEFINED)).isEqualTo(1);
+        assertThat(metrics.count(UserDto.class, "age", NullableValueMetrics.Presence.VALUE)).isZero();
+        assertThat(metrics.count(UserDto.class, "age", NullableValueMetrics.Presence.NULL)).isEqualTo(1);
+        assertThat(metrics.count(UserDto.class, "age", NullableValueMetrics.Presence.UNDEFINED)).isEqualTo(2);
+    }
+
+    @Test
+    void countsNestedDtosAndContainerElementsOnTheirOwn() throws Exception {
+        InMemoryNullableValueMetrics metrics = new InMemoryNullableValueMetrics();
+        ObjectMapper mapper = mapper(metrics);
+
+        mapper.readValue("{\"address\": {}, \"notes\": [\"a\", null, \"b\"]}", OrderDto.class);
+        mapper.readValue("{\"address\": {\"city\": \"Oslo\"}}", OrderDto.class);
+        mapper.readValue("{}", OrderDto.class);
+
+        assertThat(metrics.count(OrderDto.class, "address", NullableValueMetrics.Presence.VALUE)).isEqualTo(2);
+        assertThat(metrics.count(OrderDto.class, "address", NullableValueMetrics.Presence.UNDEFINED)).isEqualTo(1);
+        assertThat(metrics.count(AddressDto.class, "city", NullableValueMetrics.Presence.VALUE)).isEqualTo(1);
+        assertThat(metrics.count(AddressDto.class, "city", NullableValueMetrics.Presence.UNDEFINED)).isEqualTo(1);
+        assertThat(metrics.count(OrderDto.class, "notes", NullableValueMetrics.Presence.VALUE)).isZero();
+        assertThat(metrics.count(OrderDto.class, "notes", NullableValueMetrics.Presence.NULL)).isZero();
+    }
+
+    @Test
+    void recordsTimings() throws Exception {
+        InMemoryNullableValueMetrics metrics = new InMemoryNullableValueMetrics();
+        ObjectMapper mapper = mapper(metrics);
+
+        UserDto dto = mapper.readValue("{\"name\": \"John\", \"age\": 30}", UserDto.class);
+        mapper.writeValueAsString(dto);
+
+        assertThat(metrics.timing(NullableValueMetrics.Phase.DESERIALIZER_RESOLUTION).count()).isPositive();
+        assertThat(metrics.timing(NullableValueMetrics.Phase.CONTENT_DESERIALIZATION).count()).isEqualTo(2);
+        assertThat(metrics.timing(NullableValueMetrics.Phase.CONTENT_SERIALIZATION).count()).isEqualTo(2);
+
+        InMemoryNullableValueMetrics.TimingSnapshot snapshot =
+                metrics.timing(NullableValueMetrics.Phase.CONTENT_DESERIALIZATION);
+        long bucketed = 0;
+        for (long count : snapshot.log2Buckets()) {
+            bucketed += count;
+        }
+        assertThat(bucketed).isEqualTo(snapshot.count());
+    }
+
+    @Test
+    void behavesIdenticallyWithMetrics() throws Exception {
+        ObjectMapper plain = mapper(null);
+        ObjectMapper instrumented = mapper(new InMemoryNullableValueMetrics());
+        String json = "{\"name\":null,\"age\":42}";
+
+        UserDto a = plain.readValue(json, UserDto.class);
+        UserDto b = instrumented.readValue(json, UserDto.class);
+
+        assertThat(b.getName()).isEqualTo(a.getName());
+        assertThat(b.getAge()).isEqualTo(a.getAge());
+        assertThat(instrumented.writeValueAsString(b)).isEqualTo(plain.writeValueAsString(a));
+    }
+
+    @Test
+    void publishesToMicrometer() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectMapper mapper = mapper(new MicrometerNullableValueMetrics(registry));
+
+        mapper.readValue("{\"name\": \"John\"}", UserDto.class);
+        mapper.readValue("{\"age\": 5}", UserDto.class);
+
+        FunctionCounter undefinedNames = registry.get("nullablevalue.presence")
+                .tag("dto", UserDto.class.getName())
+                .tag("property", "name")
+                .tag("state", "undefined")
+                .functionCounter();
+        assertThat(undefinedNames.count()).isEqualTo(1.0);
+
+        Timer timer = registry.get("nullablevalue.timing")
+                .tag("phase", "content_deserialization")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.rav316.nullablevalue.processor;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueModule;
+import io.github.rav316.nullablevalue.PatchDto;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PatchDtoProcessorTest {
+
+    private final JsonMapper mapper = JsonMapper.builder()
+            .addModule(new NullableValueModule())
+            .build();
+
+    @PatchDto
+    interface UserPatch {
+        NullableValue<String> getName();
+        NullableValue<Integer> getAge();
+        NullableValue<List<String>> getTags();
+    }
+
+    @PatchDto
+    record Point(NullableValue<Integer> x, NullableValue<Integer> y) {
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+    @JsonSubTypes(@JsonSubTypes.Type(value = Dog.class, name = "dog"))
+    interface Animal {
+    }
+
+    record Dog(String name) implements Animal {
+    }
+
+    @PatchDto
+    interface ZooPatch {
+        NullableValue<List<Animal>> getAnimals();
+    }
+
+    @Test
+    void deserializesIntoGeneratedClass() {
+        UserPatch patch = mapper.readValue("{\"name\": null, \"tags\": [\"a\", \"b\"], \"unknown\": {\"x\": 1}}",
+                UserPatch.class);
+
+        assertThat(patch).isInstanceOf(PatchDtoProcessorTest_UserPatchImpl.class);
+        assertThat(patch.getName()).isEqualTo(NullableValue.of(null));
+        assertThat(patch.getAge().isPresent()).isFalse();
+        assertThat(patch.getTags()).isEqualTo(NullableValue.of(List.of("a", "b")));
+    }
+
+    @Test
+    void serializesOnlyPresentProperties() {
+        PatchDtoProcessorTest_UserPatchImpl patch = new PatchDtoProcessorTest_UserPatchImpl();
+        patch.setAgeRaw(42);
+        patch.setName(NullableValue.of(null));
+
+        assertThat(mapper.writeValueAsString(patch)).isEqualTo("{\"name\":null,\"age\":42}");
+    }
+
+    @Test
+    void tracksPresenceWithoutWrappers() {
+        PatchDtoProcessorTest_UserPatchImpl patch = new PatchDtoProcessorTest_UserPatchImpl();
+        patch.setNameRaw("John");
+
+        assertThat(patch.hasName()).isTrue();
+        assertThat(patch.rawName()).isEqualTo("John");
+        assertThat(patch.hasAge()).isFalse();
+
+        patch.setName(NullableValue.undefined());
+        assertThat(patch.hasName()).isFalse();
+        assertThat(patch.rawName()).isNull();
+    }
+
+    @Test
+    void supportsRecords() {
+        Point point = mapper.readValue("{\"x\": 1}", Point.class);
+
+        assertThat(point).isEqualTo(new Point(NullableValue.of(1), NullableValue.undefined()));
+        assertThat(mapper.writeValueAsString(new Point(NullableValue.undefined(), NullableValue.of(null))))
+                .isEqualTo("{\"y\":null}");
+        assertThat(PatchDtoProcessorTest_PointImpl.from(point).toRecord()).isEqualTo(point);
+    }
+
+    @Test
+    void roundTripsThroughJson() {
+        UserPatch patch = mapper.readValue("{\"age\": 7, \"tags\": null}", UserPatch.class);
+
+        assertThat(mapper.readValue(mapper.writeValueAsString(patch), UserPatch.class)).isEqualTo(patch);
+    }
+
+    @Test
+    void serializesContentWithItsDeclaredType() {
+        PatchDtoProcessorTest_ZooPatchImpl zoo = new PatchDtoProcessorTest_ZooPatchImpl();
+        zoo.setAnimalsRaw(List.of(new Dog("Rex")));
+
+        // the element type id comes from the declared List<Animal>, which the runtime class alone does not carry
+        assertThat(mapper.writeValueAsString(zoo)).isEqualTo("{\"animals\":[{\"@type\":\"dog\",\"name\":\"Rex\"}]}");
+        assertThat(mapper.readValue(mapper.writeValueAsString(zoo), ZooPatch.class)).isEqualTo(zoo);
+    }
+}
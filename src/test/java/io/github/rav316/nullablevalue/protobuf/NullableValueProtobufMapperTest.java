@@ -0,0 +1,290 @@
+package io.github.rav316.nullablevalue.protobuf;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.SourceContext;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Syntax;
+import com.google.protobuf.Type;
+import com.google.protobuf.UInt32Value;
+import com.google.protobuf.UInt64Value;
+import com.google.protobuf.WrappersProto;
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.PatchTarget;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullableValueProtobufMapperTest {
+
+    private static Descriptors.Descriptor userType;
+    private static Descriptors.Descriptor addressType;
+
+    enum Status { ACTIVE, BLOCKED }
+
+    public static class AddressPatch {
+        public NullableValue<String> city = NullableValue.undefined();
+        public NullableValue<String> zip = NullableValue.undefined();
+    }
+
+    public static class UserPatch {
+        public NullableValue<String> displayName = NullableValue.undefined();
+        public NullableValue<Integer> age = NullableValue.undefined();
+        @PatchTarget("nickname")
+        public NullableValue<String> alias = NullableValue.undefined();
+        public NullableValue<Status> status = NullableValue.undefined();
+        public NullableValue<AddressPatch> address = NullableValue.undefined();
+        public NullableValue<List<String>> tags = NullableValue.undefined();
+        public NullableValue<String> internalNote = NullableValue.undefined();
+    }
+
+    public static class SourceContextPatch {
+        public NullableValue<String> fileName = NullableValue.undefined();
+    }
+
+    // mapped onto the generated google.protobuf.Type, so the typed accessors are used instead of the descriptor
+    public static class TypePatch {
+        public NullableValue<String> name = NullableValue.undefined();
+        public NullableValue<List<String>> oneofs = NullableValue.undefined();
+        public NullableValue<SourceContextPatch> sourceContext = NullableValue.undefined();
+        public NullableValue<String> syntax = NullableValue.undefined();
+    }
+
+    public static class UnsignedPatch {
+        public NullableValue<Long> value = NullableValue.undefined();
+    }
+
+    public static class WideUnsignedPatch {
+        public NullableValue<BigInteger> value = NullableValue.undefined();
+    }
+
+    public static class InvalidPatch {
+        @PatchTarget("missing")
+        public NullableValue<String> name = NullableValue.undefined();
+    }
+
+    @BeforeAll
+    static void buildDescriptors() throws Exception {
+        FileDescriptorProto file = FileDescriptorProto.newBuilder()
+                .setName("user.proto")
+                .setPackage("test")
+                .setSyntax("proto3")
+                .addDependency("google/protobuf/wrappers.proto")
+                .addEnumType(EnumDescriptorProto.newBuilder().setName("Status")
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("ACTIVE").setNumber(0))
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("BLOCKED").setNumber(1)))
+                .addMessageType(DescriptorProto.newBuilder().setName("Address")
+                        .addField(field("city", 1, FieldDescriptorProto.Type.TYPE_STRING, null))
+                        .addField(field("zip", 2, FieldDescriptorProto.Type.TYPE_STRING, null)))
+                .addMessageType(DescriptorProto.newBuilder().setName("User")
+                        .addField(field("display_name", 1, FieldDescriptorProto.Type.TYPE_STRING, null))
+                        .addField(field("age", 2, FieldDescriptorProto.Type.TYPE_INT32, null))
+                        .addField(field("nickname", 3, FieldDescriptorProto.Type.TYPE_MESSAGE,
+                                ".google.protobuf.StringValue"))
+                        .addField(field("status", 4, FieldDescriptorProto.Type.TYPE_ENUM, ".test.Status"))
+                        .addField(field("address", 5, FieldDescriptorProto.Type.TYPE_MESSAGE, ".test.Address"))
+                        .addField(field("tags", 6, FieldDescriptorProto.Type.TYPE_STRING, null).toBuilder()
+                                .setLabel(FieldDescriptorProto.Label.LABEL_REPEATED)))
+                .build();
+        Descriptors.FileDescriptor descriptor = Descriptors.FileDescriptor.buildFrom(file,
+                new Descriptors.FileDescriptor[]{WrappersProto.getDescriptor()});
+        userType = descriptor.findMessageTypeByName("User");
+        addressType = descriptor.findMessageTypeByName("Address");
+    }
+
+    private static FieldDescriptorProto field(String name, int number, FieldDescriptorProto.Type type, String typeName) {
+        FieldDescriptorProto.Builder field = FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+        if (typeName != null) {
+            field.setTypeName(typeName);
+        }
+        return field.build();
+    }
+
+    @Test
+    void writesPresentPropertiesAndFieldMask() {
+        UserPatch patch = new UserPatch();
+        patch.displayName = NullableValue.of("John");
+        patch.alias = NullableValue.of(null);
+        patch.status = NullableValue.of(Status.BLOCKED);
+        AddressPatch address = new AddressPatch();
+        address.city = NullableValue.of("Oslo");
+        patch.address = NullableValue.of(address);
+        patch.tags = NullableValue.of(List.of("a", "b"));
+
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(userType)
+                .setField(userType.findFieldByName("nickname"), StringValue.of("old"));
+        FieldMask mask = NullableValueProtobufMapper.of(UserPatch.class, userType).toMessage(patch, builder);
+        DynamicMessage message = builder.build();
+
+        assertThat(mask.getPathsList())
+                .containsExactly("display_name", "nickname", "status", "address.city", "tags");
+        assertThat(message.getField(userType.findFieldByName("display_name"))).isEqualTo("John");
+        assertThat(message.hasField(userType.findFieldByName("nickname"))).isFalse();
+        assertThat(((Descriptors.EnumValueDescriptor) message.getField(userType.findFieldByName("status"))).getName())
+                .isEqualTo("BLOCKED");
+        DynamicMessage writtenAddress = (DynamicMessage) message.getField(userType.findFieldByName("address"));
+        assertThat(writtenAddress.getField(addressType.findFieldByName("city"))).isEqualTo("Oslo");
+        assertThat(message.getField(userType.findFieldByName("tags"))).isEqualTo(List.of("a", "b"));
+    }
+
+    @Test
+    void readsOnlyMaskedPaths() {
+        DynamicMessage message = DynamicMessage.newBuilder(userType)
+                .setField(userType.findFieldByName("display_name"), "Jane")
+                .setField(userType.findFieldByName("age"), 42)
+                .setField(userType.findFieldByName("address"), DynamicMessage.newBuilder(addressType)
+                        .setField(addressType.findFieldByName("city"), "Bergen")
+                        .setField(addressType.findFieldByName("zip"), "5003")
+                        .build())
+                .build();
+        FieldMask mask = FieldMask.newBuilder()
+                .addPaths("display_name")
+                .addPaths("nickname")
+                .addPaths("address.zip")
+                .addPaths("unmapped")
+                .build();
+
+        UserPatch patch = NullableValueProtobufMapper.of(UserPatch.class, userType).fromMessage(message, mask);
+
+        assertThat(patch.displayName).isEqualTo(NullableValue.of("Jane"));
+        assertThat(patch.alias).isEqualTo(NullableValue.of(null));
+        assertThat(patch.age.isPresent()).isFalse();
+        assertThat(patch.status.isPresent()).isFalse();
+        assertThat(patch.address.get().zip).isEqualTo(NullableValue.of("5003"));
+        assertThat(patch.address.get().city.isPresent()).isFalse();
+    }
+
+    @Test
+    void roundTripsThroughMessage() {
+        UserPatch patch = new UserPatch();
+        patch.age = NullableValue.of(7);
+        patch.alias = NullableValue.of("jj");
+        patch.address = NullableValue.of(null);
+        NullableValueProtobufMapper<UserPatch> mapper = NullableValueProtobufMapper.of(UserPatch.class, userType);
+
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(userType);
+        FieldMask mask = mapper.toMessage(patch, builder);
+        UserPatch copy = mapper.fromMessage(builder.build(), mask);
+
+        assertThat(mapper.fieldMask(patch)).isEqualTo(mask);
+        assertThat(copy.age).isEqualTo(NullableValue.of(7));
+        assertThat(copy.alias).isEqualTo(NullableValue.of("jj"));
+        assertThat(copy.address).isEqualTo(NullableValue.of(null));
+        assertThat(copy.displayName.isPresent()).isFalse();
+        assertThat(copy.tags.isPresent()).isFalse();
+    }
+
+    @Test
+    void cachesMapperPerDtoAndMessageType() {
+        assertThat(NullableValueProtobufMapper.of(UserPatch.class, userType))
+                .isSameAs(NullableValueProtobufMapper.of(UserPatch.class, userType));
+    }
+
+    @Test
+    void rejectsUnknownPatchTarget() {
+        assertThatThrownBy(() -> NullableValueProtobufMapper.of(InvalidPatch.class, userType))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("missing");
+    }
+
+    @Test
+    void rejectsMessageOfOtherType() {
+        assertThatThrownBy(() -> NullableValueProtobufMapper.of(UserPatch.class, userType)
+                .toMessage(new UserPatch(), DynamicMessage.newBuilder(addressType)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void writesAndReadsGeneratedMessages() {
+        TypePatch patch = new TypePatch();
+        patch.name = NullableValue.of("User");
+        patch.oneofs = NullableValue.of(List.of("kind"));
+        SourceContextPatch sourceContext = new SourceContextPatch();
+        sourceContext.fileName = NullableValue.of("user.proto");
+        patch.sourceContext = NullableValue.of(sourceContext);
+        patch.syntax = NullableValue.of("SYNTAX_PROTO3");
+        NullableValueProtobufMapper<TypePatch> mapper = NullableValueProtobufMapper.of(TypePatch.class,
+                Type.getDescriptor());
+
+        Type.Builder builder = Type.newBuilder().setName("Old").addOneofs("old");
+        FieldMask mask = mapper.toMessage(patch, builder);
+        TypePatch copy = mapper.fromMessage(builder, mask);
+
+        assertThat(mask.getPathsList()).containsExactly("name", "oneofs", "source_context.file_name", "syntax");
+        assertThat(builder.build()).isEqualTo(Type.newBuilder()
+                .setName("User")
+                .addOneofs("kind")
+                .setSourceContext(SourceContext.newBuilder().setFileName("user.proto"))
+                .setSyntax(Syntax.SYNTAX_PROTO3)
+                .build());
+        assertThat(copy.name).isEqualTo(NullableValue.of("User"));
+        assertThat(copy.oneofs).isEqualTo(NullableValue.of(List.of("kind")));
+        assertThat(copy.sourceContext.get().fileName).isEqualTo(NullableValue.of("user.proto"));
+        assertThat(copy.syntax).isEqualTo(NullableValue.of("SYNTAX_PROTO3"));
+    }
+
+    @Test
+    void clearsGeneratedMessageFields() {
+        TypePatch patch = new TypePatch();
+        patch.sourceContext = NullableValue.of(null);
+        Type.Builder builder = Type.newBuilder().setSourceContext(SourceContext.newBuilder().setFileName("a.proto"));
+
+        NullableValueProtobufMapper.of(TypePatch.class, Type.getDescriptor()).toMessage(patch, builder);
+
+        assertThat(builder.hasSourceContext()).isFalse();
+    }
+
+    @Test
+    void mapsUnsignedValuesAboveTheSignedRange() {
+        UnsignedPatch narrow = new UnsignedPatch();
+        narrow.value = NullableValue.of(4_000_000_000L);
+        NullableValueProtobufMapper<UnsignedPatch> narrowMapper = NullableValueProtobufMapper.of(UnsignedPatch.class,
+                UInt32Value.getDescriptor());
+        UInt32Value.Builder narrowBuilder = UInt32Value.newBuilder();
+        FieldMask narrowMask = narrowMapper.toMessage(narrow, narrowBuilder);
+
+        assertThat(Integer.toUnsignedLong(narrowBuilder.getValue())).isEqualTo(4_000_000_000L);
+        assertThat(narrowMapper.fromMessage(narrowBuilder.build(), narrowMask).value)
+                .isEqualTo(NullableValue.of(4_000_000_000L));
+
+        WideUnsignedPatch wide = new WideUnsignedPatch();
+        BigInteger max = BigInteger.TWO.pow(64).subtract(BigInteger.ONE);
+        wide.value = NullableValue.of(max);
+        NullableValueProtobufMapper<WideUnsignedPatch> wideMapper = NullableValueProtobufMapper.of(
+                WideUnsignedPatch.class, UInt64Value.getDescriptor());
+        UInt64Value.Builder wideBuilder = UInt64Value.newBuilder();
+        FieldMask wideMask = wideMapper.toMessage(wide, wideBuilder);
+
+        assertThat(wideBuilder.getValue()).isEqualTo(-1L);
+        assertThat(wideMapper.fromMessage(wideBuilder.build(), wideMask).value).isEqualTo(NullableValue.of(max));
+    }
+
+    @Test
+    void rejectsUnsignedValuesThatDoNotFit() {
+        assertThatThrownBy(() -> NullableValueProtobufMapper.of(UnsignedPatch.class, UInt64Value.getDescriptor()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("UINT64");
+
+        UnsignedPatch tooLarge = new UnsignedPatch();
+        tooLarge.value = NullableValue.of(1L << 32);
+        assertThatThrownBy(() -> NullableValueProtobufMapper.of(UnsignedPatch.class, UInt32Value.getDescriptor())
+                .toMessage(tooLarge, UInt32Value.newBuilder()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("out of range");
+    }
+}
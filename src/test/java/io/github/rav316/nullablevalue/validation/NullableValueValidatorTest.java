@@ -0,0 +1,153 @@
+package io.github.rav316.nullablevalue.validation;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NullableValueValidatorTest {
+
+    private static ValidatorFactory factory;
+    private static Validator standard;
+    private static NullableValueValidator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        standard = factory.getValidator();
+        validator = new NullableValueValidator(standard);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    static class PatchDto {
+        @NotNull
+        private String id = "1";
+        @Size(max = 5)
+        private NullableValue<String> name = NullableValue.undefined();
+        @Min(18)
+        private NullableValue<Integer> age = NullableValue.undefined();
+        @Size(min = 3)
+        private NullableValue<String> email = NullableValue.undefined();
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+        public NullableValue<Integer> getAge() { return age; }
+        public void setAge(NullableValue<Integer> age) { this.age = age; }
+        public NullableValue<String> getEmail() { return email; }
+        public void setEmail(NullableValue<String> email) { this.email = email; }
+    }
+
+    static class GetterConstrainedDto {
+        @Size(max = 5)
+        private NullableValue<String> name = NullableValue.undefined();
+
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+
+        @AssertTrue
+        public boolean isConsistent() { return false; }
+    }
+
+    static class CascadingDto {
+        @Valid
+        private PatchDto nested = new PatchDto();
+        @Size(max = 5)
+        private NullableValue<String> name = NullableValue.undefined();
+
+        public PatchDto getNested() { return nested; }
+        public void setNested(PatchDto nested) { this.nested = nested; }
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+    }
+
+    private static Set<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ":" + v.getConstraintDescriptor().getAnnotation().annotationType()
+                        .getSimpleName())
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    void reportsSameViolationsAsStandardValidation() {
+        PatchDto dto = new PatchDto();
+        dto.setId(null);
+        dto.setName(NullableValue.of("too long name"));
+
+        assertThat(validator.usesFastPath(PatchDto.class)).isTrue();
+        assertThat(describe(validator.validate(dto)))
+                .isEqualTo(describe(standard.validate(dto)))
+                .containsExactlyInAnyOrder("id:NotNull", "name:Size");
+    }
+
+    @Test
+    void skipsUndefinedProperties() {
+        assertThat(validator.validate(new PatchDto())).isEmpty();
+
+        PatchDto dto = new PatchDto();
+        dto.setAge(NullableValue.of(10));
+        assertThat(describe(validator.validate(dto))).containsExactly("age:Min");
+    }
+
+    @Test
+    void fallsBackForDensePayloads() {
+        PatchDto dto = new PatchDto();
+        dto.setName(NullableValue.of("ok"));
+        dto.setAge(NullableValue.of(10));
+        dto.setEmail(NullableValue.of("x"));
+
+        assertThat(describe(validator.validate(dto)))
+                .isEqualTo(describe(standard.validate(dto)))
+                .containsExactlyInAnyOrder("age:Min", "email:Size");
+    }
+
+    @Test
+    void alwaysValidatesOrdinaryProperties() {
+        assertThat(validator.usesFastPath(GetterConstrainedDto.class)).isTrue();
+        assertThat(describe(validator.validate(new GetterConstrainedDto()))).containsExactly("consistent:AssertTrue");
+    }
+
+    @Test
+    void fallsBackForCascadedConstraints() {
+        assertThat(validator.usesFastPath(CascadingDto.class)).isFalse();
+
+        CascadingDto dto = new CascadingDto();
+        dto.getNested().setId(null);
+        assertThat(describe(validator.validate(dto))).containsExactly("nested.id:NotNull");
+    }
+
+    @Test
+    void worksAsSpringValidator() {
+        SpringValidatorAdapter adapter = new SpringValidatorAdapter(validator);
+        PatchDto dto = new PatchDto();
+        dto.setAge(NullableValue.of(10));
+        Errors errors = new BeanPropertyBindingResult(dto, "dto");
+
+        adapter.validate(dto, errors);
+
+        assertThat(errors.getFieldErrorCount()).isEqualTo(1);
+        assertThat(errors.getFieldError("age")).isNotNull();
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.rav316.nullablevalue.web;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = BulkRequestBodyIntegrationTest.TestApp.class,
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK
+)
+@AutoConfigureMockMvc
+class BulkRequestBodyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpringBootApplication
+    @Import(TestController.class)
+    static class TestApp {
+    }
+
+    @RestController
+    static class TestController {
+
+        @PostMapping("/bulk")
+        public Map<String, Long> bulk(@BulkRequestBody Stream<TestPatch> patches) {
+            long[] counts = new long[2];
+            patches.forEach(patch -> {
+                counts[0]++;
+                if (patch.getName().isPresent() && patch.getName().get() == null) counts[1]++;
+            });
+            return Map.of("records", counts[0], "cleared", counts[1]);
+        }
+    }
+
+    static class TestPatch {
+        private NullableValue<String> name = NullableValue.undefined();
+
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+    }
+
+    @Test
+    void streamsNdjsonBody() throws Exception {
+        mockMvc.perform(post("/bulk")
+                        .contentType("application/x-ndjson")
+                        .content("""
+                                {"name": "a"}
+                                {"name": null}
+                                {}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records").value(3))
+                .andExpect(jsonPath("$.cleared").value(1));
+    }
+
+    @Test
+    void streamsJsonArrayBody() throws Exception {
+        mockMvc.perform(post("/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": null}, {\"name\": null}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records").value(2))
+                .andExpect(jsonPath("$.cleared").value(2));
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.rav316.nullablevalue.web;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.autoconfigure.NullableValueAutoConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.http.codec.CodecCustomizer;
+import org.springframework.boot.http.codec.autoconfigure.CodecsAutoConfiguration;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.JacksonJsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NullableValueWebFluxTest {
+
+    private final ReactiveWebApplicationContextRunner contextRunner = new ReactiveWebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(NullableValueAutoConfiguration.class,
+                    JacksonAutoConfiguration.class, CodecsAutoConfiguration.class));
+
+    static class TestPatch {
+        private NullableValue<String> name = NullableValue.undefined();
+        private NullableValue<Integer> age = NullableValue.undefined();
+
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+        public NullableValue<Integer> getAge() { return age; }
+        public void setAge(NullableValue<Integer> age) { this.age = age; }
+    }
+
+    // the module bean reaches Boot's JsonMapper, and Boot's codec customizers hand that mapper to WebFlux
+    @Test
+    void decodesFluxIncrementallyFromChunkedBody() {
+        contextRunner.run(context -> {
+            ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+            context.getBeanProvider(CodecCustomizer.class).orderedStream()
+                    .forEach(customizer -> customizer.customize(configurer));
+            Decoder<?> decoder = configurer.getReaders().stream()
+                    .filter(DecoderHttpMessageReader.class::isInstance)
+                    .map(reader -> ((DecoderHttpMessageReader<?>) reader).getDecoder())
+                    .filter(JacksonJsonDecoder.class::isInstance)
+                    .findFirst()
+                    .orElseThrow();
+
+            byte[] body = """
+                    [{"name": "John", "age": 30}, {"name": null}, {"age": 5}]
+                    """.getBytes(StandardCharsets.UTF_8);
+            List<DataBuffer> chunks = new ArrayList<>();
+            for (int i = 0; i < body.length; i += 7) {
+                byte[] chunk = new byte[Math.min(7, body.length - i)];
+                System.arraycopy(body, i, chunk, 0, chunk.length);
+                chunks.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+            }
+
+            List<?> patches = decoder.decode(Flux.fromIterable(chunks), ResolvableType.forClass(TestPatch.class),
+                    MediaType.APPLICATION_JSON, Map.of()).collectList().block();
+
+            assertThat(patches).hasSize(3);
+            TestPatch first = (TestPatch) patches.get(0);
+            TestPatch second = (TestPatch) patches.get(1);
+            TestPatch third = (TestPatch) patches.get(2);
+            assertThat(first.getName().get()).isEqualTo("John");
+            assertThat(first.getAge().get()).isEqualTo(30);
+            assertThat(second.getName()).isEqualTo(NullableValue.of(null));
+            assertThat(second.getAge().isPresent()).isFalse();
+            assertThat(third.getName().isPresent()).isFalse();
+            assertThat(third.getAge().get()).isEqualTo(5);
+        });
+    }
+}
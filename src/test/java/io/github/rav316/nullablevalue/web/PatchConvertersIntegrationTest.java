@@ -0,0 +1,126 @@
+package io.github.rav316.nullablevalue.web;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = PatchConvertersIntegrationTest.TestApp.class,
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK
+)
+@AutoConfigureMockMvc
+class PatchConvertersIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpringBootApplication
+    @Import(TestController.class)
+    static class TestApp {
+    }
+
+    @RestController
+    static class TestController {
+
+        @PatchMapping("/users/1")
+        public Map<String, String> patch(@RequestBody UserPatch patch) {
+            Map<String, String> state = new LinkedHashMap<>();
+            state.put("name", describe(patch.getName()));
+            state.put("email", describe(patch.getEmail()));
+            return state;
+        }
+
+        @PatchMapping("/raw")
+        public JsonNode raw(@RequestBody JsonNode body) {
+            return body;
+        }
+
+        private static String describe(NullableValue<String> value) {
+            if (!value.isPresent()) return "undefined";
+            return value.get() == null ? "null" : value.get();
+        }
+    }
+
+    public static class UserPatch {
+        private NullableValue<String> name = NullableValue.undefined();
+        private NullableValue<String> email = NullableValue.undefined();
+
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+        public NullableValue<String> getEmail() { return email; }
+        public void setEmail(NullableValue<String> email) { this.email = email; }
+    }
+
+    @Test
+    void readsMergePatch() throws Exception {
+        mockMvc.perform(patch("/users/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"email\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("undefined"))
+                .andExpect(jsonPath("$.email").value("null"));
+    }
+
+    @Test
+    void readsJsonPatch() throws Exception {
+        mockMvc.perform(patch("/users/1")
+                        .contentType("application/json-patch+json")
+                        .content("""
+                                [
+                                  {"op": "replace", "path": "/name", "value": "John"},
+                                  {"op": "remove", "path": "/email"}
+                                ]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("John"))
+                .andExpect(jsonPath("$.email").value("null"));
+    }
+
+    @Test
+    void rejectsUnsupportedJsonPatchOperations() throws Exception {
+        mockMvc.perform(patch("/users/1")
+                        .contentType("application/json-patch+json")
+                        .content("[{\"op\": \"test\", \"path\": \"/name\", \"value\": \"John\"}]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void leavesOtherTargetsToJackson() throws Exception {
+        mockMvc.perform(patch("/raw")
+                        .contentType("application/json-patch+json")
+                        .content("[{\"op\": \"remove\", \"path\": \"/name\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].op").value("remove"));
+    }
+
+    record RecordPatch(NullableValue<String> name) {
+    }
+
+    @Test
+    void readsOnlyMutableDtosAndNeverWrites() {
+        JsonPatchHttpMessageConverter converter = new JsonPatchHttpMessageConverter(JsonMapper.builder().build());
+
+        assertThat(converter.canRead(UserPatch.class, JsonPatchHttpMessageConverter.APPLICATION_JSON_PATCH)).isTrue();
+        assertThat(converter.canRead(RecordPatch.class, JsonPatchHttpMessageConverter.APPLICATION_JSON_PATCH)).isFalse();
+        assertThat(converter.canWrite(UserPatch.class, JsonPatchHttpMessageConverter.APPLICATION_JSON_PATCH)).isFalse();
+        assertThat(converter.canWrite(UserPatch.class, null)).isFalse();
+    }
+}
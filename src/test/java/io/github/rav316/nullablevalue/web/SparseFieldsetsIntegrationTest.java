@@ -0,0 +1,133 @@
+package io.github.rav316.nullablevalue.web;
+
+import io.github.rav316.nullablevalue.NullableValue;
+import io.github.rav316.nullablevalue.NullableValueProjection;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = SparseFieldsetsIntegrationTest.TestApp.class,
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = "nullablevalue.projection.enabled=true"
+)
+@AutoConfigureMockMvc
+class SparseFieldsetsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpringBootApplication
+    @Import(TestController.class)
+    static class TestApp {
+    }
+
+    @RestController
+    static class TestController {
+
+        static final UserView SHARED = new UserView(3L, "Ada", "ada@example.com", "London");
+
+        @GetMapping("/shared")
+        public UserView shared() {
+            return SHARED;
+        }
+
+        @GetMapping("/user")
+        public UserView user() {
+            return new UserView(1L, "John", "john@example.com", null);
+        }
+
+        @GetMapping("/users")
+        public List<UserView> users() {
+            return List.of(new UserView(1L, "John", "john@example.com", null),
+                    new UserView(2L, "Jane", "jane@example.com", "Oslo"));
+        }
+    }
+
+    public static class UserView {
+        private final Long id;
+        private NullableValue<String> name;
+        private NullableValue<String> email;
+        private NullableValue<String> city;
+
+        UserView(Long id, String name, String email, String city) {
+            this.id = id;
+            this.name = NullableValue.of(name);
+            this.email = NullableValue.of(email);
+            this.city = NullableValue.of(city);
+        }
+
+        public Long getId() { return id; }
+        public NullableValue<String> getName() { return name; }
+        public void setName(NullableValue<String> name) { this.name = name; }
+        public NullableValue<String> getEmail() { return email; }
+        public void setEmail(NullableValue<String> email) { this.email = email; }
+        public NullableValue<String> getCity() { return city; }
+        public void setCity(NullableValue<String> city) { this.city = city; }
+    }
+
+    @Test
+    void writesAllPropertiesWithoutFieldsParameter() throws Exception {
+        mockMvc.perform(get("/user"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("John"))
+                .andExpect(jsonPath("$.email").value("john@example.com"))
+                .andExpect(jsonPath("$.city").isEmpty());
+    }
+
+    @Test
+    void writesOnlyRequestedProperties() throws Exception {
+        mockMvc.perform(get("/user").param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.name").value("John"))
+                .andExpect(jsonPath("$.email").doesNotExist())
+                .andExpect(jsonPath("$.city").doesNotExist());
+    }
+
+    @Test
+    void projectsCollectionElements() throws Exception {
+        mockMvc.perform(get("/users").param("fields", "city"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").doesNotExist())
+                .andExpect(jsonPath("$[1].city").value("Oslo"));
+    }
+
+    @Test
+    void leavesReturnedDtoUnchanged() throws Exception {
+        mockMvc.perform(get("/shared").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Ada"))
+                .andExpect(jsonPath("$.email").doesNotExist());
+
+        assertThat(TestController.SHARED.getEmail()).isEqualTo(NullableValue.of("ada@example.com"));
+        mockMvc.perform(get("/shared"))
+                .andExpect(jsonPath("$.email").value("ada@example.com"))
+                .andExpect(jsonPath("$.city").value("London"));
+    }
+
+    @Test
+    void cachesPlanPerFieldList() {
+        NullableValueProjection projection = NullableValueProjection.of(UserView.class, "name, email,unknown");
+
+        assertThat(NullableValueProjection.of(UserView.class, "name, email,unknown")).isSameAs(projection);
+        assertThat(projection.includedProperties()).containsExactlyInAnyOrder("name", "email");
+        assertThat(projection.includes("city")).isFalse();
+    }
+}